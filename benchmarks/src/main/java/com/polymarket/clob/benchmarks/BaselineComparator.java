@@ -0,0 +1,106 @@
+package com.polymarket.clob.benchmarks;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONArray;
+import com.alibaba.fastjson2.JSONObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON report against the committed baseline and exits with status 1 if any
+ * benchmark regressed by more than the threshold.
+ *
+ * <p>Throughput regresses when it drops; average and sampled time and the normalized
+ * allocation rate ({@code gc.alloc.rate.norm}, bytes per operation) regress when they grow.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.polymarket.clob.benchmarks.BaselineComparator \
+ *     baseline/jmh-baseline.json target/jmh-result.json [threshold-percent]
+ * </pre>
+ */
+public final class BaselineComparator {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <result.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, JSONObject> baseline = load(Path.of(args[0]));
+        Map<String, JSONObject> current = load(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JSONObject> entry : current.entrySet()) {
+            JSONObject before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s new%n", entry.getKey());
+                continue;
+            }
+            JSONObject after = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(after.getString("mode"));
+            regressions += compare(entry.getKey(), "score",
+                    before.getJSONObject("primaryMetric"), after.getJSONObject("primaryMetric"), higherIsBetter, threshold);
+
+            JSONObject beforeAlloc = secondary(before, ALLOCATION_METRIC);
+            JSONObject afterAlloc = secondary(after, ALLOCATION_METRIC);
+            if (beforeAlloc != null && afterAlloc != null) {
+                regressions += compare(entry.getKey(), "B/op", beforeAlloc, afterAlloc, false, threshold);
+            }
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-90s missing%n", missing);
+            }
+        }
+
+        System.out.printf("%d regression(s) above %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    private static int compare(String key, String label, JSONObject before, JSONObject after,
+                               boolean higherIsBetter, double threshold) {
+        double old = before.getDoubleValue("score");
+        double now = after.getDoubleValue("score");
+        double change = old == 0 ? 0 : (now - old) / old * 100;
+        double worse = higherIsBetter ? -change : change;
+        boolean regressed = worse > threshold;
+        System.out.printf("%-90s %-6s %14.3f -> %14.3f %s %+7.1f%%%s%n", key, label, old, now,
+                after.getString("scoreUnit"), change, regressed ? "  REGRESSION" : "");
+        return regressed ? 1 : 0;
+    }
+
+    private static JSONObject secondary(JSONObject result, String metric) {
+        JSONObject metrics = result.getJSONObject("secondaryMetrics");
+        return metrics != null ? metrics.getJSONObject(metric) : null;
+    }
+
+    /**
+     * Index results by benchmark, mode and parameters
+     */
+    private static Map<String, JSONObject> load(Path path) throws IOException {
+        JSONArray results = JSON.parseArray(Files.readString(path));
+        Map<String, JSONObject> byKey = new LinkedHashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            JSONObject result = results.getJSONObject(i);
+            StringBuilder key = new StringBuilder(result.getString("benchmark"))
+                    .append(" [").append(result.getString("mode")).append(']');
+            JSONObject params = result.getJSONObject("params");
+            if (params != null) {
+                new TreeMap<>(params).forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            }
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+}
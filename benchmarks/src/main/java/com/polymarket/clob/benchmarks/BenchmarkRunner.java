@@ -0,0 +1,42 @@
+package com.polymarket.clob.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks in throughput and sampled time modes with the GC profiler and writes a
+ * JSON report for {@link BaselineComparator}. The benchmarks themselves only declare sampled
+ * time, so each is listed once.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar [include-regex] [result-file]
+ * </pre>
+ *
+ * Defaults to every benchmark and {@code target/jmh-result.json}. For other JMH options, run
+ * {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main} directly.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com\\.polymarket\\.clob\\..*Benchmark.*";
+        String result = args.length > 1 ? args[1] : "target/jmh-result.json";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .mode(Mode.Throughput)
+                .mode(Mode.SampleTime)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build();
+        new Runner(options).run();
+    }
+}
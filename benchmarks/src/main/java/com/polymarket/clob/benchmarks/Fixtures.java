@@ -0,0 +1,67 @@
+package com.polymarket.clob.benchmarks;
+
+import com.alibaba.fastjson2.JSON;
+import com.polymarket.clob.model.OrderArgs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the benchmark fixtures from the classpath.
+ *
+ * <ul>
+ *   <li>{@code market-frames.jsonl} - market channel frames (book, price_change, last_trade_price,
+ *   best_bid_ask, including a batched array frame), one per line</li>
+ *   <li>{@code user-frames.jsonl} - user channel order and trade frames, one per line</li>
+ *   <li>{@code book-response.json} - a REST /book response body</li>
+ *   <li>{@code orders.json} - a 50-level two-token quote ladder of order arguments</li>
+ * </ul>
+ */
+public final class Fixtures {
+
+    private static final String ROOT = "/fixtures/";
+
+    private Fixtures() {
+    }
+
+    public static List<String> marketFrames() {
+        return lines("market-frames.jsonl");
+    }
+
+    public static List<String> userFrames() {
+        return lines("user-frames.jsonl");
+    }
+
+    public static byte[] bookResponse() {
+        return bytes("book-response.json");
+    }
+
+    public static List<OrderArgs> orders() {
+        return JSON.parseArray(new String(bytes("orders.json"), StandardCharsets.UTF_8), OrderArgs.class);
+    }
+
+    private static List<String> lines(String name) {
+        List<String> lines = new ArrayList<>();
+        for (String line : new String(bytes(name), StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static byte[] bytes(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream(ROOT + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
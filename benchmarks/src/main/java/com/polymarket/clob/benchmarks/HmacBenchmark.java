@@ -0,0 +1,57 @@
+package com.polymarket.clob.benchmarks;
+
+import com.polymarket.clob.model.ApiCreds;
+import com.polymarket.clob.signing.HmacSignature;
+import com.polymarket.clob.signing.HmacSigner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Level 2 HMAC signing of a post order request body, per call and with a reusable signer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HmacBenchmark {
+
+    private static final ApiCreds CREDS = new ApiCreds("key", "c2VjcmV0LXNlY3JldC1zZWNyZXQtc2VjcmV0LXNlY3JldA==", "pass");
+    private static final String BODY = "{\"order\":{\"salt\":\"46312718929847261540437493547498519283479817591638273\","
+            + "\"maker\":\"0x2e7Bd8f5D8e2B3a2Ad0C1C6b3B5E8f1d7C4a9B0e\",\"signer\":\"0x2e7Bd8f5D8e2B3a2Ad0C1C6b3B5E8f1d7C4a9B0e\","
+            + "\"taker\":\"0x0000000000000000000000000000000000000000\","
+            + "\"tokenId\":\"65818619657568813474341868652308942079804919287380422192892211131408793125422\","
+            + "\"makerAmount\":\"5000000\",\"takerAmount\":\"10000000\",\"expiration\":\"0\",\"nonce\":\"0\","
+            + "\"feeRateBps\":\"0\",\"side\":\"BUY\",\"signatureType\":0,\"signature\":\"0x\"},"
+            + "\"owner\":\"key\",\"orderType\":\"GTC\"}";
+
+    private HmacSigner signer;
+    private long timestamp;
+
+    @Setup
+    public void setUp() {
+        signer = new HmacSigner(CREDS);
+        timestamp = System.currentTimeMillis() / 1000;
+    }
+
+    @Benchmark
+    public String buildHmacSignature() {
+        return HmacSignature.buildHmacSignature(CREDS.getApiSecret(), timestamp, "POST", "/order", BODY);
+    }
+
+    @Benchmark
+    public String hmacSigner() {
+        return signer.sign(timestamp, "POST", "/order", BODY);
+    }
+}
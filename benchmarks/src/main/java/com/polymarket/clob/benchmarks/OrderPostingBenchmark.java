@@ -0,0 +1,108 @@
+package com.polymarket.clob.benchmarks;
+
+import com.polymarket.clob.ClobClient;
+import com.polymarket.clob.Endpoints;
+import com.polymarket.clob.model.ApiCreds;
+import com.polymarket.clob.model.CreateOrderOptions;
+import com.polymarket.clob.model.OrderArgs;
+import com.polymarket.clob.model.OrderResponse;
+import com.polymarket.clob.model.PostOrdersArgs;
+import com.polymarket.clob.model.SignedOrder;
+import com.polymarket.clob.signing.OrderBuilder;
+import com.polymarket.clob.signing.Signer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posting signed orders through {@link ClobClient#postOrder} and {@link ClobClient#postOrders}
+ * against a loopback server: body serialization, Level 2 headers and the HTTP round trip,
+ * for one order and a 50-order batch
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// without TCP_NODELAY the loopback server's responses stall on delayed ACKs
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class OrderPostingBenchmark {
+
+    private static final String PRIVATE_KEY = "0x1234567890abcdef1234567890abcdef1234567890abcdef1234567890abcdef";
+    private static final ApiCreds CREDS = new ApiCreds("key", "c2VjcmV0LXNlY3JldC1zZWNyZXQtc2VjcmV0LXNlY3JldA==", "pass");
+    private static final byte[] ORDER_RESPONSE = "{\"success\":true,\"orderID\":\"0x1\",\"status\":\"live\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private ClobClient client;
+    private SignedOrder order;
+    private List<PostOrdersArgs> ladder;
+    private byte[] ladderResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        OrderBuilder builder = new OrderBuilder(new Signer(PRIVATE_KEY, 137));
+        CreateOrderOptions options = CreateOrderOptions.builder().tickSize("0.01").build();
+        ladder = new ArrayList<>();
+        for (OrderArgs args : Fixtures.orders()) {
+            ladder.add(PostOrdersArgs.builder().order(builder.createOrder(args, options)).build());
+        }
+        order = ladder.get(0).getOrder();
+
+        StringBuilder responses = new StringBuilder("[");
+        for (int i = 0; i < ladder.size(); i++) {
+            responses.append(i == 0 ? "" : ",").append(new String(ORDER_RESPONSE, StandardCharsets.UTF_8));
+        }
+        ladderResponse = responses.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(Endpoints.POST_ORDER, exchange -> respond(exchange, ORDER_RESPONSE));
+        server.createContext(Endpoints.POST_ORDERS, exchange -> respond(exchange, ladderResponse));
+        server.start();
+        client = new ClobClient("http://127.0.0.1:" + server.getAddress().getPort(), 137, PRIVATE_KEY, CREDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try (InputStream is = exchange.getRequestBody()) {
+            is.readAllBytes();
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    @Benchmark
+    public OrderResponse postOrder() {
+        return client.postOrder(order);
+    }
+
+    @Benchmark
+    public List<OrderResponse> postOrders() {
+        return client.postOrders(ladder);
+    }
+}
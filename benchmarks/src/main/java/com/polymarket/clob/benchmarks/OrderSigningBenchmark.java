@@ -0,0 +1,66 @@
+package com.polymarket.clob.benchmarks;
+
+import com.polymarket.clob.model.CreateOrderOptions;
+import com.polymarket.clob.model.OrderArgs;
+import com.polymarket.clob.model.SignedOrder;
+import com.polymarket.clob.signing.OrderBuilder;
+import com.polymarket.clob.signing.OrderHasher;
+import com.polymarket.clob.signing.Signer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EIP-712 hashing and ECDSA signing of orders through {@link OrderBuilder#createOrder}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderSigningBenchmark {
+
+    private static final String PRIVATE_KEY = "0x1234567890abcdef1234567890abcdef1234567890abcdef1234567890abcdef";
+
+    private OrderBuilder builder;
+    private List<OrderArgs> orders;
+    private CreateOrderOptions options;
+    private SignedOrder signed;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Signer signer = new Signer(PRIVATE_KEY, 137);
+        builder = new OrderBuilder(signer);
+        orders = Fixtures.orders();
+        options = CreateOrderOptions.builder().tickSize("0.01").negRisk(false).build();
+        signed = builder.createOrder(orders.get(0), options);
+    }
+
+    private OrderArgs nextOrder() {
+        OrderArgs order = orders.get(next);
+        next = next + 1 == orders.size() ? 0 : next + 1;
+        return order;
+    }
+
+    @Benchmark
+    public SignedOrder createOrder() {
+        return builder.createOrder(nextOrder(), options);
+    }
+
+    @Benchmark
+    public byte[] hashOrder() {
+        return OrderHasher.hash(signed, 137, false);
+    }
+}
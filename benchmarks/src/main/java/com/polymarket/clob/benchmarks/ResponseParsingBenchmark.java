@@ -0,0 +1,60 @@
+package com.polymarket.clob.benchmarks;
+
+import com.alibaba.fastjson2.JSON;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.websocket.WebSocketMessageDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a REST book response the way HttpClient decodes it, and of raw market frames
+ * through {@link WebSocketMessageDecoder} without listener dispatch
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseParsingBenchmark {
+
+    private byte[] bookResponse;
+    private List<byte[]> frames;
+    private WebSocketMessageDecoder decoder;
+    private int next;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        bookResponse = Fixtures.bookResponse();
+        frames = Fixtures.marketFrames().stream()
+                .map(frame -> frame.getBytes(StandardCharsets.UTF_8))
+                .toList();
+        decoder = new WebSocketMessageDecoder((eventType, rawEventType, event) -> blackhole.consume(event));
+    }
+
+    @Benchmark
+    public BookEvent decodeBookResponse() {
+        return JSON.parseObject(new ByteArrayInputStream(bookResponse), StandardCharsets.UTF_8, BookEvent.class);
+    }
+
+    @Benchmark
+    public void decodeFrame() {
+        byte[] frame = frames.get(next);
+        next = next + 1 == frames.size() ? 0 : next + 1;
+        decoder.decode(frame);
+    }
+}
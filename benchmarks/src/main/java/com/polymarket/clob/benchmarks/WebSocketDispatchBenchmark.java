@@ -0,0 +1,110 @@
+package com.polymarket.clob.benchmarks;
+
+import com.polymarket.clob.model.BestBidAskEvent;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.OrderEvent;
+import com.polymarket.clob.model.PriceChangeEvent;
+import com.polymarket.clob.model.TradeEvent;
+import com.polymarket.clob.websocket.TypedWebSocketListener;
+import com.polymarket.clob.websocket.WebSocketClobClient;
+import com.polymarket.clob.websocket.WebSocketListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding and listener dispatch of recorded frames through {@link WebSocketClobClient#onMessage},
+ * on the reader thread, with either typed or Map-based listeners registered
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebSocketDispatchBenchmark {
+
+    @Param({"typed", "map"})
+    public String listener;
+
+    @Param({"market", "user"})
+    public String channel;
+
+    private WebSocketClobClient client;
+    private List<String> frames;
+    private int next;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        boolean market = "market".equals(channel);
+        frames = market ? Fixtures.marketFrames() : Fixtures.userFrames();
+        client = new WebSocketClobClient(market ? WebSocketClobClient.MARKET_CHANNEL : WebSocketClobClient.USER_CHANNEL,
+                "wss://localhost", Collections.emptyList(), null);
+        if ("typed".equals(listener)) {
+            client.registerListener(new TypedWebSocketListener() {
+                @Override
+                public void onBook(BookEvent event) {
+                    blackhole.consume(event);
+                }
+
+                @Override
+                public void onPriceChange(PriceChangeEvent event) {
+                    blackhole.consume(event);
+                }
+
+                @Override
+                public void onLastTradePrice(LastTradePriceEvent event) {
+                    blackhole.consume(event);
+                }
+
+                @Override
+                public void onBestBidAsk(BestBidAskEvent event) {
+                    blackhole.consume(event);
+                }
+
+                @Override
+                public void onTrade(TradeEvent event) {
+                    blackhole.consume(event);
+                }
+
+                @Override
+                public void onOrder(OrderEvent event) {
+                    blackhole.consume(event);
+                }
+            });
+        } else {
+            client.registerListener((WebSocketListener) (eventType, message) -> blackhole.consume(message));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    /**
+     * One frame per invocation, cycling through the recorded feed
+     */
+    @Benchmark
+    public void onMessage() {
+        String frame = frames.get(next);
+        next = next + 1 == frames.size() ? 0 : next + 1;
+        client.onMessage(null, frame);
+    }
+}
@@ -1,23 +1,44 @@
 package com.polymarket.clob;
 
 import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.TypeReference;
+import com.polymarket.clob.cache.CacheOptions;
+import com.polymarket.clob.cache.MetadataCache;
+import com.polymarket.clob.cache.MetadataSnapshot;
 import com.polymarket.clob.config.Config;
 import com.polymarket.clob.exception.PolyException;
 import com.polymarket.clob.http.Headers;
 import com.polymarket.clob.http.HttpClient;
+import com.polymarket.clob.http.HttpMetrics;
 import com.polymarket.clob.http.QueryBuilder;
+import com.polymarket.clob.market.MarketCatalog;
+import com.polymarket.clob.market.MarketIterator;
 import com.polymarket.clob.model.*;
+import com.polymarket.clob.signing.HmacSigner;
 import com.polymarket.clob.signing.OrderBuilder;
 import com.polymarket.clob.signing.Signer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.polymarket.clob.Constants.*;
 import static com.polymarket.clob.Endpoints.*;
@@ -34,20 +55,32 @@ public class ClobClient {
 
     private static final Logger logger = LogManager.getLogger(ClobClient.class);
 
+    private static final TypeReference<List<OrderResponse>> ORDER_RESPONSE_LIST = new TypeReference<List<OrderResponse>>() {};
+    private static final TypeReference<List<BookEvent>> BOOK_LIST = new TypeReference<List<BookEvent>>() {};
+    private static final TypeReference<Map<String, String>> STRING_MAP = new TypeReference<Map<String, String>>() {};
+    private static final TypeReference<Map<String, Map<String, String>>> NESTED_STRING_MAP =
+            new TypeReference<Map<String, Map<String, String>>>() {};
+    private static final TypeReference<List<Map<String, String>>> STRING_MAP_LIST =
+            new TypeReference<List<Map<String, String>>>() {};
+
     private final String host;
     private final Integer chainId;
     private final Signer signer;
     private final OrderBuilder builder;
     private ApiCreds creds;
+    private volatile HmacSigner hmacSigner;
     private int mode;
     private final HttpClient httpClient;
     private final Integer signatureType;
     private final String funder;
+    private volatile int batchSize = MAX_BATCH_TOKENS;
 
     // Local caches
-    private final Map<String, String> tickSizes = new HashMap<>();
-    private final Map<String, Boolean> negRisk = new HashMap<>();
-    private final Map<String, Integer> feeRates = new HashMap<>();
+    private final MetadataCache<String> tickSizes;
+    private final MetadataCache<Boolean> negRisk;
+    private final MetadataCache<Integer> feeRates;
+    private volatile MarketCatalog marketCatalog;
+    private volatile Executor signingExecutor = ForkJoinPool.commonPool();
     
     /**
      * Create a new CLOB client
@@ -71,6 +104,11 @@ public class ClobClient {
         this.creds = creds;
         this.mode = getClientMode();
         this.httpClient = new HttpClient();
+
+        CacheOptions cacheOptions = new CacheOptions();
+        this.tickSizes = new MetadataCache<>("tick size", this::fetchTickSize, cacheOptions);
+        this.negRisk = new MetadataCache<>("neg risk", this::fetchNegRisk, cacheOptions);
+        this.feeRates = new MetadataCache<>("fee rate", this::fetchFeeRate, cacheOptions);
     }
     
     /**
@@ -253,7 +291,7 @@ public class ClobClient {
             .method("GET")
             .requestPath(GET_API_KEYS)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         return httpClient.get(host + GET_API_KEYS, headers);
     }
     
@@ -267,7 +305,7 @@ public class ClobClient {
             .method("GET")
             .requestPath(CLOSED_ONLY)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         return httpClient.get(host + CLOSED_ONLY, headers);
     }
     
@@ -281,7 +319,7 @@ public class ClobClient {
             .method("DELETE")
             .requestPath(DELETE_API_KEY)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         return httpClient.delete(host + DELETE_API_KEY, headers);
     }
     
@@ -295,7 +333,7 @@ public class ClobClient {
             .method("POST")
             .requestPath(CREATE_READONLY_API_KEY)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         
         try {
             @SuppressWarnings("unchecked")
@@ -317,7 +355,7 @@ public class ClobClient {
             .method("GET")
             .requestPath(GET_READONLY_API_KEYS)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         return httpClient.get(host + GET_READONLY_API_KEYS, headers);
     }
     
@@ -336,7 +374,7 @@ public class ClobClient {
             .body(body)
             .serializedBody(serialized)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         return httpClient.delete(host + DELETE_READONLY_API_KEY, headers, serialized);
     }
     
@@ -354,97 +392,178 @@ public class ClobClient {
      * Get the mid market price for a token
      */
     public MidpointResponse getMidpoint(String tokenId) {
-        Object response = httpClient.get(String.format("%s%s?token_id=%s", host, MID_POINT, tokenId));
-        return JSON.to(MidpointResponse.class, response);
+        return httpClient.get(String.format("%s%s?token_id=%s", host, MID_POINT, tokenId),
+            null, MidpointResponse.class);
     }
     
     /**
      * Get the market price for a token and side
      */
     public PriceResponse getPrice(String tokenId, String side) {
-        Object response = httpClient.get(String.format("%s%s?token_id=%s&side=%s",
-            host, PRICE, tokenId, side));
-        return JSON.to(PriceResponse.class, response);
+        return httpClient.get(String.format("%s%s?token_id=%s&side=%s",
+            host, PRICE, tokenId, side), null, PriceResponse.class);
     }
     
     /**
      * Get the spread for a token
      */
     public SpreadResponse getSpread(String tokenId) {
-        Object response = httpClient.get(String.format("%s%s?token_id=%s", host, GET_SPREAD, tokenId));
-        return JSON.to(SpreadResponse.class, response);
+        return httpClient.get(String.format("%s%s?token_id=%s", host, GET_SPREAD, tokenId),
+            null, SpreadResponse.class);
     }
     
     /**
      * Get the last trade price for a token
      */
     public LastTradePriceResponse getLastTradePrice(String tokenId) {
-        Object response = httpClient.get(String.format("%s%s?token_id=%s",
-            host, GET_LAST_TRADE_PRICE, tokenId));
-        return JSON.to(LastTradePriceResponse.class, response);
+        return httpClient.get(String.format("%s%s?token_id=%s",
+            host, GET_LAST_TRADE_PRICE, tokenId), null, LastTradePriceResponse.class);
     }
     
     /**
      * Get tick size for a token (with caching)
      */
     public String getTickSize(String tokenId) {
-        if (tickSizes.containsKey(tokenId)) {
-            return tickSizes.get(tokenId);
-        }
-        
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = (Map<String, Object>) httpClient.get(
-            String.format("%s%s?token_id=%s", host, GET_TICK_SIZE, tokenId));
-        String tickSize = String.valueOf(result.get("minimum_tick_size"));
-        tickSizes.put(tokenId, tickSize);
-        
-        return tickSize;
+        String tickSize = catalogTickSize(tokenId);
+        return tickSize != null ? tickSize : join(tickSizes.getAsync(tokenId));
     }
     
     /**
      * Get negative risk flag for a token (with caching)
      */
     public boolean getNegRisk(String tokenId) {
-        if (negRisk.containsKey(tokenId)) {
-            return negRisk.get(tokenId);
-        }
-        
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = (Map<String, Object>) httpClient.get(
-            String.format("%s%s?token_id=%s", host, GET_NEG_RISK, tokenId));
-        boolean isNegRisk = (Boolean) result.get("neg_risk");
-        negRisk.put(tokenId, isNegRisk);
-        
-        return isNegRisk;
+        Boolean isNegRisk = catalogNegRisk(tokenId);
+        return isNegRisk != null ? isNegRisk : join(negRisk.getAsync(tokenId));
     }
     
     /**
      * Get fee rate in basis points for a token (with caching)
      */
     public int getFeeRateBps(String tokenId) {
-        if (feeRates.containsKey(tokenId)) {
-            return feeRates.get(tokenId);
-        }
-        
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = (Map<String, Object>) httpClient.get(
-            String.format("%s%s?token_id=%s", host, GET_FEE_RATE, tokenId));
-        Object baseFee = result.get("base_fee");
-        int feeRate = baseFee != null ? ((Number) baseFee).intValue() : 0;
-        feeRates.put(tokenId, feeRate);
-        
-        return feeRate;
+        return join(feeRates.getAsync(tokenId));
     }
     
     /**
      * Get order book for a token
      */
     public BookEvent getOrderBook(String tokenId) {
-        Object response = httpClient.get(String.format("%s%s?token_id=%s",
-            host, GET_ORDER_BOOK, tokenId));
-        return JSON.to(BookEvent.class, response);
+        return httpClient.get(String.format("%s%s?token_id=%s",
+            host, GET_ORDER_BOOK, tokenId), null, BookEvent.class);
     }
     
+    // ==================== Batched Market Data ====================
+
+    /**
+     * Get midpoint prices for many tokens, split into concurrent requests of at most
+     * {@link #getBatchSize()} tokens each
+     *
+     * @param tokenIds The token IDs
+     * @return Midpoints keyed by token ID
+     */
+    public Map<String, MidpointResponse> getMidpoints(List<String> tokenIds) {
+        return join(getMidpointsAsync(tokenIds));
+    }
+
+    /**
+     * Get midpoint prices for many tokens without blocking
+     */
+    public CompletableFuture<Map<String, MidpointResponse>> getMidpointsAsync(List<String> tokenIds) {
+        return postBatched(MID_POINTS, toBookParams(tokenIds), STRING_MAP,
+                (chunk, result) -> chunk.forEach((tokenId, mid) -> result.put(tokenId, new MidpointResponse(mid))));
+    }
+
+    /**
+     * Get market prices for many (token, side) pairs
+     *
+     * @param params The token IDs and sides
+     * @return Prices keyed by token ID, then by side
+     */
+    public Map<String, Map<String, PriceResponse>> getPrices(List<BookParams> params) {
+        return join(getPricesAsync(params));
+    }
+
+    /**
+     * Get market prices for many (token, side) pairs without blocking
+     */
+    public CompletableFuture<Map<String, Map<String, PriceResponse>>> getPricesAsync(List<BookParams> params) {
+        return postBatched(GET_PRICES, params, NESTED_STRING_MAP,
+                (chunk, result) -> chunk.forEach((tokenId, sides) -> {
+                    Map<String, PriceResponse> bySide = result.computeIfAbsent(tokenId, k -> new HashMap<>());
+                    sides.forEach((side, price) -> bySide.put(side, new PriceResponse(price)));
+                }));
+    }
+
+    /**
+     * Get spreads for many tokens
+     *
+     * @param tokenIds The token IDs
+     * @return Spreads keyed by token ID
+     */
+    public Map<String, SpreadResponse> getSpreads(List<String> tokenIds) {
+        return join(getSpreadsAsync(tokenIds));
+    }
+
+    /**
+     * Get spreads for many tokens without blocking
+     */
+    public CompletableFuture<Map<String, SpreadResponse>> getSpreadsAsync(List<String> tokenIds) {
+        return postBatched(GET_SPREADS, toBookParams(tokenIds), STRING_MAP,
+                (chunk, result) -> chunk.forEach((tokenId, spread) -> result.put(tokenId, new SpreadResponse(spread))));
+    }
+
+    /**
+     * Get order books for many tokens
+     *
+     * @param tokenIds The token IDs
+     * @return Order books keyed by asset ID
+     */
+    public Map<String, BookEvent> getOrderBooks(List<String> tokenIds) {
+        return join(getOrderBooksAsync(tokenIds));
+    }
+
+    /**
+     * Get order books for many tokens without blocking
+     */
+    public CompletableFuture<Map<String, BookEvent>> getOrderBooksAsync(List<String> tokenIds) {
+        return postBatched(GET_ORDER_BOOKS, toBookParams(tokenIds), BOOK_LIST,
+                (chunk, result) -> chunk.forEach(book -> result.put(book.getAssetId(), book)));
+    }
+
+    /**
+     * Get last trade prices for many tokens
+     *
+     * @param tokenIds The token IDs
+     * @return Last trade prices keyed by token ID
+     */
+    public Map<String, LastTradePriceResponse> getLastTradesPrices(List<String> tokenIds) {
+        return join(getLastTradesPricesAsync(tokenIds));
+    }
+
+    /**
+     * Get last trade prices for many tokens without blocking
+     */
+    public CompletableFuture<Map<String, LastTradePriceResponse>> getLastTradesPricesAsync(List<String> tokenIds) {
+        return postBatched(GET_LAST_TRADES_PRICES, toBookParams(tokenIds), STRING_MAP_LIST,
+                (chunk, result) -> chunk.forEach(entry ->
+                        result.put(entry.get("token_id"), new LastTradePriceResponse(entry.get("price")))));
+    }
+
+    /**
+     * Set the maximum number of tokens sent per batched market data request
+     *
+     * @param batchSize The chunk size (defaults to {@link Constants#MAX_BATCH_TOKENS})
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     // ==================== Order Management (Level 2+) ====================
 
     /**
@@ -494,6 +613,82 @@ public class ClobClient {
         return createOrder(orderArgs, null);
     }
 
+    /**
+     * Create and sign a batch of orders (Level 1 Auth required).
+     *
+     * <p>Tick size, neg risk and fee rate are resolved once per distinct token, concurrently,
+     * and every price is validated before any order is signed. The orders are then signed in
+     * parallel on the {@link #setSigningExecutor(Executor) signing executor}.
+     *
+     * @param orderArgs The order arguments
+     * @param options   The creation options applied to every order (optional)
+     * @return The signed orders, in the order of the arguments
+     */
+    public List<SignedOrder> createOrders(List<OrderArgs> orderArgs, CreateOrderOptions options) {
+        assertLevel1Auth();
+
+        // Resolve metadata once per distinct token
+        Map<String, CompletableFuture<CreateOrderOptions>> pendingOptions = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Integer>> pendingFeeRates = new HashMap<>();
+        for (OrderArgs args : orderArgs) {
+            String tokenId = args.getTokenId();
+            if (!pendingOptions.containsKey(tokenId)) {
+                pendingOptions.put(tokenId, resolveOptionsAsync(tokenId, options));
+                pendingFeeRates.put(tokenId, getFeeRateBpsAsync(tokenId));
+            }
+        }
+        Map<String, CreateOrderOptions> resolved = new HashMap<>();
+        Map<String, Integer> feeRates = new HashMap<>();
+        for (Map.Entry<String, CompletableFuture<CreateOrderOptions>> entry : pendingOptions.entrySet()) {
+            resolved.put(entry.getKey(), join(entry.getValue()));
+            feeRates.put(entry.getKey(), join(pendingFeeRates.get(entry.getKey())));
+        }
+
+        // Validate every order before signing any
+        for (OrderArgs args : orderArgs) {
+            String tickSize = resolved.get(args.getTokenId()).getTickSize();
+            if (!isPriceValid(args.getPrice(), tickSize)) {
+                throw new PolyException(String.format(
+                        "Invalid price (%f), min: %s - max: %s",
+                        args.getPrice(), tickSize, (1 - Double.parseDouble(tickSize))
+                ));
+            }
+            args.setFeeRateBps(checkFeeRate(feeRates.get(args.getTokenId()), args.getFeeRateBps()));
+        }
+
+        // Sign in parallel, preserving input order
+        Executor executor = signingExecutor;
+        List<CompletableFuture<SignedOrder>> signing = new ArrayList<>(orderArgs.size());
+        for (OrderArgs args : orderArgs) {
+            CreateOrderOptions tokenOptions = resolved.get(args.getTokenId());
+            signing.add(CompletableFuture.supplyAsync(() -> builder.createOrder(args, tokenOptions), executor));
+        }
+        List<SignedOrder> orders = new ArrayList<>(signing.size());
+        for (CompletableFuture<SignedOrder> future : signing) {
+            orders.add(join(future));
+        }
+        return orders;
+    }
+
+    /**
+     * Create and sign a batch of orders with default options
+     */
+    public List<SignedOrder> createOrders(List<OrderArgs> orderArgs) {
+        return createOrders(orderArgs, null);
+    }
+
+    /**
+     * Set the executor batch orders are signed on, e.g. a virtual thread executor on Java 21+.
+     * Defaults to the common fork-join pool.
+     */
+    public void setSigningExecutor(Executor signingExecutor) {
+        this.signingExecutor = signingExecutor;
+    }
+
+    public Executor getSigningExecutor() {
+        return signingExecutor;
+    }
+
     /**
      * Create and sign a market order (Level 1 Auth required)
      *
@@ -575,9 +770,8 @@ public class ClobClient {
                 .serializedBody(serialized)
                 .build();
 
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        Object response = httpClient.post(host + POST_ORDER, headers, serialized);
-        return JSON.to(OrderResponse.class, response);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
+        return httpClient.post(host + POST_ORDER, headers, serialized, OrderResponse.class);
     }
 
     /**
@@ -610,15 +804,8 @@ public class ClobClient {
                 .serializedBody(serialized)
                 .build();
 
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        Object response = httpClient.post(host + POST_ORDERS, headers, serialized);
-
-        // Convert to list of OrderResponse
-        @SuppressWarnings("unchecked")
-        List<Object> responseList = (List<Object>) response;
-        return responseList.stream()
-                .map(obj -> JSON.to(OrderResponse.class, obj))
-                .collect(Collectors.toList());
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
+        return httpClient.post(host + POST_ORDERS, headers, serialized, ORDER_RESPONSE_LIST);
     }
 
     /**
@@ -640,6 +827,39 @@ public class ClobClient {
         return createAndPostOrder(orderArgs, null);
     }
 
+    /**
+     * Create, sign and post a batch of orders in one request
+     *
+     * @param orderArgs The order arguments
+     * @param options   The creation options applied to every order (optional)
+     * @param orderType The order type applied to every order
+     * @param postOnly  Whether the orders are post-only
+     * @return List of OrderResponse with the results
+     */
+    public List<OrderResponse> createAndPostOrders(List<OrderArgs> orderArgs, CreateOrderOptions options,
+                                                   OrderType orderType, boolean postOnly) {
+        List<SignedOrder> orders = createOrders(orderArgs, options);
+        List<PostOrdersArgs> postArgs = new ArrayList<>(orders.size());
+        for (SignedOrder order : orders) {
+            postArgs.add(new PostOrdersArgs(order, orderType, postOnly));
+        }
+        return postOrders(postArgs);
+    }
+
+    /**
+     * Create, sign and post a batch of orders in one request with default options
+     */
+    public List<OrderResponse> createAndPostOrders(List<OrderArgs> orderArgs, OrderType orderType, boolean postOnly) {
+        return createAndPostOrders(orderArgs, null, orderType, postOnly);
+    }
+
+    /**
+     * Create, sign and post a batch of GTC orders in one request
+     */
+    public List<OrderResponse> createAndPostOrders(List<OrderArgs> orderArgs) {
+        return createAndPostOrders(orderArgs, OrderType.GTC, false);
+    }
+
     /**
      * Cancel multiple orders
      *
@@ -658,9 +878,8 @@ public class ClobClient {
                 .serializedBody(serialized)
                 .build();
 
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        Object response = httpClient.delete(host + CANCEL_ORDERS, headers, serialized);
-        return JSON.to(CancelOrdersResponse.class, response);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
+        return httpClient.delete(host + CANCEL_ORDERS, headers, serialized, CancelOrdersResponse.class);
     }
 
     /**
@@ -686,9 +905,8 @@ public class ClobClient {
                 .serializedBody(serialized)
                 .build();
 
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        Object response = httpClient.delete(host + CANCEL_MARKET_ORDERS, headers, serialized);
-        return JSON.to(CancelOrdersResponse.class, response);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
+        return httpClient.delete(host + CANCEL_MARKET_ORDERS, headers, serialized, CancelOrdersResponse.class);
     }
 
     // ==================== Order Helper Methods ====================
@@ -721,6 +939,16 @@ public class ClobClient {
         return json;
     }
 
+    private String catalogTickSize(String tokenId) {
+        MarketCatalog catalog = marketCatalog;
+        return catalog != null ? catalog.getTickSize(tokenId) : null;
+    }
+
+    private Boolean catalogNegRisk(String tokenId) {
+        MarketCatalog catalog = marketCatalog;
+        return catalog != null ? catalog.getNegRisk(tokenId) : null;
+    }
+
     /**
      * Resolve tick size for a token
      */
@@ -739,11 +967,41 @@ public class ClobClient {
         return tickSize;
     }
 
+    /**
+     * Resolve tick size and neg risk for a token without blocking
+     */
+    private CompletableFuture<CreateOrderOptions> resolveOptionsAsync(String tokenId, CreateOrderOptions options) {
+        String tickSize = options != null ? options.getTickSize() : null;
+        CompletableFuture<String> resolvedTickSize = getTickSizeAsync(tokenId).thenApply(minTickSize -> {
+            if (tickSize != null && isTickSizeSmaller(tickSize, minTickSize)) {
+                throw new PolyException(String.format(
+                        "Invalid tick size (%s), minimum for the market is %s",
+                        tickSize, minTickSize
+                ));
+            }
+            return tickSize != null ? tickSize : minTickSize;
+        });
+        CompletableFuture<Boolean> resolvedNegRisk = (options != null && options.isNegRisk())
+                ? CompletableFuture.completedFuture(true)
+                : getNegRiskAsync(tokenId);
+        return resolvedTickSize.thenCombine(resolvedNegRisk, (resolvedTick, isNegRisk) ->
+                CreateOrderOptions.builder()
+                        .tickSize(resolvedTick)
+                        .negRisk(isNegRisk)
+                        .build());
+    }
+
     /**
      * Resolve fee rate for a token
      */
     private int resolveFeeRate(String tokenId, int userFeeRate) {
-        int marketFeeRate = getFeeRateBps(tokenId);
+        return checkFeeRate(getFeeRateBps(tokenId), userFeeRate);
+    }
+
+    /**
+     * Check a user provided fee rate against the market fee rate
+     */
+    private int checkFeeRate(int marketFeeRate, int userFeeRate) {
         if (marketFeeRate > 0 && userFeeRate > 0 && userFeeRate != marketFeeRate) {
             throw new PolyException(String.format(
                     "Invalid user provided fee rate: (%d), fee rate for the market must be %d",
@@ -809,9 +1067,8 @@ public class ClobClient {
             .body(body)
             .serializedBody(serialized)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        Object response = httpClient.delete(host + CANCEL, headers, serialized);
-        return JSON.to(CancelOrderResponse.class, response);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
+        return httpClient.delete(host + CANCEL, headers, serialized, CancelOrderResponse.class);
     }
     
     /**
@@ -826,9 +1083,8 @@ public class ClobClient {
             .method("DELETE")
             .requestPath(CANCEL_ALL)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
-        Object response = httpClient.delete(host + CANCEL_ALL, headers);
-        return JSON.to(CancelOrdersResponse.class, response);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
+        return httpClient.delete(host + CANCEL_ALL, headers, null, CancelOrdersResponse.class);
     }
     
     /**
@@ -841,7 +1097,7 @@ public class ClobClient {
             .method("GET")
             .requestPath(ORDERS)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         
         String url = QueryBuilder.addQueryOpenOrdersParams(host + ORDERS, params, "MA==");
         return httpClient.get(url, headers);
@@ -858,7 +1114,7 @@ public class ClobClient {
             .method("GET")
             .requestPath(endpoint)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         return httpClient.get(host + endpoint, headers);
     }
     
@@ -872,7 +1128,7 @@ public class ClobClient {
             .method("GET")
             .requestPath(TRADES)
             .build();
-        Map<String, String> headers = Headers.createLevel2Headers(signer, creds, requestArgs);
+        Map<String, String> headers = Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
         
         String url = QueryBuilder.addQueryTradeParams(host + TRADES, params, "MA==");
         return httpClient.get(url, headers);
@@ -882,7 +1138,11 @@ public class ClobClient {
     
     /**
      * Get current markets
+     *
+     * @deprecated use {@link #getMarketsPage(String)}, which decodes the page once into typed
+     * markets instead of a generic object tree
      */
+    @Deprecated
     public Object getMarkets(String nextCursor) {
         return httpClient.get(String.format("%s%s?next_cursor=%s", 
             host, GET_MARKETS, nextCursor != null ? nextCursor : "MA=="));
@@ -890,18 +1150,376 @@ public class ClobClient {
     
     /**
      * Get current markets (default cursor)
+     *
+     * @deprecated use {@link #getMarketsPage()}
      */
+    @Deprecated
     public Object getMarkets() {
         return getMarkets("MA==");
     }
     
     /**
      * Get a market by condition ID
+     *
+     * @deprecated use {@link #getMarketInfo(String)}, which decodes the market once into a
+     * typed model instead of a generic object tree
      */
+    @Deprecated
     public Object getMarket(String conditionId) {
         return httpClient.get(host + GET_MARKET + conditionId);
     }
+
+    /**
+     * Get one page of current markets, decoded into typed markets
+     *
+     * @param nextCursor The page cursor, or null for the first page
+     */
+    public MarketsPage getMarketsPage(String nextCursor) {
+        return getMarketsPage(GET_MARKETS, nextCursor);
+    }
+
+    /**
+     * Get the first page of current markets, decoded into typed markets
+     */
+    public MarketsPage getMarketsPage() {
+        return getMarketsPage(GET_MARKETS, "MA==");
+    }
+
+    /**
+     * Get one page of a markets endpoint, decoded into typed markets
+     *
+     * @param endpoint   One of the markets endpoints (e.g. {@code Endpoints.GET_SAMPLING_MARKETS})
+     * @param nextCursor The page cursor, or null for the first page
+     */
+    public MarketsPage getMarketsPage(String endpoint, String nextCursor) {
+        return httpClient.get(String.format("%s%s?next_cursor=%s",
+            host, endpoint, nextCursor != null ? nextCursor : "MA=="), null, MarketsPage.class);
+    }
+
+    /**
+     * Get a market by condition ID, decoded into a typed market
+     */
+    public Market getMarketInfo(String conditionId) {
+        return httpClient.get(host + GET_MARKET + conditionId, null, Market.class);
+    }
+
+    /**
+     * Iterate over every market, fetching pages lazily with the next page prefetched
+     */
+    public MarketIterator iterateMarkets() {
+        return iterateMarkets(GET_MARKETS);
+    }
+
+    /**
+     * Stream every market. Pages are fetched as the stream is consumed, so memory stays
+     * bounded regardless of catalog size.
+     */
+    public Stream<Market> streamMarkets() {
+        return streamMarkets(GET_MARKETS);
+    }
+
+    /**
+     * Stream every market from the simplified markets endpoint
+     */
+    public Stream<Market> streamSimplifiedMarkets() {
+        return streamMarkets(GET_SIMPLIFIED_MARKETS);
+    }
+
+    /**
+     * Stream the markets eligible for liquidity rewards
+     */
+    public Stream<Market> streamSamplingMarkets() {
+        return streamMarkets(GET_SAMPLING_MARKETS);
+    }
+
+    /**
+     * Stream the markets eligible for liquidity rewards from the simplified endpoint
+     */
+    public Stream<Market> streamSamplingSimplifiedMarkets() {
+        return streamMarkets(GET_SAMPLING_SIMPLIFIED_MARKETS);
+    }
+
+    /**
+     * Get one page of a markets endpoint, decoded into typed markets
+     *
+     * @param endpoint   One of the markets endpoints (e.g. {@code Endpoints.GET_SAMPLING_MARKETS})
+     * @param nextCursor The page cursor
+     */
+    public CompletableFuture<MarketsPage> getMarketsPageAsync(String endpoint, String nextCursor) {
+        return httpClient.getAsync(String.format("%s%s?next_cursor=%s",
+            host, endpoint, nextCursor != null ? nextCursor : "MA=="), null, MarketsPage.class);
+    }
+
+    private MarketIterator iterateMarkets(String endpoint) {
+        return new MarketIterator(cursor -> getMarketsPageAsync(endpoint, cursor));
+    }
+
+    private Stream<Market> streamMarkets(String endpoint) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterateMarkets(endpoint),
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
     
+    // ==================== Metadata Prefetch ====================
+
+    /**
+     * Warm the tick size, neg risk and fee rate caches for many tokens concurrently, so the
+     * first order on each token does not wait for metadata requests
+     *
+     * @param tokenIds The token IDs
+     * @return Completes once every lookup has finished; failed lookups are logged and skipped
+     */
+    public CompletableFuture<Void> prefetchMetadataAsync(List<String> tokenIds) {
+        List<CompletableFuture<?>> lookups = new ArrayList<>(tokenIds.size() * 3);
+        for (String tokenId : tokenIds) {
+            lookups.add(tickSizes.getAsync(tokenId).exceptionally(e -> null));
+            lookups.add(negRisk.getAsync(tokenId).exceptionally(e -> null));
+            lookups.add(feeRates.getAsync(tokenId).exceptionally(e -> null));
+        }
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Warm the metadata caches for many tokens, waiting until done
+     */
+    public void prefetchMetadata(List<String> tokenIds) {
+        join(prefetchMetadataAsync(tokenIds));
+    }
+
+    /**
+     * Seed the tick size and neg risk caches from every page of {@link #streamMarkets()}.
+     * Fee rates are not part of market data and still load on first use.
+     *
+     * @return The number of tokens seeded
+     */
+    public int prefetchMetadataFromMarkets() {
+        int seeded = 0;
+        MarketIterator markets = iterateMarkets();
+        while (markets.hasNext()) {
+            seeded += seedMetadata(markets.next());
+        }
+        return seeded;
+    }
+
+    private int seedMetadata(Market market) {
+        if (market.getTokens() == null) {
+            return 0;
+        }
+        int seeded = 0;
+        for (MarketToken token : market.getTokens()) {
+            String tokenId = token.getTokenId();
+            if (tokenId == null || tokenId.isEmpty()) {
+                continue;
+            }
+            if (market.getMinimumTickSize() != null) {
+                tickSizes.put(tokenId, market.getMinimumTickSize());
+            }
+            if (market.getNegRisk() != null) {
+                negRisk.put(tokenId, market.getNegRisk());
+            }
+            seeded++;
+        }
+        return seeded;
+    }
+
+    /**
+     * Save the cached tick sizes, neg risk flags and fee rates to a compact binary file
+     *
+     * @param path The snapshot file
+     * @return The number of tokens saved
+     * @see MetadataSnapshot
+     */
+    public int saveMetadataSnapshot(Path path) throws IOException {
+        return MetadataSnapshot.save(path, tickSizes, negRisk, feeRates);
+    }
+
+    /**
+     * Load a metadata snapshot saved by {@link #saveMetadataSnapshot(Path)}. Loaded values are
+     * used immediately and revalidated in the background on first use.
+     *
+     * @param path     The snapshot file
+     * @param maxAgeMs Snapshots older than this are ignored
+     * @return The number of tokens loaded, 0 if the file is missing or too old
+     */
+    public int loadMetadataSnapshot(Path path, long maxAgeMs) throws IOException {
+        return MetadataSnapshot.load(path, maxAgeMs, tickSizes, negRisk, feeRates);
+    }
+
+    // ==================== Async Methods ====================
+
+    /**
+     * Get the mid market price for a token without blocking
+     */
+    public CompletableFuture<MidpointResponse> getMidpointAsync(String tokenId) {
+        return httpClient.getAsync(String.format("%s%s?token_id=%s", host, MID_POINT, tokenId),
+                null, MidpointResponse.class);
+    }
+
+    /**
+     * Get the market price for a token and side without blocking
+     */
+    public CompletableFuture<PriceResponse> getPriceAsync(String tokenId, String side) {
+        return httpClient.getAsync(String.format("%s%s?token_id=%s&side=%s", host, PRICE, tokenId, side),
+                null, PriceResponse.class);
+    }
+
+    /**
+     * Get the spread for a token without blocking
+     */
+    public CompletableFuture<SpreadResponse> getSpreadAsync(String tokenId) {
+        return httpClient.getAsync(String.format("%s%s?token_id=%s", host, GET_SPREAD, tokenId),
+                null, SpreadResponse.class);
+    }
+
+    /**
+     * Get the last trade price for a token without blocking
+     */
+    public CompletableFuture<LastTradePriceResponse> getLastTradePriceAsync(String tokenId) {
+        return httpClient.getAsync(String.format("%s%s?token_id=%s", host, GET_LAST_TRADE_PRICE, tokenId),
+                null, LastTradePriceResponse.class);
+    }
+
+    /**
+     * Get order book for a token without blocking
+     */
+    public CompletableFuture<BookEvent> getOrderBookAsync(String tokenId) {
+        return httpClient.getAsync(String.format("%s%s?token_id=%s", host, GET_ORDER_BOOK, tokenId),
+                null, BookEvent.class);
+    }
+
+    /**
+     * Get tick size for a token without blocking (with caching)
+     */
+    public CompletableFuture<String> getTickSizeAsync(String tokenId) {
+        String tickSize = catalogTickSize(tokenId);
+        return tickSize != null ? CompletableFuture.completedFuture(tickSize) : tickSizes.getAsync(tokenId);
+    }
+
+    /**
+     * Get negative risk flag for a token without blocking (with caching)
+     */
+    public CompletableFuture<Boolean> getNegRiskAsync(String tokenId) {
+        Boolean isNegRisk = catalogNegRisk(tokenId);
+        return isNegRisk != null ? CompletableFuture.completedFuture(isNegRisk) : negRisk.getAsync(tokenId);
+    }
+
+    /**
+     * Get fee rate in basis points for a token without blocking (with caching)
+     */
+    public CompletableFuture<Integer> getFeeRateBpsAsync(String tokenId) {
+        return feeRates.getAsync(tokenId);
+    }
+
+    /**
+     * Post a signed order to the exchange without blocking.
+     * Authentication and argument errors are thrown immediately; request failures complete the future exceptionally.
+     *
+     * @param order     The signed order
+     * @param orderType The order type (GTC, FOK, etc.)
+     * @param postOnly  Whether this is a post-only order
+     * @return A future with the OrderResponse
+     */
+    public CompletableFuture<OrderResponse> postOrderAsync(SignedOrder order, OrderType orderType, boolean postOnly) {
+        assertLevel2Auth();
+
+        if (postOnly && orderType != OrderType.GTC && orderType != OrderType.GTD) {
+            throw new PolyException("post_only orders can only be of type GTC or GTD");
+        }
+
+        Map<String, Object> body = orderToJson(order, creds.getApiKey(), orderType, postOnly);
+        String serialized = serializeJson(body);
+
+        Map<String, String> headers = createLevel2Headers("POST", POST_ORDER, body, serialized);
+        return httpClient.postAsync(host + POST_ORDER, headers, serialized, OrderResponse.class);
+    }
+
+    /**
+     * Post a signed order with default type (GTC) without blocking
+     */
+    public CompletableFuture<OrderResponse> postOrderAsync(SignedOrder order) {
+        return postOrderAsync(order, OrderType.GTC, false);
+    }
+
+    /**
+     * Post multiple signed orders to the exchange without blocking
+     *
+     * @param orders List of order arguments with their configurations
+     * @return A future with the list of OrderResponse
+     */
+    public CompletableFuture<List<OrderResponse>> postOrdersAsync(List<PostOrdersArgs> orders) {
+        assertLevel2Auth();
+
+        List<Map<String, Object>> body = orders.stream()
+                .map(arg -> orderToJson(arg.getOrder(), creds.getApiKey(),
+                        arg.getOrderType(), arg.isPostOnly()))
+                .collect(Collectors.toList());
+        String serialized = serializeJson(body);
+
+        Map<String, String> headers = createLevel2Headers("POST", POST_ORDERS, body, serialized);
+        return httpClient.postAsync(host + POST_ORDERS, headers, serialized, ORDER_RESPONSE_LIST);
+    }
+
+    /**
+     * Cancel an order without blocking
+     *
+     * @param orderId The order ID to cancel
+     * @return A future with the CancelOrderResponse
+     */
+    public CompletableFuture<CancelOrderResponse> cancelAsync(String orderId) {
+        assertLevel2Auth();
+
+        Map<String, String> body = Map.of("orderID", orderId);
+        String serialized = serializeJson(body);
+
+        Map<String, String> headers = createLevel2Headers("DELETE", CANCEL, body, serialized);
+        return httpClient.deleteAsync(host + CANCEL, headers, serialized, CancelOrderResponse.class);
+    }
+
+    /**
+     * Cancel multiple orders without blocking
+     *
+     * @param orderIds List of order IDs to cancel
+     * @return A future with the CancelOrdersResponse
+     */
+    public CompletableFuture<CancelOrdersResponse> cancelOrdersAsync(List<String> orderIds) {
+        assertLevel2Auth();
+
+        String serialized = serializeJson(orderIds);
+
+        Map<String, String> headers = createLevel2Headers("DELETE", CANCEL_ORDERS, orderIds, serialized);
+        return httpClient.deleteAsync(host + CANCEL_ORDERS, headers, serialized, CancelOrdersResponse.class);
+    }
+
+    /**
+     * Cancel all orders for a specific market or asset without blocking
+     *
+     * @param market  The market ID (optional)
+     * @param assetId The asset ID (optional)
+     * @return A future with the CancelOrdersResponse
+     */
+    public CompletableFuture<CancelOrdersResponse> cancelMarketOrdersAsync(String market, String assetId) {
+        assertLevel2Auth();
+
+        Map<String, String> body = new HashMap<>();
+        body.put("market", market != null ? market : "");
+        body.put("asset_id", assetId != null ? assetId : "");
+        String serialized = serializeJson(body);
+
+        Map<String, String> headers = createLevel2Headers("DELETE", CANCEL_MARKET_ORDERS, body, serialized);
+        return httpClient.deleteAsync(host + CANCEL_MARKET_ORDERS, headers, serialized, CancelOrdersResponse.class);
+    }
+
+    /**
+     * Cancel all orders without blocking
+     *
+     * @return A future with the CancelOrdersResponse
+     */
+    public CompletableFuture<CancelOrdersResponse> cancelAllAsync() {
+        assertLevel2Auth();
+
+        Map<String, String> headers = createLevel2Headers("DELETE", CANCEL_ALL, null, null);
+        return httpClient.deleteAsync(host + CANCEL_ALL, headers, null, CancelOrdersResponse.class);
+    }
+
     // ==================== Authentication Helpers ====================
     
     private void assertLevel1Auth() {
@@ -926,6 +1544,101 @@ public class ClobClient {
         return L0;
     }
     
+    /**
+     * Post params to a batched endpoint in chunks of at most batchSize, concurrently,
+     * merging each chunk's decoded response into a single map
+     */
+    private <R, V> CompletableFuture<Map<String, V>> postBatched(String path, List<BookParams> params,
+                                                                  TypeReference<R> type,
+                                                                  BiConsumer<R, Map<String, V>> collector) {
+        int size = batchSize;
+        List<CompletableFuture<R>> chunks = new ArrayList<>((params.size() + size - 1) / size);
+        for (int from = 0; from < params.size(); from += size) {
+            List<BookParams> chunk = params.subList(from, Math.min(from + size, params.size()));
+            chunks.add(httpClient.postAsync(host + path, null, serializeJson(chunk), type));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<String, V> result = new HashMap<>(params.size() * 2);
+                    for (CompletableFuture<R> chunk : chunks) {
+                        R response = chunk.join();
+                        if (response != null) {
+                            collector.accept(response, result);
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    private static List<BookParams> toBookParams(List<String> tokenIds) {
+        List<BookParams> params = new ArrayList<>(tokenIds.size());
+        for (String tokenId : tokenIds) {
+            params.add(new BookParams(tokenId));
+        }
+        return params;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<String> fetchTickSize(String tokenId) {
+        return httpClient.getAsync(String.format("%s%s?token_id=%s", host, GET_TICK_SIZE, tokenId))
+                .thenApply(result -> String.valueOf(((Map<String, Object>) result).get("minimum_tick_size")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Boolean> fetchNegRisk(String tokenId) {
+        return httpClient.getAsync(String.format("%s%s?token_id=%s", host, GET_NEG_RISK, tokenId))
+                .thenApply(result -> (Boolean) ((Map<String, Object>) result).get("neg_risk"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Integer> fetchFeeRate(String tokenId) {
+        return httpClient.getAsync(String.format("%s%s?token_id=%s", host, GET_FEE_RATE, tokenId))
+                .thenApply(result -> {
+                    Object baseFee = ((Map<String, Object>) result).get("base_fee");
+                    return baseFee != null ? ((Number) baseFee).intValue() : 0;
+                });
+    }
+
+    /**
+     * Wait for a future, rethrowing the original exception rather than a CompletionException
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PolyException(e.getCause());
+        }
+    }
+
+    /**
+     * Get the HMAC signer for the current credentials, rebuilding it when they have changed
+     */
+    private HmacSigner hmacSigner() {
+        HmacSigner current = hmacSigner;
+        if (current == null || !current.isBoundTo(creds)) {
+            current = new HmacSigner(creds);
+            hmacSigner = current;
+        }
+        return current;
+    }
+
+    /**
+     * Create Level 2 headers for a request
+     */
+    private Map<String, String> createLevel2Headers(String method, String requestPath, Object body, String serialized) {
+        RequestArgs requestArgs = RequestArgs.builder()
+            .method(method)
+            .requestPath(requestPath)
+            .body(body)
+            .serializedBody(serialized)
+            .build();
+        return Headers.createLevel2Headers(signer, hmacSigner(), requestArgs);
+    }
+    
     /**
      * Serialize an object to JSON
      */
@@ -966,4 +1679,53 @@ public class ClobClient {
     public String getFunder() {
         return funder;
     }
+
+    /**
+     * Cache of tick sizes by token ID, for stats and invalidation
+     */
+    public MetadataCache<String> getTickSizeCache() {
+        return tickSizes;
+    }
+
+    /**
+     * Cache of neg risk flags by token ID
+     */
+    public MetadataCache<Boolean> getNegRiskCache() {
+        return negRisk;
+    }
+
+    /**
+     * Cache of fee rates in basis points by token ID
+     */
+    public MetadataCache<Integer> getFeeRateCache() {
+        return feeRates;
+    }
+
+    /**
+     * Take tick sizes and neg risk flags from a market catalog before the metadata caches.
+     * Tokens missing from the catalog still go through the caches.
+     *
+     * @param marketCatalog The catalog, or null to detach it
+     */
+    public void setMarketCatalog(MarketCatalog marketCatalog) {
+        this.marketCatalog = marketCatalog;
+    }
+
+    public MarketCatalog getMarketCatalog() {
+        return marketCatalog;
+    }
+
+    /**
+     * Time this client's HTTP requests per endpoint and phase
+     *
+     * @param metrics The receiver of request samples (e.g. an {@link com.polymarket.clob.http.HttpMetricsRecorder}),
+     *                or null to stop timing
+     */
+    public void setHttpMetrics(HttpMetrics metrics) {
+        httpClient.setMetrics(metrics);
+    }
+
+    public HttpMetrics getHttpMetrics() {
+        return httpClient.getMetrics();
+    }
 }
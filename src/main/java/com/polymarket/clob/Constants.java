@@ -44,4 +44,7 @@ public final class Constants {
     
     // Pagination
     public static final String END_CURSOR = "LTE=";
+
+    // Maximum number of tokens per request on the batched market data endpoints
+    public static final int MAX_BATCH_TOKENS = 500;
 }
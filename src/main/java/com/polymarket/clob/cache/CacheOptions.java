@@ -0,0 +1,35 @@
+package com.polymarket.clob.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Options for a {@link MetadataCache}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheOptions {
+
+    /**
+     * How long a loaded value is served, in milliseconds
+     */
+    @Builder.Default
+    private long ttlMs = 300_000;
+
+    /**
+     * Fraction of the TTL after which a read triggers a background reload while the current
+     * value is still served. 1 or more disables refresh-ahead.
+     */
+    @Builder.Default
+    private double refreshAheadRatio = 0.8;
+
+    /**
+     * Maximum number of entries; the least recently read entries are evicted beyond it
+     */
+    @Builder.Default
+    private int maxSize = 10_000;
+}
@@ -0,0 +1,54 @@
+package com.polymarket.clob.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Point-in-time statistics of a {@link MetadataCache}
+ */
+@Data
+@AllArgsConstructor
+public class CacheStats {
+
+    /**
+     * Reads served from a fresh entry
+     */
+    private long hits;
+
+    /**
+     * Reads that found no entry or an expired one
+     */
+    private long misses;
+
+    /**
+     * Loads that completed successfully
+     */
+    private long loads;
+
+    private long loadFailures;
+
+    /**
+     * Background reloads started by refresh-ahead
+     */
+    private long refreshes;
+
+    private long evictions;
+
+    /**
+     * Number of entries
+     */
+    private int size;
+
+    /**
+     * Mean load latency, in milliseconds
+     */
+    private double averageLoadMs;
+
+    /**
+     * Fraction of reads served from the cache
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
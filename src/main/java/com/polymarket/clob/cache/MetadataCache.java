@@ -0,0 +1,226 @@
+package com.polymarket.clob.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrent cache of per-token metadata (tick size, neg risk, fee rate) loaded asynchronously.
+ *
+ * <ul>
+ *   <li>Single flight: concurrent reads of a missing key share one in-flight load</li>
+ *   <li>Entries expire after the TTL; reads past the refresh-ahead point still return the
+ *       cached value and start a background reload, so hot keys never block on expiry</li>
+ *   <li>Bounded: beyond the maximum size the least recently read entry is evicted</li>
+ *   <li>Failed loads are not cached; a failed refresh keeps the current value until it expires</li>
+ * </ul>
+ *
+ * @param <V> the value type
+ */
+public final class MetadataCache<V> {
+    private static final Logger logger = LogManager.getLogger(MetadataCache.class);
+
+    private final String name;
+    private final Function<String, CompletableFuture<V>> loader;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name    name used in log messages
+     * @param loader  loads the value of a key
+     * @param options the cache options
+     */
+    public MetadataCache(String name, Function<String, CompletableFuture<V>> loader, CacheOptions options) {
+        this(name, loader, options, System::nanoTime);
+    }
+
+    MetadataCache(String name, Function<String, CompletableFuture<V>> loader, CacheOptions options,
+                  LongSupplier clock) {
+        if (options.getTtlMs() <= 0 || options.getMaxSize() <= 0) {
+            throw new IllegalArgumentException("Cache TTL and size must be positive");
+        }
+        this.name = name;
+        this.loader = loader;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(options.getTtlMs());
+        this.refreshAheadNanos = options.getRefreshAheadRatio() > 0 && options.getRefreshAheadRatio() < 1
+                ? (long) (ttlNanos * options.getRefreshAheadRatio())
+                : Long.MAX_VALUE;
+        this.maxSize = options.getMaxSize();
+        this.clock = clock;
+    }
+
+    /**
+     * Get the value of a key, loading it if absent or expired
+     *
+     * @return the cached value, or the shared in-flight load
+     */
+    public CompletableFuture<V> getAsync(String key) {
+        long now = clock.getAsLong();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.loadedAt < ttlNanos) {
+            hits.increment();
+            entry.lastRead = now;
+            if (now - entry.loadedAt >= refreshAheadNanos && !inFlight.containsKey(key)) {
+                refreshes.increment();
+                load(key);
+            }
+            return CompletableFuture.completedFuture(entry.value);
+        }
+        misses.increment();
+        return load(key);
+    }
+
+    /**
+     * Get the cached value of a key without loading it
+     *
+     * @return the value, or null if absent or expired
+     */
+    public V getIfPresent(String key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && clock.getAsLong() - entry.loadedAt < ttlNanos ? entry.value : null;
+    }
+
+    /**
+     * Store a value obtained elsewhere, such as from a bulk request
+     */
+    public void put(String key, V value) {
+        long now = clock.getAsLong();
+        entries.put(key, new Entry<>(value, now));
+        evictIfFull();
+    }
+
+    /**
+     * Store a value that may be stale, such as one read from a snapshot. It is served right
+     * away and reloaded in the background on its first read.
+     */
+    void putForRefresh(String key, V value) {
+        long now = clock.getAsLong();
+        long age = refreshAheadNanos < ttlNanos ? refreshAheadNanos : 0;
+        entries.put(key, new Entry<>(value, now - age));
+        evictIfFull();
+    }
+
+    /**
+     * Visit every entry that has not expired
+     */
+    public void forEach(BiConsumer<String, V> action) {
+        long now = clock.getAsLong();
+        entries.forEach((key, entry) -> {
+            if (now - entry.loadedAt < ttlNanos) {
+                action.accept(key, entry.value);
+            }
+        });
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats getStats() {
+        long loaded = loads.sum();
+        long failed = loadFailures.sum();
+        long attempts = loaded + failed;
+        double averageLoadMs = attempts == 0 ? 0 : loadNanos.sum() / 1e6 / attempts;
+        return new CacheStats(hits.sum(), misses.sum(), loaded, failed, refreshes.sum(), evictions.sum(),
+                entries.size(), averageLoadMs);
+    }
+
+    private CompletableFuture<V> load(String key) {
+        CompletableFuture<V> pending = inFlight.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        CompletableFuture<V> created = new CompletableFuture<>();
+        pending = inFlight.putIfAbsent(key, created);
+        if (pending != null) {
+            return pending;
+        }
+
+        long start = clock.getAsLong();
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.apply(key);
+        } catch (Exception e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        loading.whenComplete((value, error) -> {
+            long end = clock.getAsLong();
+            loadNanos.add(end - start);
+            if (error != null) {
+                loadFailures.increment();
+                logger.warn("Failed to load {} for {}", name, key, error);
+                inFlight.remove(key, created);
+                created.completeExceptionally(error);
+            } else {
+                loads.increment();
+                entries.put(key, new Entry<>(value, end));
+                inFlight.remove(key, created);
+                evictIfFull();
+                created.complete(value);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Evict the least recently read entries. This scans all entries, which only happens when
+     * a new key is stored into a full cache.
+     */
+    private void evictIfFull() {
+        while (entries.size() > maxSize) {
+            String oldestKey = null;
+            long oldestRead = 0;
+            for (Map.Entry<String, Entry<V>> candidate : entries.entrySet()) {
+                if (oldestKey == null || candidate.getValue().lastRead - oldestRead < 0) {
+                    oldestRead = candidate.getValue().lastRead;
+                    oldestKey = candidate.getKey();
+                }
+            }
+            if (oldestKey == null || entries.remove(oldestKey) == null) {
+                return;
+            }
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+        private volatile long lastRead;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.lastRead = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.polymarket.clob.cache;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact binary snapshot of the tick size, neg risk and fee rate caches, so a restarted
+ * process can sign orders without waiting for metadata requests.
+ *
+ * <p>Layout (big endian): a header of magic {@code "PMDC"}, a short version, the save time in
+ * epoch milliseconds and the record count, then one record per token:
+ * <pre>
+ * short  token length, token bytes (UTF-8)
+ * byte   flags (tick size present, neg risk present, neg risk value, fee rate present)
+ * byte   tick size length, tick size bytes (ASCII)   if present
+ * int    fee rate in basis points                    if present
+ * </pre>
+ *
+ * <p>Files are written to a temporary file and moved into place, and read through a memory
+ * mapping. Loaded values are served immediately but are due for refresh-ahead, so they are
+ * revalidated in the background on first use.
+ */
+public final class MetadataSnapshot {
+
+    private static final int MAGIC = 0x504D4443; // "PMDC"
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 8 + 4;
+
+    private static final int HAS_TICK_SIZE = 1;
+    private static final int HAS_NEG_RISK = 1 << 1;
+    private static final int NEG_RISK = 1 << 2;
+    private static final int HAS_FEE_RATE = 1 << 3;
+
+    private MetadataSnapshot() {
+    }
+
+    /**
+     * Write the fresh entries of the caches to a file
+     *
+     * @return the number of tokens written
+     */
+    public static int save(Path path, MetadataCache<String> tickSizes, MetadataCache<Boolean> negRisk,
+                           MetadataCache<Integer> feeRates) throws IOException {
+        Map<String, Record> records = new LinkedHashMap<>();
+        tickSizes.forEach((token, tickSize) -> records.computeIfAbsent(token, k -> new Record()).tickSize = tickSize);
+        negRisk.forEach((token, value) -> records.computeIfAbsent(token, k -> new Record()).negRisk = value);
+        feeRates.forEach((token, feeRate) -> records.computeIfAbsent(token, k -> new Record()).feeRate = feeRate);
+
+        int size = HEADER_BYTES;
+        for (Map.Entry<String, Record> entry : records.entrySet()) {
+            Record record = entry.getValue();
+            record.token = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            if (record.token.length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Token ID too long: " + entry.getKey());
+            }
+            size += 2 + record.token.length + 1;
+            if (record.tickSize != null) {
+                record.tick = record.tickSize.getBytes(StandardCharsets.US_ASCII);
+                size += 1 + record.tick.length;
+            }
+            if (record.feeRate != null) {
+                size += 4;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putShort(VERSION).putLong(System.currentTimeMillis()).putInt(records.size());
+        for (Record record : records.values()) {
+            int flags = 0;
+            if (record.tick != null) {
+                flags |= HAS_TICK_SIZE;
+            }
+            if (record.negRisk != null) {
+                flags |= HAS_NEG_RISK | (record.negRisk ? NEG_RISK : 0);
+            }
+            if (record.feeRate != null) {
+                flags |= HAS_FEE_RATE;
+            }
+            buffer.putShort((short) record.token.length).put(record.token).put((byte) flags);
+            if (record.tick != null) {
+                buffer.put((byte) record.tick.length).put(record.tick);
+            }
+            if (record.feeRate != null) {
+                buffer.putInt(record.feeRate);
+            }
+        }
+        buffer.flip();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return records.size();
+    }
+
+    /**
+     * Load a snapshot into the caches, unless it is older than the given age
+     *
+     * @param maxAgeMs the maximum snapshot age in milliseconds
+     * @return the number of tokens loaded, 0 if the file is missing or too old
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static int load(Path path, long maxAgeMs, MetadataCache<String> tickSizes, MetadataCache<Boolean> negRisk,
+                           MetadataCache<Integer> feeRates) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a metadata snapshot: " + path);
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported metadata snapshot version " + version + ": " + path);
+            }
+            long savedAt = buffer.getLong();
+            if (System.currentTimeMillis() - savedAt > maxAgeMs) {
+                return 0;
+            }
+
+            int count = buffer.getInt();
+            byte[] scratch = new byte[256];
+            for (int i = 0; i < count; i++) {
+                int tokenLength = buffer.getShort();
+                if (tokenLength > scratch.length) {
+                    scratch = new byte[tokenLength];
+                }
+                buffer.get(scratch, 0, tokenLength);
+                String token = new String(scratch, 0, tokenLength, StandardCharsets.UTF_8);
+                int flags = buffer.get();
+                if ((flags & HAS_TICK_SIZE) != 0) {
+                    int tickLength = buffer.get();
+                    buffer.get(scratch, 0, tickLength);
+                    tickSizes.putForRefresh(token, new String(scratch, 0, tickLength, StandardCharsets.US_ASCII));
+                }
+                if ((flags & HAS_NEG_RISK) != 0) {
+                    negRisk.putForRefresh(token, (flags & NEG_RISK) != 0);
+                }
+                if ((flags & HAS_FEE_RATE) != 0) {
+                    feeRates.putForRefresh(token, buffer.getInt());
+                }
+            }
+            return count;
+        } catch (BufferUnderflowException | NegativeArraySizeException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated metadata snapshot: " + path, e);
+        }
+    }
+
+    private static final class Record {
+        private byte[] token;
+        private String tickSize;
+        private byte[] tick;
+        private Boolean negRisk;
+        private Integer feeRate;
+    }
+}
@@ -1,6 +1,7 @@
 package com.polymarket.clob.examples;
 
 import com.polymarket.clob.ClobClient;
+import com.polymarket.clob.model.MarketsPage;
 
 /**
  * Example: Get markets information
@@ -14,12 +15,12 @@ public class GetMarketsExample {
         try {
             // Get all markets
             System.out.println("Fetching markets...");
-            Object markets = client.getMarkets();
+            MarketsPage markets = client.getMarketsPage();
             System.out.println(markets);
             
             // Get specific market by condition ID (replace with actual ID)
             // String conditionId = "0x123...";
-            // Object market = client.getMarket(conditionId);
+            // Market market = client.getMarketInfo(conditionId);
             // System.out.println("\nSpecific market:");
             // System.out.println(market);
             
@@ -0,0 +1,69 @@
+package com.polymarket.clob.http;
+
+import com.polymarket.clob.Endpoints;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maps request paths back to the {@link Endpoints} constant they were built from, so metrics
+ * are keyed by endpoint rather than by URL
+ */
+final class EndpointResolver {
+
+    /**
+     * Endpoint reported for paths that match no constant
+     */
+    static final String OTHER = "other";
+
+    private static final Set<String> EXACT = new HashSet<>();
+
+    /**
+     * Constants ending in '/' that take an ID after them, longest first
+     */
+    private static final List<String> PREFIXES = new ArrayList<>();
+
+    static {
+        for (Field field : Endpoints.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    String path = (String) field.get(null);
+                    if (path.endsWith("/")) {
+                        PREFIXES.add(path);
+                    } else {
+                        EXACT.add(path);
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        PREFIXES.sort(Comparator.comparingInt(String::length).reversed());
+    }
+
+    private EndpointResolver() {
+    }
+
+    /**
+     * Resolve a URL path, trying shorter suffixes in turn so hosts with a base path still match
+     */
+    static String resolve(String path) {
+        for (int start = path.indexOf('/'); start >= 0; start = path.indexOf('/', start + 1)) {
+            String suffix = start == 0 ? path : path.substring(start);
+            if (EXACT.contains(suffix)) {
+                return suffix;
+            }
+            for (String prefix : PREFIXES) {
+                if (suffix.length() > prefix.length() && suffix.startsWith(prefix)) {
+                    return prefix;
+                }
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,50 @@
+package com.polymarket.clob.http;
+
+import com.polymarket.clob.metrics.HistogramSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Point-in-time statistics of one endpoint recorded by an {@link HttpMetricsRecorder}
+ */
+@Data
+@AllArgsConstructor
+public class EndpointStats {
+
+    /**
+     * The {@link com.polymarket.clob.Endpoints} path
+     */
+    private String endpoint;
+
+    private String method;
+
+    private long requests;
+
+    /**
+     * Requests that failed with an I/O error
+     */
+    private long failures;
+
+    /**
+     * Number of responses by status code
+     */
+    private Map<Integer, Long> statusCounts;
+
+    private long requestBytes;
+
+    private long responseBytes;
+
+    /**
+     * Latency distribution of each phase, in nanoseconds
+     */
+    private Map<RequestPhase, HistogramSnapshot> phases;
+
+    /**
+     * Latency distribution of a phase, in nanoseconds
+     */
+    public HistogramSnapshot getPhase(RequestPhase phase) {
+        return phases.get(phase);
+    }
+}
@@ -4,10 +4,13 @@ import com.polymarket.clob.model.ApiCreds;
 import com.polymarket.clob.model.RequestArgs;
 import com.polymarket.clob.signing.Eip712;
 import com.polymarket.clob.signing.HmacSignature;
+import com.polymarket.clob.signing.HmacSigner;
 import com.polymarket.clob.signing.Signer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utilities for creating authentication headers
@@ -21,6 +24,13 @@ public class Headers {
     public static final String POLY_NONCE = "POLY_NONCE";
     public static final String POLY_API_KEY = "POLY_API_KEY";
     public static final String POLY_PASSPHRASE = "POLY_PASSPHRASE";
+
+    // Level 1 headers are deterministic for a given (wallet, chain, second, nonce),
+    // so they are reused within the same timestamp second and dropped once it has passed
+    private static final int MAX_L1_CACHE_SIZE = 4096;
+    private static final Map<String, CachedLevel1Headers> l1HeaderCache = new ConcurrentHashMap<>();
+    private static final AtomicLong l1CacheSecond = new AtomicLong();
+    private static volatile boolean l1HeaderCacheEnabled = true;
     
     /**
      * Create Level 1 authentication headers (EIP-712 signature)
@@ -31,7 +41,66 @@ public class Headers {
      */
     public static Map<String, String> createLevel1Headers(Signer signer, long nonce) {
         long timestamp = System.currentTimeMillis() / 1000;
-        
+        return createLevel1Headers(signer, timestamp, nonce);
+    }
+
+    /**
+     * Create Level 1 authentication headers for an explicit timestamp
+     *
+     * @param signer The signer
+     * @param timestamp The timestamp in seconds
+     * @param nonce The nonce
+     * @return Headers map
+     */
+    public static Map<String, String> createLevel1Headers(Signer signer, long timestamp, long nonce) {
+        if (!l1HeaderCacheEnabled) {
+            return buildLevel1Headers(signer, timestamp, nonce);
+        }
+
+        String key = signer.getAddress() + ':' + signer.getChainId() + ':' + nonce;
+        CachedLevel1Headers cached = l1HeaderCache.get(key);
+        if (cached == null || cached.timestamp != timestamp) {
+            evictLevel1HeadersBefore(timestamp);
+            Map<String, String> headers = buildLevel1Headers(signer, timestamp, nonce);
+            if (l1HeaderCache.size() < MAX_L1_CACHE_SIZE) {
+                l1HeaderCache.put(key, new CachedLevel1Headers(timestamp, headers));
+            }
+            return new HashMap<>(headers);
+        }
+        return new HashMap<>(cached.headers);
+    }
+
+    /**
+     * Drop the cached headers of earlier seconds, once per new second
+     */
+    private static void evictLevel1HeadersBefore(long timestamp) {
+        long second = l1CacheSecond.get();
+        if (timestamp > second && l1CacheSecond.compareAndSet(second, timestamp)) {
+            l1HeaderCache.values().removeIf(cached -> cached.timestamp < timestamp);
+        }
+    }
+
+    /**
+     * Number of cached Level 1 header sets
+     */
+    static int level1HeaderCacheSize() {
+        return l1HeaderCache.size();
+    }
+
+    /**
+     * Enable or disable reuse of Level 1 headers within the same timestamp second
+     *
+     * @param enabled Whether the cache is enabled (enabled by default)
+     */
+    public static void setLevel1HeaderCacheEnabled(boolean enabled) {
+        l1HeaderCacheEnabled = enabled;
+        if (!enabled) {
+            l1HeaderCache.clear();
+            l1CacheSecond.set(0);
+        }
+    }
+
+    private static Map<String, String> buildLevel1Headers(Signer signer, long timestamp, long nonce) {
         String signature = Eip712.signClobAuthMessage(signer, timestamp, nonce);
         
         Map<String, String> headers = new HashMap<>();
@@ -65,17 +134,12 @@ public class Headers {
                                                           RequestArgs requestArgs) {
         long timestamp = System.currentTimeMillis() / 1000;
         
-        // Use pre-serialized body if available for deterministic signing
-        String bodyForSig = requestArgs.getSerializedBody() != null 
-            ? requestArgs.getSerializedBody() 
-            : (requestArgs.getBody() != null ? requestArgs.getBody().toString() : null);
-        
         String hmacSig = HmacSignature.buildHmacSignature(
             creds.getApiSecret(),
             timestamp,
             requestArgs.getMethod(),
             requestArgs.getRequestPath(),
-            bodyForSig
+            bodyForSignature(requestArgs)
         );
         
         Map<String, String> headers = new HashMap<>();
@@ -87,6 +151,34 @@ public class Headers {
         
         return headers;
     }
+
+    /**
+     * Create Level 2 authentication headers with a precomputed HMAC signer
+     *
+     * @param signer The signer
+     * @param hmacSigner The HMAC signer bound to the API credentials
+     * @param requestArgs The request arguments
+     * @return Headers, applied to requests without building a map
+     */
+    public static Level2Headers createLevel2Headers(Signer signer, HmacSigner hmacSigner,
+                                                    RequestArgs requestArgs) {
+        long timestamp = System.currentTimeMillis() / 1000;
+        String hmacSig = hmacSigner.sign(
+            timestamp,
+            requestArgs.getMethod(),
+            requestArgs.getRequestPath(),
+            bodyForSignature(requestArgs)
+        );
+        return new Level2Headers(signer.getAddress(), hmacSig, timestamp,
+            hmacSigner.getApiKey(), hmacSigner.getApiPassphrase());
+    }
+
+    private static String bodyForSignature(RequestArgs requestArgs) {
+        // Use pre-serialized body if available for deterministic signing
+        return requestArgs.getSerializedBody() != null
+            ? requestArgs.getSerializedBody()
+            : (requestArgs.getBody() != null ? requestArgs.getBody().toString() : null);
+    }
     
     /**
      * Enrich Level 2 headers with builder headers
@@ -101,4 +193,14 @@ public class Headers {
         enriched.putAll(builderHeaders);
         return enriched;
     }
+
+    private static final class CachedLevel1Headers {
+        private final long timestamp;
+        private final Map<String, String> headers;
+
+        private CachedLevel1Headers(long timestamp, Map<String, String> headers) {
+            this.timestamp = timestamp;
+            this.headers = headers;
+        }
+    }
 }
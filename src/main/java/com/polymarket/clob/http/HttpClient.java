@@ -1,12 +1,19 @@
 package com.polymarket.clob.http;
 
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.polymarket.clob.exception.PolyException;
 import okhttp3.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 /**
  * HTTP client utilities for making API requests
@@ -16,16 +23,48 @@ public class HttpClient {
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
     private static final ObjectMapper objectMapper = new ObjectMapper();
     
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 64;
+    
     private final OkHttpClient client;
+    private volatile HttpMetrics metrics;
     
     public HttpClient() {
+        this(DEFAULT_MAX_REQUESTS_PER_HOST);
+    }
+    
+    /**
+     * Create an HTTP client
+     * 
+     * @param maxRequestsPerHost Maximum number of asynchronous requests in flight per host
+     */
+    public HttpClient(int maxRequestsPerHost) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), maxRequestsPerHost));
+        
         this.client = new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(maxRequestsPerHost, 5, TimeUnit.MINUTES))
             .connectTimeout(30, TimeUnit.SECONDS)
             .readTimeout(30, TimeUnit.SECONDS)
             .writeTimeout(30, TimeUnit.SECONDS)
+            .eventListenerFactory(RequestTimer.FACTORY)
             .build();
     }
     
+    /**
+     * Time every request from now on, per endpoint and phase
+     * 
+     * @param metrics The receiver of request samples (e.g. an {@link HttpMetricsRecorder}), or null to stop timing
+     */
+    public void setMetrics(HttpMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    public HttpMetrics getMetrics() {
+        return metrics;
+    }
+    
     /**
      * Make an HTTP request
      * 
@@ -37,78 +76,290 @@ public class HttpClient {
      * @throws PolyException if the request fails
      */
     public Object request(String endpoint, String method, Map<String, String> headers, Object data) {
+        return execute(buildRequest(endpoint, method, headers, data), response -> parseResponse(response, method));
+    }
+    
+    /**
+     * Make an HTTP request and decode the response body directly into a model class
+     * 
+     * @param endpoint The full URL endpoint
+     * @param method The HTTP method
+     * @param headers The headers (can be null)
+     * @param data The request body data (can be null)
+     * @param type The class to decode the response into
+     * @return The decoded response (null for an empty body)
+     * @throws PolyException if the request fails or the body cannot be decoded
+     */
+    public <T> T request(String endpoint, String method, Map<String, String> headers, Object data, Class<T> type) {
+        return execute(buildRequest(endpoint, method, headers, data), response -> decodeResponse(response, type));
+    }
+    
+    /**
+     * Make an HTTP request and decode the response body directly into a generic type
+     * 
+     * @param endpoint The full URL endpoint
+     * @param method The HTTP method
+     * @param headers The headers (can be null)
+     * @param data The request body data (can be null)
+     * @param type The type to decode the response into (e.g. {@code new TypeReference<List<OrderResponse>>() {}})
+     * @return The decoded response (null for an empty body)
+     * @throws PolyException if the request fails or the body cannot be decoded
+     */
+    public <T> T request(String endpoint, String method, Map<String, String> headers, Object data, TypeReference<T> type) {
+        return execute(buildRequest(endpoint, method, headers, data), response -> decodeResponse(response, type.getType()));
+    }
+    
+    /**
+     * Make an HTTP request without blocking the calling thread
+     * 
+     * <p>The request is enqueued on the OkHttp dispatcher and the returned future is completed
+     * on a dispatcher thread. Failures complete the future exceptionally with a {@link PolyException}.
+     * Cancelling the future cancels the underlying call.
+     * 
+     * @param endpoint The full URL endpoint
+     * @param method The HTTP method
+     * @param headers The headers (can be null)
+     * @param data The request body data (can be null)
+     * @return A future with the response as a string or parsed object
+     */
+    public CompletableFuture<Object> requestAsync(String endpoint, String method, Map<String, String> headers, Object data) {
+        return enqueue(() -> buildRequest(endpoint, method, headers, data), response -> parseResponse(response, method));
+    }
+    
+    /**
+     * Make an HTTP request without blocking, decoding the response body directly into a model class
+     * 
+     * @param endpoint The full URL endpoint
+     * @param method The HTTP method
+     * @param headers The headers (can be null)
+     * @param data The request body data (can be null)
+     * @param type The class to decode the response into
+     * @return A future with the decoded response
+     */
+    public <T> CompletableFuture<T> requestAsync(String endpoint, String method, Map<String, String> headers,
+                                                 Object data, Class<T> type) {
+        return enqueue(() -> buildRequest(endpoint, method, headers, data), response -> decodeResponse(response, type));
+    }
+    
+    /**
+     * Make an HTTP request without blocking, decoding the response body directly into a generic type
+     * 
+     * @param endpoint The full URL endpoint
+     * @param method The HTTP method
+     * @param headers The headers (can be null)
+     * @param data The request body data (can be null)
+     * @param type The type to decode the response into
+     * @return A future with the decoded response
+     */
+    public <T> CompletableFuture<T> requestAsync(String endpoint, String method, Map<String, String> headers,
+                                                 Object data, TypeReference<T> type) {
+        return enqueue(() -> buildRequest(endpoint, method, headers, data), response -> decodeResponse(response, type.getType()));
+    }
+    
+    /**
+     * Execute a request on the calling thread
+     */
+    private <T> T execute(Request request, ResponseHandler<T> handler) {
+        Response response;
         try {
-            Request.Builder requestBuilder = new Request.Builder().url(endpoint);
-            
-            // Add headers
-            addDefaultHeaders(requestBuilder, method);
-            if (headers != null) {
-                headers.forEach(requestBuilder::addHeader);
+            response = client.newCall(request).execute();
+        } catch (IOException e) {
+            abandon(request);
+            throw new PolyException("Request failed: " + e.getMessage(), e);
+        }
+        try {
+            return handle(request, response, handler);
+        } catch (IOException e) {
+            throw new PolyException("Request failed: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Enqueue a request on the dispatcher, completing the returned future from the callback
+     */
+    private <T> CompletableFuture<T> enqueue(java.util.function.Supplier<Request> requestSupplier, ResponseHandler<T> handler) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        
+        Request request;
+        Call call;
+        try {
+            request = requestSupplier.get();
+            call = client.newCall(request);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                abandon(request);
+                future.completeExceptionally(new PolyException("Request failed: " + e.getMessage(), e));
             }
             
-            // Build request body
-            RequestBody body = null;
-            if (data != null) {
-                String json = data instanceof String ? (String) data : objectMapper.writeValueAsString(data);
-                body = RequestBody.create(json, JSON);
+            @Override
+            public void onResponse(Call call, Response response) {
+                try {
+                    future.complete(handle(request, response, handler));
+                } catch (IOException e) {
+                    future.completeExceptionally(new PolyException("Request failed: " + e.getMessage(), e));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
             }
-            
-            // Set method
-            switch (method.toUpperCase()) {
-                case "GET":
-                    requestBuilder.get();
-                    break;
-                case "POST":
-                    requestBuilder.post(body != null ? body : RequestBody.create("", null));
-                    break;
-                case "DELETE":
-                    if (body != null) {
-                        requestBuilder.delete(body);
-                    } else {
-                        requestBuilder.delete();
-                    }
-                    break;
-                case "PUT":
-                    requestBuilder.put(body != null ? body : RequestBody.create("", null));
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        });
+        
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
             }
-            
-            Request request = requestBuilder.build();
-            
-            try (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    String errorBody = response.body() != null ? response.body().string() : "";
-                    throw new PolyException("HTTP " + response.code() + ": " + errorBody);
-                }
-
-                // Handle gzip decompression for GET requests
-                String responseBody;
-                if ("GET".equalsIgnoreCase(method) && response.body() != null) {
-                    String encoding = response.header("Content-Encoding");
-                    if ("gzip".equalsIgnoreCase(encoding)) {
-                        try (java.util.zip.GZIPInputStream gzipStream =
-                                     new java.util.zip.GZIPInputStream(response.body().byteStream())) {
-                            responseBody = new String(gzipStream.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
-                        }
-                    } else {
-                        responseBody = response.body().string();
-                    }
+        });
+        return future;
+    }
+    
+    /**
+     * Handle and close a response, reporting the handling time to the request's timer if it has one.
+     * The timer is told after the response is closed, so samples are published before the caller sees the result.
+     */
+    private <T> T handle(Request request, Response response, ResponseHandler<T> handler) throws IOException {
+        RequestTimer timer = request.tag(RequestTimer.class);
+        if (timer == null) {
+            try (response) {
+                return handler.handle(response);
+            }
+        }
+        long start = System.nanoTime();
+        try (response) {
+            return handler.handle(response);
+        } finally {
+            timer.handled(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Tell the request's timer that no response will be handled
+     */
+    private static void abandon(Request request) {
+        RequestTimer timer = request.tag(RequestTimer.class);
+        if (timer != null) {
+            timer.handled(-1);
+        }
+    }
+    
+    /**
+     * Build an OkHttp request
+     */
+    private Request buildRequest(String endpoint, String method, Map<String, String> headers, Object data) {
+        HttpUrl url = HttpUrl.get(endpoint);
+        Request.Builder requestBuilder = new Request.Builder().url(url);
+        
+        HttpMetrics currentMetrics = metrics;
+        if (currentMetrics != null) {
+            requestBuilder.tag(RequestTimer.class,
+                    new RequestTimer(currentMetrics, EndpointResolver.resolve(url.encodedPath()), method.toUpperCase()));
+        }
+        
+        // Add headers
+        addDefaultHeaders(requestBuilder, method);
+        if (headers instanceof Level2Headers) {
+            ((Level2Headers) headers).applyTo(requestBuilder);
+        } else if (headers != null) {
+            headers.forEach(requestBuilder::addHeader);
+        }
+        
+        // Build request body
+        RequestBody body = null;
+        if (data != null) {
+            String json;
+            try {
+                json = data instanceof String ? (String) data : objectMapper.writeValueAsString(data);
+            } catch (IOException e) {
+                throw new PolyException("Request failed: " + e.getMessage(), e);
+            }
+            body = RequestBody.create(json, JSON);
+        }
+        
+        // Set method
+        switch (method.toUpperCase()) {
+            case "GET":
+                requestBuilder.get();
+                break;
+            case "POST":
+                requestBuilder.post(body != null ? body : RequestBody.create("", null));
+                break;
+            case "DELETE":
+                if (body != null) {
+                    requestBuilder.delete(body);
                 } else {
-                    responseBody = response.body() != null ? response.body().string() : "";
+                    requestBuilder.delete();
                 }
-                
-                // Try to parse as JSON, otherwise return as string
-                try {
-                    return objectMapper.readValue(responseBody, Object.class);
-                } catch (Exception e) {
-                    return responseBody;
+                break;
+            case "PUT":
+                requestBuilder.put(body != null ? body : RequestBody.create("", null));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+        
+        return requestBuilder.build();
+    }
+    
+    /**
+     * Read a response, throwing on non-2xx status codes
+     */
+    private Object parseResponse(Response response, String method) throws IOException {
+        ensureSuccessful(response);
+
+        // Handle gzip decompression for GET requests
+        String responseBody;
+        if ("GET".equalsIgnoreCase(method) && response.body() != null) {
+            String encoding = response.header("Content-Encoding");
+            if ("gzip".equalsIgnoreCase(encoding)) {
+                try (java.util.zip.GZIPInputStream gzipStream =
+                             new java.util.zip.GZIPInputStream(response.body().byteStream())) {
+                    responseBody = new String(gzipStream.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
                 }
+            } else {
+                responseBody = response.body().string();
             }
-            
-        } catch (IOException e) {
-            throw new PolyException("Request failed: " + e.getMessage(), e);
+        } else {
+            responseBody = response.body() != null ? response.body().string() : "";
+        }
+        
+        // Try to parse as JSON, otherwise return as string
+        try {
+            return objectMapper.readValue(responseBody, Object.class);
+        } catch (Exception e) {
+            return responseBody;
+        }
+    }
+    
+    /**
+     * Decode a response body in a single pass, streaming from the body source into the target type
+     */
+    private <T> T decodeResponse(Response response, Type type) throws IOException {
+        ensureSuccessful(response);
+
+        ResponseBody body = response.body();
+        if (body == null || body.contentLength() == 0) {
+            return null;
+        }
+
+        InputStream in = body.byteStream();
+        if ("gzip".equalsIgnoreCase(response.header("Content-Encoding"))) {
+            in = new GZIPInputStream(in);
+        }
+        try (InputStream stream = in) {
+            return com.alibaba.fastjson2.JSON.parseObject(stream, StandardCharsets.UTF_8, type);
+        } catch (JSONException e) {
+            throw new PolyException("Failed to decode response: " + e.getMessage(), e);
+        }
+    }
+    
+    private void ensureSuccessful(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            String errorBody = response.body() != null ? response.body().string() : "";
+            throw new PolyException("HTTP " + response.code() + ": " + errorBody);
         }
     }
     
@@ -174,4 +425,104 @@ public class HttpClient {
     public Object put(String endpoint, Map<String, String> headers, Object data) {
         return request(endpoint, "PUT", headers, data);
     }
+    
+    /**
+     * Make an asynchronous GET request
+     */
+    public CompletableFuture<Object> getAsync(String endpoint, Map<String, String> headers) {
+        return requestAsync(endpoint, "GET", headers, null);
+    }
+    
+    /**
+     * Make an asynchronous GET request without headers
+     */
+    public CompletableFuture<Object> getAsync(String endpoint) {
+        return getAsync(endpoint, null);
+    }
+    
+    /**
+     * Make an asynchronous POST request
+     */
+    public CompletableFuture<Object> postAsync(String endpoint, Map<String, String> headers, Object data) {
+        return requestAsync(endpoint, "POST", headers, data);
+    }
+    
+    /**
+     * Make an asynchronous DELETE request
+     */
+    public CompletableFuture<Object> deleteAsync(String endpoint, Map<String, String> headers, Object data) {
+        return requestAsync(endpoint, "DELETE", headers, data);
+    }
+    
+    /**
+     * Make an asynchronous DELETE request without data
+     */
+    public CompletableFuture<Object> deleteAsync(String endpoint, Map<String, String> headers) {
+        return deleteAsync(endpoint, headers, null);
+    }
+    
+    /**
+     * Make a GET request, decoding the response into a model class
+     */
+    public <T> T get(String endpoint, Map<String, String> headers, Class<T> type) {
+        return request(endpoint, "GET", headers, null, type);
+    }
+    
+    /**
+     * Make a POST request, decoding the response into a model class
+     */
+    public <T> T post(String endpoint, Map<String, String> headers, Object data, Class<T> type) {
+        return request(endpoint, "POST", headers, data, type);
+    }
+    
+    /**
+     * Make a POST request, decoding the response into a generic type
+     */
+    public <T> T post(String endpoint, Map<String, String> headers, Object data, TypeReference<T> type) {
+        return request(endpoint, "POST", headers, data, type);
+    }
+    
+    /**
+     * Make a DELETE request, decoding the response into a model class
+     */
+    public <T> T delete(String endpoint, Map<String, String> headers, Object data, Class<T> type) {
+        return request(endpoint, "DELETE", headers, data, type);
+    }
+    
+    /**
+     * Make an asynchronous GET request, decoding the response into a model class
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, Map<String, String> headers, Class<T> type) {
+        return requestAsync(endpoint, "GET", headers, null, type);
+    }
+    
+    /**
+     * Make an asynchronous POST request, decoding the response into a model class
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Map<String, String> headers, Object data, Class<T> type) {
+        return requestAsync(endpoint, "POST", headers, data, type);
+    }
+    
+    /**
+     * Make an asynchronous POST request, decoding the response into a generic type
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Map<String, String> headers, Object data,
+                                              TypeReference<T> type) {
+        return requestAsync(endpoint, "POST", headers, data, type);
+    }
+    
+    /**
+     * Make an asynchronous DELETE request, decoding the response into a model class
+     */
+    public <T> CompletableFuture<T> deleteAsync(String endpoint, Map<String, String> headers, Object data, Class<T> type) {
+        return requestAsync(endpoint, "DELETE", headers, data, type);
+    }
+    
+    /**
+     * Reads a response on the thread that received it
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(Response response) throws IOException;
+    }
 }
@@ -0,0 +1,16 @@
+package com.polymarket.clob.http;
+
+/**
+ * Receiver of per-request timings from an {@link HttpClient}.
+ *
+ * <p>{@link HttpMetricsRecorder} keeps histograms per endpoint; implement this interface to
+ * forward samples to another metrics system instead. Implementations must be thread-safe and
+ * fast, since they are called on the thread that finished the request.
+ */
+public interface HttpMetrics {
+
+    /**
+     * Called once for every request that completed or failed
+     */
+    void onRequest(RequestSample sample);
+}
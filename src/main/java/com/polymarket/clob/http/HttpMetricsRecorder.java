@@ -0,0 +1,121 @@
+package com.polymarket.clob.http;
+
+import com.polymarket.clob.metrics.HistogramSnapshot;
+import com.polymarket.clob.metrics.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link HttpMetrics} keeping a latency histogram of every phase, status code counts and byte
+ * counts per endpoint and method.
+ *
+ * <pre>
+ * HttpMetricsRecorder recorder = new HttpMetricsRecorder();
+ * client.setHttpMetrics(recorder);
+ * ...
+ * EndpointStats stats = recorder.getStats("POST", Endpoints.POST_ORDER);
+ * long p99 = stats.getPhase(RequestPhase.TTFB).getP99();
+ * </pre>
+ *
+ * <p>Recording is lock-free once an endpoint has been seen.
+ */
+public class HttpMetricsRecorder implements HttpMetrics {
+
+    private final ConcurrentMap<String, EndpointRecorder> endpoints = new ConcurrentHashMap<>();
+
+    private static final class EndpointRecorder {
+        final String endpoint;
+        final String method;
+        final LatencyHistogram[] phases = new LatencyHistogram[RequestPhase.values().length];
+        final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        final LongAdder requests = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder requestBytes = new LongAdder();
+        final LongAdder responseBytes = new LongAdder();
+
+        EndpointRecorder(String endpoint, String method) {
+            this.endpoint = endpoint;
+            this.method = method;
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LatencyHistogram();
+            }
+        }
+
+        void record(RequestSample sample) {
+            requests.increment();
+            if (sample.isFailed()) {
+                failures.increment();
+            }
+            if (sample.getStatus() != 0) {
+                statusCounts.computeIfAbsent(sample.getStatus(), status -> new LongAdder()).increment();
+            }
+            requestBytes.add(sample.getRequestBytes());
+            responseBytes.add(sample.getResponseBytes());
+            for (RequestPhase phase : RequestPhase.values()) {
+                long nanos = sample.getNanos(phase);
+                if (nanos >= 0) {
+                    phases[phase.ordinal()].record(nanos);
+                }
+            }
+        }
+
+        EndpointStats snapshot() {
+            Map<Integer, Long> statuses = new TreeMap<>();
+            statusCounts.forEach((status, count) -> statuses.put(status, count.sum()));
+            Map<RequestPhase, HistogramSnapshot> snapshots = new EnumMap<>(RequestPhase.class);
+            for (RequestPhase phase : RequestPhase.values()) {
+                snapshots.put(phase, phases[phase.ordinal()].snapshot());
+            }
+            return new EndpointStats(endpoint, method, requests.sum(), failures.sum(), statuses,
+                    requestBytes.sum(), responseBytes.sum(), snapshots);
+        }
+    }
+
+    @Override
+    public void onRequest(RequestSample sample) {
+        String key = key(sample.getMethod(), sample.getEndpoint());
+        EndpointRecorder recorder = endpoints.get(key);
+        if (recorder == null) {
+            recorder = endpoints.computeIfAbsent(key,
+                    k -> new EndpointRecorder(sample.getEndpoint(), sample.getMethod()));
+        }
+        recorder.record(sample);
+    }
+
+    /**
+     * Statistics of one endpoint
+     *
+     * @param method The HTTP method
+     * @param endpoint The {@link com.polymarket.clob.Endpoints} path
+     * @return The statistics, or null if no request was made to the endpoint
+     */
+    public EndpointStats getStats(String method, String endpoint) {
+        EndpointRecorder recorder = endpoints.get(key(method.toUpperCase(), endpoint));
+        return recorder != null ? recorder.snapshot() : null;
+    }
+
+    /**
+     * Statistics of every endpoint requested, keyed by method and path (e.g. {@code "POST /order"})
+     */
+    public Map<String, EndpointStats> snapshot() {
+        Map<String, EndpointStats> snapshot = new TreeMap<>();
+        endpoints.forEach((key, recorder) -> snapshot.put(key, recorder.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Discard everything recorded
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static String key(String method, String endpoint) {
+        return method + " " + endpoint;
+    }
+}
@@ -0,0 +1,110 @@
+package com.polymarket.clob.http;
+
+import okhttp3.Request;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static com.polymarket.clob.http.Headers.POLY_ADDRESS;
+import static com.polymarket.clob.http.Headers.POLY_API_KEY;
+import static com.polymarket.clob.http.Headers.POLY_PASSPHRASE;
+import static com.polymarket.clob.http.Headers.POLY_SIGNATURE;
+import static com.polymarket.clob.http.Headers.POLY_TIMESTAMP;
+
+/**
+ * The five Level 2 authentication headers held as fields.
+ *
+ * <p>It is a read-only {@link java.util.Map} so it can be passed wherever header maps are
+ * accepted, but {@link #forEach} and {@link #applyTo(Request.Builder)} walk the fields
+ * directly, so adding the headers to a request builds no entries.
+ */
+public final class Level2Headers extends AbstractMap<String, String> {
+
+    private final String address;
+    private final String signature;
+    private final String timestamp;
+    private final String apiKey;
+    private final String passphrase;
+
+    public Level2Headers(String address, String signature, long timestamp, String apiKey, String passphrase) {
+        this.address = address;
+        this.signature = signature;
+        this.timestamp = Long.toString(timestamp);
+        this.apiKey = apiKey;
+        this.passphrase = passphrase;
+    }
+
+    /**
+     * Add the headers to a request
+     */
+    public Request.Builder applyTo(Request.Builder builder) {
+        return builder
+                .addHeader(POLY_ADDRESS, address)
+                .addHeader(POLY_SIGNATURE, signature)
+                .addHeader(POLY_TIMESTAMP, timestamp)
+                .addHeader(POLY_API_KEY, apiKey)
+                .addHeader(POLY_PASSPHRASE, passphrase);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super String> action) {
+        action.accept(POLY_ADDRESS, address);
+        action.accept(POLY_SIGNATURE, signature);
+        action.accept(POLY_TIMESTAMP, timestamp);
+        action.accept(POLY_API_KEY, apiKey);
+        action.accept(POLY_PASSPHRASE, passphrase);
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        switch ((String) key) {
+            case POLY_ADDRESS:
+                return address;
+            case POLY_SIGNATURE:
+                return signature;
+            case POLY_TIMESTAMP:
+                return timestamp;
+            case POLY_API_KEY:
+                return apiKey;
+            case POLY_PASSPHRASE:
+                return passphrase;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return 5;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+                new SimpleImmutableEntry<>(POLY_ADDRESS, address),
+                new SimpleImmutableEntry<>(POLY_SIGNATURE, signature),
+                new SimpleImmutableEntry<>(POLY_TIMESTAMP, timestamp),
+                new SimpleImmutableEntry<>(POLY_API_KEY, apiKey),
+                new SimpleImmutableEntry<>(POLY_PASSPHRASE, passphrase))));
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+}
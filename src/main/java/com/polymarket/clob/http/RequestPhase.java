@@ -0,0 +1,40 @@
+package com.polymarket.clob.http;
+
+/**
+ * Phases of an HTTP request timed by {@link HttpClient} when {@link HttpMetrics} are attached
+ */
+public enum RequestPhase {
+    /**
+     * From the start of the call until a connection is being acquired, which includes waiting
+     * for a dispatcher slot for async requests
+     */
+    QUEUE,
+    DNS,
+    /**
+     * Opening a new connection, including the TLS handshake
+     */
+    CONNECT,
+    TLS,
+    /**
+     * Writing the request headers and body
+     */
+    REQUEST_WRITE,
+    /**
+     * From the end of the request write until the response headers start arriving, which is
+     * server time plus one round trip
+     */
+    TTFB,
+    /**
+     * Reading the response body from the connection
+     */
+    BODY_READ,
+    /**
+     * Handling the response in the client, which for typed requests streams the body into the
+     * model and so overlaps {@link #BODY_READ}
+     */
+    DECODE,
+    /**
+     * The whole call, from start until the response is closed or the call fails
+     */
+    TOTAL
+}
@@ -0,0 +1,83 @@
+package com.polymarket.clob.http;
+
+/**
+ * Timings and sizes of one HTTP request
+ */
+public final class RequestSample {
+
+    private final String endpoint;
+    private final String method;
+    private final int status;
+    private final boolean failed;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final long[] phaseNanos;
+
+    RequestSample(String endpoint, String method, int status, boolean failed,
+                  long requestBytes, long responseBytes, long[] phaseNanos) {
+        this.endpoint = endpoint;
+        this.method = method;
+        this.status = status;
+        this.failed = failed;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.phaseNanos = phaseNanos;
+    }
+
+    /**
+     * The {@link com.polymarket.clob.Endpoints} path the request was made to, or
+     * {@code "other"} for URLs that match none
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * The HTTP method, upper case
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * The response status code, or 0 if no response was received
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Whether the call failed with an I/O error, including after receiving the response headers
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Bytes of request body written
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * Bytes of response body read, before decompression
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Duration of a phase in nanoseconds, or -1 if the request did not go through it
+     * (for example {@link RequestPhase#CONNECT} on a pooled connection)
+     */
+    public long getNanos(RequestPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return "RequestSample(" + method + " " + endpoint + ", status=" + status + ", failed=" + failed
+                + ", totalNanos=" + getNanos(RequestPhase.TOTAL) + ")";
+    }
+}
@@ -0,0 +1,216 @@
+package com.polymarket.clob.http;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Times the phases of one call from OkHttp events.
+ *
+ * <p>The timer travels as a tag on the request so {@link #FACTORY} can hand it to OkHttp, and
+ * {@link HttpClient} reports the decode time through {@link #handled(long)}. The sample is
+ * published once both the call has ended and the response was handled, whichever comes last,
+ * since OkHttp may end the call as soon as the body is exhausted, in the middle of decoding.
+ */
+final class RequestTimer extends EventListener {
+    private static final Logger logger = LogManager.getLogger(RequestTimer.class);
+
+    /**
+     * Uses the timer tagged on the request, or no listener if metrics were off when it was built
+     */
+    static final EventListener.Factory FACTORY = call -> {
+        RequestTimer timer = call.request().tag(RequestTimer.class);
+        return timer != null ? timer : EventListener.NONE;
+    };
+
+    private final HttpMetrics metrics;
+    private final String endpoint;
+    private final String method;
+    private final long[] phaseNanos = new long[RequestPhase.values().length];
+    private final AtomicInteger pending = new AtomicInteger(2);
+
+    private long callStart;
+    private long queueStart;
+    private long dnsStart;
+    private long connectStart;
+    private long tlsStart;
+    private long writeStart;
+    private long writeEnd;
+    private long bodyStart;
+    private int status;
+    private boolean failed;
+    private long requestBytes;
+    private long responseBytes;
+
+    RequestTimer(HttpMetrics metrics, String endpoint, String method) {
+        this.metrics = metrics;
+        this.endpoint = endpoint;
+        this.method = method;
+        Arrays.fill(phaseNanos, -1);
+    }
+
+    /**
+     * Report that the response was handled, or that there was none to handle
+     *
+     * @param decodeNanos Time spent handling the response, or -1 if the call failed before one arrived
+     */
+    void handled(long decodeNanos) {
+        phaseNanos[RequestPhase.DECODE.ordinal()] = decodeNanos;
+        complete();
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+        queueStart = callStart;
+    }
+
+    @Override
+    public void proxySelectStart(Call call, HttpUrl url) {
+        endQueue();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        set(RequestPhase.DNS, dnsStart);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        if (connectStart == 0) {
+            connectStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        tlsStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        set(RequestPhase.TLS, tlsStart);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        set(RequestPhase.CONNECT, connectStart);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                              Protocol protocol, IOException ioe) {
+        set(RequestPhase.CONNECT, connectStart);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        endQueue();
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        writeStart = System.nanoTime();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, okhttp3.Request request) {
+        endWrite();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestBytes += byteCount;
+        endWrite();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        if (writeEnd != 0) {
+            set(RequestPhase.TTFB, writeEnd);
+        }
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        status = response.code();
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        bodyStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        responseBytes += byteCount;
+        set(RequestPhase.BODY_READ, bodyStart);
+    }
+
+    @Override
+    public void responseFailed(Call call, IOException ioe) {
+        if (bodyStart != 0) {
+            set(RequestPhase.BODY_READ, bodyStart);
+        }
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        set(RequestPhase.TOTAL, callStart);
+        complete();
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        failed = true;
+        set(RequestPhase.TOTAL, callStart);
+        complete();
+    }
+
+    private void endQueue() {
+        if (queueStart != 0) {
+            set(RequestPhase.QUEUE, queueStart);
+            queueStart = 0;
+        }
+    }
+
+    private void endWrite() {
+        writeEnd = System.nanoTime();
+        set(RequestPhase.REQUEST_WRITE, writeStart);
+    }
+
+    private void set(RequestPhase phase, long start) {
+        phaseNanos[phase.ordinal()] = System.nanoTime() - start;
+    }
+
+    private void complete() {
+        if (pending.decrementAndGet() != 0) {
+            return;
+        }
+        try {
+            metrics.onRequest(new RequestSample(endpoint, method, status, failed,
+                    requestBytes, responseBytes, phaseNanos.clone()));
+        } catch (Exception e) {
+            logger.error("Error recording request metrics", e);
+        }
+    }
+}
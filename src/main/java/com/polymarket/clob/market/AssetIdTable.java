@@ -0,0 +1,226 @@
+package com.polymarket.clob.market;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Symbol table assigning dense int handles to asset (token) IDs.
+ *
+ * <p>Handles are assigned in registration order starting at 0 and never change or get reused,
+ * so books, caches and listeners can be kept in arrays indexed by handle instead of maps keyed
+ * by 77-digit strings. Each ID is held once, and {@link #canonical(String)} returns that
+ * instance so String-keyed maps compare by identity and reuse the cached hash.
+ *
+ * <p>IDs can be looked up from a region of a text or UTF-8 frame without allocating, which is
+ * how {@link com.polymarket.clob.websocket.WebSocketMessageDecoder} resolves {@code asset_id}
+ * fields. Lookups are lock-free; registrations are serialized.
+ */
+public final class AssetIdTable {
+
+    /**
+     * Returned by lookups of unregistered IDs
+     */
+    public static final int NONE = -1;
+
+    private static final int MIN_CAPACITY = 64;
+
+    private static final class State {
+        final AtomicIntegerArray slots; // handle + 1, 0 when empty
+        final int mask;
+        final String[] ids; // by handle
+
+        State(int capacity, String[] ids) {
+            this.slots = new AtomicIntegerArray(capacity);
+            this.mask = capacity - 1;
+            this.ids = ids;
+        }
+    }
+
+    private volatile State state;
+    private volatile int size;
+
+    public AssetIdTable() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of IDs expected, to size the table up front
+     */
+    public AssetIdTable(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+        this.state = new State(capacity, new String[capacity / 2]);
+    }
+
+    // ==================== Registration ====================
+
+    /**
+     * Get the handle of an ID, assigning the next one if it is new
+     */
+    public int register(String assetId) {
+        int handle = handle(assetId);
+        return handle != NONE ? handle : insert(assetId);
+    }
+
+    /**
+     * Register every ID of a collection
+     */
+    public void registerAll(Collection<String> assetIds) {
+        for (String assetId : assetIds) {
+            register(assetId);
+        }
+    }
+
+    private synchronized int insert(String assetId) {
+        int handle = handle(assetId);
+        if (handle != NONE) {
+            return handle;
+        }
+        handle = size;
+        State current = state;
+        if (handle == current.ids.length) {
+            current = grow(current);
+        }
+        current.ids[handle] = assetId;
+        // the volatile slot write publishes the id to readers that find it
+        current.slots.set(freeSlot(current, assetId.hashCode()), handle + 1);
+        size = handle + 1;
+        return handle;
+    }
+
+    private State grow(State current) {
+        int capacity = (current.mask + 1) * 2;
+        State grown = new State(capacity, Arrays.copyOf(current.ids, capacity / 2));
+        for (int handle = 0; handle < size; handle++) {
+            grown.slots.set(freeSlot(grown, grown.ids[handle].hashCode()), handle + 1);
+        }
+        state = grown;
+        return grown;
+    }
+
+    private static int freeSlot(State state, int hash) {
+        int index = mix(hash) & state.mask;
+        while (state.slots.get(index) != 0) {
+            index = (index + 1) & state.mask;
+        }
+        return index;
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * Get the handle of an ID, or {@link #NONE} if it is not registered
+     */
+    public int handle(String assetId) {
+        if (assetId == null) {
+            return NONE;
+        }
+        State current = state;
+        int hash = assetId.hashCode();
+        for (int index = mix(hash) & current.mask; ; index = (index + 1) & current.mask) {
+            int slot = current.slots.get(index);
+            if (slot == 0) {
+                return NONE;
+            }
+            String id = current.ids[slot - 1];
+            if (id == assetId || (id.hashCode() == hash && id.equals(assetId))) {
+                return slot - 1;
+            }
+        }
+    }
+
+    /**
+     * Get the handle of the ID held in {@code text[start, end)} without allocating
+     *
+     * @return the handle, or {@link #NONE} if it is not registered
+     */
+    public int handle(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        State current = state;
+        for (int index = mix(hash) & current.mask; ; index = (index + 1) & current.mask) {
+            int slot = current.slots.get(index);
+            if (slot == 0) {
+                return NONE;
+            }
+            String id = current.ids[slot - 1];
+            if (id.hashCode() == hash && id.length() == end - start && regionMatches(id, text, start)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    /**
+     * Get the handle of the ASCII ID held in {@code bytes[start, end)} without allocating
+     *
+     * @return the handle, or {@link #NONE} if it is not registered
+     */
+    public int handle(byte[] bytes, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        State current = state;
+        for (int index = mix(hash) & current.mask; ; index = (index + 1) & current.mask) {
+            int slot = current.slots.get(index);
+            if (slot == 0) {
+                return NONE;
+            }
+            String id = current.ids[slot - 1];
+            if (id.hashCode() == hash && id.length() == end - start && regionMatches(id, bytes, start)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    /**
+     * Get the ID of a handle
+     *
+     * @throws IndexOutOfBoundsException if the handle was never assigned
+     */
+    public String assetId(int handle) {
+        if (handle < 0 || handle >= size) {
+            throw new IndexOutOfBoundsException("Unknown asset handle " + handle);
+        }
+        return state.ids[handle];
+    }
+
+    /**
+     * Get the canonical instance of an ID, or the argument if it is not registered
+     */
+    public String canonical(String assetId) {
+        int handle = handle(assetId);
+        return handle != NONE ? state.ids[handle] : assetId;
+    }
+
+    /**
+     * Number of IDs registered, which is also the next handle to be assigned
+     */
+    public int size() {
+        return size;
+    }
+
+    private static boolean regionMatches(String id, CharSequence text, int start) {
+        for (int i = 0, n = id.length(); i < n; i++) {
+            if (id.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatches(String id, byte[] bytes, int start) {
+        for (int i = 0, n = id.length(); i < n; i++) {
+            if (id.charAt(i) != bytes[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
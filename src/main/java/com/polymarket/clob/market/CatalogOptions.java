@@ -0,0 +1,28 @@
+package com.polymarket.clob.market;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Options for a {@link MarketCatalog}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogOptions {
+
+    /**
+     * Delay between background refreshes, in milliseconds
+     */
+    @Builder.Default
+    private long refreshIntervalMs = 300_000;
+
+    /**
+     * Whether closed markets are kept in the catalog
+     */
+    @Builder.Default
+    private boolean includeClosed = true;
+}
@@ -0,0 +1,349 @@
+package com.polymarket.clob.market;
+
+import com.polymarket.clob.ClobClient;
+import com.polymarket.clob.model.Market;
+import com.polymarket.clob.model.MarketToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-memory catalog of every market, indexed by condition ID, token ID and tag.
+ *
+ * <p>The catalog is loaded once by {@link #refresh()} and kept current by {@link #start()},
+ * which refreshes it in the background. Refreshes are incremental: unchanged markets keep
+ * their index entries, changed markets are reindexed and markets that disappeared are dropped.
+ * Token IDs are registered in an {@link AssetIdTable}, so each ID is held once however many
+ * indexes and callers refer to it, and has a dense int handle that stays valid across refreshes.
+ * Share the table with {@link com.polymarket.clob.websocket.WebSocketClobClient#setAssetIds}
+ * so events carry the same instances.
+ *
+ * <p>Once attached with {@link ClobClient#setMarketCatalog(MarketCatalog)}, order creation
+ * takes tick sizes and neg risk flags from the catalog instead of the network.
+ *
+ * <pre>
+ * MarketCatalog catalog = new MarketCatalog(client);
+ * catalog.refresh();
+ * catalog.start();
+ * client.setMarketCatalog(catalog);
+ * </pre>
+ */
+public class MarketCatalog implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(MarketCatalog.class);
+
+    private final Supplier<Iterator<Market>> source;
+    private final CatalogOptions options;
+
+    private final Map<String, Market> byCondition = new ConcurrentHashMap<>();
+    private final Map<String, Market> byToken = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byTag = new ConcurrentHashMap<>();
+    private final AssetIdTable assetIds;
+
+    private final ScheduledExecutorService scheduler;
+    private boolean started;
+
+    private volatile long refreshCount;
+    private volatile long lastRefreshMs;
+    private volatile int lastChanges;
+
+    /**
+     * @param client the client whose markets endpoint is walked
+     */
+    public MarketCatalog(ClobClient client) {
+        this(client, new CatalogOptions());
+    }
+
+    /**
+     * @param client  the client whose markets endpoint is walked
+     * @param options refresh options
+     */
+    public MarketCatalog(ClobClient client, CatalogOptions options) {
+        this(client::iterateMarkets, options);
+    }
+
+    /**
+     * @param source  supplies an iterator over every market for each refresh
+     * @param options refresh options
+     */
+    public MarketCatalog(Supplier<Iterator<Market>> source, CatalogOptions options) {
+        this(source, options, new AssetIdTable());
+    }
+
+    /**
+     * @param source   supplies an iterator over every market for each refresh
+     * @param options  refresh options
+     * @param assetIds the symbol table token IDs are registered in
+     */
+    public MarketCatalog(Supplier<Iterator<Market>> source, CatalogOptions options, AssetIdTable assetIds) {
+        if (options.getRefreshIntervalMs() <= 0) {
+            throw new IllegalArgumentException("refreshIntervalMs must be positive");
+        }
+        this.source = source;
+        this.options = options;
+        this.assetIds = assetIds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "clob-market-catalog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ==================== Refresh ====================
+
+    /**
+     * Walk every market and apply the differences to the indexes. Markets are only dropped
+     * when the walk completes, so a failed refresh leaves the catalog as it was plus any
+     * updates already seen.
+     *
+     * @return the number of markets added, changed or removed
+     */
+    public synchronized int refresh() {
+        long start = System.nanoTime();
+        Set<String> seen = new HashSet<>(Math.max(16, byCondition.size() * 2));
+        int changes = 0;
+        Iterator<Market> markets = source.get();
+        while (markets.hasNext()) {
+            Market market = markets.next();
+            String conditionId = market.getConditionId();
+            if (conditionId == null || (!options.isIncludeClosed() && Boolean.TRUE.equals(market.getClosed()))) {
+                continue;
+            }
+            seen.add(conditionId);
+            Market previous = byCondition.get(conditionId);
+            if (!market.equals(previous)) {
+                if (previous != null) {
+                    unindex(previous);
+                }
+                index(market);
+                changes++;
+            }
+        }
+        for (Market market : new ArrayList<>(byCondition.values())) {
+            if (!seen.contains(market.getConditionId())) {
+                unindex(market);
+                changes++;
+            }
+        }
+
+        refreshCount++;
+        lastChanges = changes;
+        lastRefreshMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("Refreshed market catalog: {} markets, {} changes in {} ms",
+                byCondition.size(), changes, lastRefreshMs);
+        return changes;
+    }
+
+    /**
+     * Refresh the catalog in the background every {@link CatalogOptions#getRefreshIntervalMs()}
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        long interval = options.getRefreshIntervalMs();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                logger.error("Market catalog refresh failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop background refreshes
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void index(Market market) {
+        byCondition.put(market.getConditionId(), market);
+        if (market.getTokens() != null) {
+            for (MarketToken token : market.getTokens()) {
+                if (token.getTokenId() != null && !token.getTokenId().isEmpty()) {
+                    token.setTokenId(intern(token.getTokenId()));
+                    byToken.put(token.getTokenId(), market);
+                }
+            }
+        }
+        if (market.getTags() != null) {
+            for (String tag : market.getTags()) {
+                byTag.computeIfAbsent(tag, k -> ConcurrentHashMap.newKeySet()).add(market.getConditionId());
+            }
+        }
+    }
+
+    private void unindex(Market market) {
+        byCondition.remove(market.getConditionId(), market);
+        if (market.getTokens() != null) {
+            for (MarketToken token : market.getTokens()) {
+                if (token.getTokenId() != null) {
+                    byToken.remove(token.getTokenId(), market);
+                }
+            }
+        }
+        if (market.getTags() != null) {
+            for (String tag : market.getTags()) {
+                byTag.computeIfPresent(tag, (k, conditionIds) -> {
+                    conditionIds.remove(market.getConditionId());
+                    return conditionIds.isEmpty() ? null : conditionIds;
+                });
+            }
+        }
+    }
+
+    private String intern(String tokenId) {
+        return assetIds.assetId(assetIds.register(tokenId));
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * Get a market by condition ID
+     */
+    public Market getMarket(String conditionId) {
+        return byCondition.get(conditionId);
+    }
+
+    /**
+     * Get the market a token belongs to
+     */
+    public Market getMarketByToken(String tokenId) {
+        return byToken.get(tokenId);
+    }
+
+    /**
+     * Get the markets carrying a tag
+     */
+    public List<Market> getMarketsByTag(String tag) {
+        Set<String> conditionIds = byTag.get(tag);
+        if (conditionIds == null) {
+            return Collections.emptyList();
+        }
+        List<Market> markets = new ArrayList<>(conditionIds.size());
+        for (String conditionId : conditionIds) {
+            Market market = byCondition.get(conditionId);
+            if (market != null) {
+                markets.add(market);
+            }
+        }
+        return markets;
+    }
+
+    /**
+     * Get the outcome of a token (e.g., "Yes"), or null if the token is unknown
+     */
+    public String getOutcome(String tokenId) {
+        MarketToken token = getToken(tokenId);
+        return token != null ? token.getOutcome() : null;
+    }
+
+    /**
+     * Get the minimum tick size of a token's market, or null if the token is unknown
+     */
+    public String getTickSize(String tokenId) {
+        Market market = byToken.get(tokenId);
+        return market != null ? market.getMinimumTickSize() : null;
+    }
+
+    /**
+     * Get the neg risk flag of a token's market, or null if the token is unknown
+     */
+    public Boolean getNegRisk(String tokenId) {
+        Market market = byToken.get(tokenId);
+        return market != null ? market.getNegRisk() : null;
+    }
+
+    /**
+     * Get the canonical instance of a token ID, or the argument if the token is unknown.
+     * Keying long-lived maps by canonical instances avoids holding duplicate copies.
+     */
+    public String internTokenId(String tokenId) {
+        return assetIds.canonical(tokenId);
+    }
+
+    /**
+     * Get the handle of a token ID, or {@link AssetIdTable#NONE} if it was never in the catalog.
+     * Handles of removed tokens stay assigned.
+     */
+    public int getTokenHandle(String tokenId) {
+        return assetIds.handle(tokenId);
+    }
+
+    /**
+     * The symbol table token IDs are registered in
+     */
+    public AssetIdTable getAssetIds() {
+        return assetIds;
+    }
+
+    /**
+     * All tags in the catalog
+     */
+    public Set<String> getTags() {
+        return Collections.unmodifiableSet(byTag.keySet());
+    }
+
+    /**
+     * Number of markets in the catalog
+     */
+    public int size() {
+        return byCondition.size();
+    }
+
+    /**
+     * Number of tokens in the catalog
+     */
+    public int getTokenCount() {
+        return byToken.size();
+    }
+
+    /**
+     * Number of refreshes completed
+     */
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+    /**
+     * Number of markets added, changed or removed by the last refresh
+     */
+    public int getLastChanges() {
+        return lastChanges;
+    }
+
+    /**
+     * Duration of the last refresh, in milliseconds
+     */
+    public long getLastRefreshMs() {
+        return lastRefreshMs;
+    }
+
+    private MarketToken getToken(String tokenId) {
+        Market market = byToken.get(tokenId);
+        if (market == null || market.getTokens() == null) {
+            return null;
+        }
+        for (MarketToken token : market.getTokens()) {
+            if (tokenId.equals(token.getTokenId())) {
+                return token;
+            }
+        }
+        return null;
+    }
+}
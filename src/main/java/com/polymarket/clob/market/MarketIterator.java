@@ -0,0 +1,97 @@
+package com.polymarket.clob.market;
+
+import com.polymarket.clob.exception.PolyException;
+import com.polymarket.clob.model.Market;
+import com.polymarket.clob.model.MarketsPage;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static com.polymarket.clob.Constants.END_CURSOR;
+
+/**
+ * Lazily walks a cursor-paginated markets endpoint.
+ *
+ * <p>The request for the next page is sent as soon as the current page arrives, so it
+ * downloads while the current page is consumed. At most two pages are held at any time,
+ * whatever the size of the catalog.
+ */
+public class MarketIterator implements Iterator<Market> {
+
+    /**
+     * Cursor of the first page
+     */
+    public static final String FIRST_CURSOR = "MA==";
+
+    private final Function<String, CompletableFuture<MarketsPage>> pages;
+    private Iterator<Market> current = Collections.emptyIterator();
+    private CompletableFuture<MarketsPage> next;
+    private int pagesFetched;
+
+    /**
+     * @param pages fetches the page at a cursor
+     */
+    public MarketIterator(Function<String, CompletableFuture<MarketsPage>> pages) {
+        this(pages, FIRST_CURSOR);
+    }
+
+    /**
+     * @param pages  fetches the page at a cursor
+     * @param cursor the cursor to start from
+     */
+    public MarketIterator(Function<String, CompletableFuture<MarketsPage>> pages, String cursor) {
+        this.pages = pages;
+        this.next = isLast(cursor) ? null : pages.apply(cursor);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            MarketsPage page = join(next);
+            pagesFetched++;
+            String cursor = page != null ? page.getNextCursor() : null;
+            next = isLast(cursor) ? null : pages.apply(cursor);
+            List<Market> data = page != null ? page.getData() : null;
+            current = data != null ? data.iterator() : Collections.emptyIterator();
+        }
+        return true;
+    }
+
+    @Override
+    public Market next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Number of pages received so far
+     */
+    public int getPagesFetched() {
+        return pagesFetched;
+    }
+
+    private static boolean isLast(String cursor) {
+        return cursor == null || cursor.isEmpty() || END_CURSOR.equals(cursor);
+    }
+
+    private static MarketsPage join(CompletableFuture<MarketsPage> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PolyException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.polymarket.clob.metrics;
+
+/**
+ * Point-in-time copy of a {@link LatencyHistogram}
+ */
+public final class HistogramSnapshot {
+
+    static final HistogramSnapshot EMPTY = new HistogramSnapshot(new long[0], 0, 0, 0, 0);
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long min, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Number of values recorded
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Smallest value recorded, or 0 if none were
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Largest value recorded, or 0 if none were
+     */
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Value at or below which the given percentage of recorded values fall, to the precision of
+     * the histogram buckets
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return The value, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, LatencyHistogram.highestValueOf(i)));
+            }
+        }
+        return max;
+    }
+
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    public long getP90() {
+        return getValueAtPercentile(90);
+    }
+
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot(count=" + count + ", min=" + min + ", p50=" + getP50()
+                + ", p90=" + getP90() + ", p99=" + getP99() + ", p999=" + getP999() + ", max=" + max + ")";
+    }
+}
@@ -2,10 +2,13 @@ package com.polymarket.clob.model;
 
 
 import com.alibaba.fastjson2.annotation.JSONField;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Represents a best_bid_ask event from the WebSocket stream.
@@ -13,8 +16,6 @@ import lombok.NoArgsConstructor;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 
 public class BestBidAskEvent {
 
@@ -60,6 +61,60 @@ public class BestBidAskEvent {
     @JSONField(name = "timestamp")
     private String timestamp;
 
+    // the decimal fields in fixed point, parsed once when set
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long bestBidFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long bestAskFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long spreadFixed;
+
+    /**
+     * Also used by the builder. The best bid, best ask and spread are parsed into fixed point here, once.
+     */
+    @Builder
+    public BestBidAskEvent(String eventType,
+                           String market,
+                           String assetId,
+                           String bestBid,
+                           String bestAsk,
+                           String spread,
+                           String timestamp) {
+        this.eventType = eventType;
+        this.market = market;
+        this.assetId = assetId;
+        this.bestBid = bestBid;
+        this.bestAsk = bestAsk;
+        this.spread = spread;
+        this.timestamp = timestamp;
+        this.bestBidFixed = FixedPoint.parseField(bestBid);
+        this.bestAskFixed = FixedPoint.parseField(bestAsk);
+        this.spreadFixed = FixedPoint.parseField(spread);
+    }
+
+    public void setBestBid(String bestBid) {
+        this.bestBid = bestBid;
+        this.bestBidFixed = FixedPoint.parseField(bestBid);
+    }
+
+    public void setBestAsk(String bestAsk) {
+        this.bestAsk = bestAsk;
+        this.bestAskFixed = FixedPoint.parseField(bestAsk);
+    }
+
+    public void setSpread(String spread) {
+        this.spread = spread;
+        this.spreadFixed = FixedPoint.parseField(spread);
+    }
+
     /**
      * Get timestamp as long
      */
@@ -74,6 +129,15 @@ public class BestBidAskEvent {
         return bestBid != null ? Double.parseDouble(bestBid) : 0.0;
     }
 
+    /**
+     * Get best bid as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getBestBidAsFixed() {
+        return FixedPoint.checked(bestBidFixed, bestBid);
+    }
+
     /**
      * Get best ask as double
      */
@@ -81,6 +145,15 @@ public class BestBidAskEvent {
         return bestAsk != null ? Double.parseDouble(bestAsk) : 0.0;
     }
 
+    /**
+     * Get best ask as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getBestAskAsFixed() {
+        return FixedPoint.checked(bestAskFixed, bestAsk);
+    }
+
     /**
      * Get spread as double
      */
@@ -88,6 +161,15 @@ public class BestBidAskEvent {
         return spread != null ? Double.parseDouble(spread) : 0.0;
     }
 
+    /**
+     * Get spread as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getSpreadAsFixed() {
+        return FixedPoint.checked(spreadFixed, spread);
+    }
+
     /**
      * Get the mid price (average of best bid and ask)
      */
@@ -0,0 +1,32 @@
+package com.polymarket.clob.model;
+
+import com.alibaba.fastjson2.annotation.JSONField;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Token and optional side for batched market data queries
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookParams {
+    /**
+     * TokenID of the Conditional token asset
+     */
+    @JSONField(name = "token_id")
+    private String tokenId;
+
+    /**
+     * Side (BUY or SELL), only used by price queries
+     */
+    @JSONField(name = "side")
+    private String side;
+
+    public BookParams(String tokenId) {
+        this(tokenId, null);
+    }
+}
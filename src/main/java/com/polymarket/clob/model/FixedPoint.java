@@ -0,0 +1,195 @@
+package com.polymarket.clob.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point decimal arithmetic on plain {@code long}s in units of 1e-6, the precision of
+ * collateral and conditional token amounts.
+ *
+ * <p>A value of {@code 550_000} is 0.55, and {@code 10_000_000} is 10 shares. Keeping prices and
+ * sizes as longs avoids repeated {@code Double.parseDouble} calls and {@code BigDecimal}
+ * allocation. The event models parse their decimal fields once when they are set, so their
+ * {@code get*AsFixed()} accessors only read a field. Digits beyond the sixth decimal are rounded
+ * half up.
+ */
+public final class FixedPoint {
+
+    /**
+     * Number of decimal places
+     */
+    public static final int SCALE = 6;
+
+    /**
+     * The fixed-point representation of 1
+     */
+    public static final long ONE = 1_000_000L;
+
+    /**
+     * Stored by {@link #parseField} for a malformed value, which no valid value can equal
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final long HALF = ONE / 2;
+    private static final long MAX_WHOLE = Long.MAX_VALUE / ONE;
+
+    private FixedPoint() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Parse a plain decimal string such as "0.55", ".55", "-3" or "100.123456"
+     *
+     * @throws IllegalArgumentException if the value is empty, malformed or out of range
+     */
+    public static long parse(CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Empty decimal value");
+        }
+        return parse(value, 0, value.length());
+    }
+
+    private static long parse(CharSequence value, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        if (length <= 0) {
+            throw new IllegalArgumentException("Empty decimal value");
+        }
+        boolean negative = value.charAt(i) == '-';
+        if (negative || value.charAt(i) == '+') {
+            i++;
+        }
+
+        long units = 0;
+        int fractionDigits = -1;
+        boolean digits = false;
+        boolean roundUp = false;
+        for (; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9') {
+                digits = true;
+                if (fractionDigits < 0) {
+                    units = units * 10 + (c - '0');
+                    if (units >= MAX_WHOLE) {
+                        throw new IllegalArgumentException("Decimal value out of range: " + value);
+                    }
+                } else if (fractionDigits < SCALE) {
+                    units = units * 10 + (c - '0');
+                    fractionDigits++;
+                } else if (fractionDigits++ == SCALE) {
+                    roundUp = c >= '5';
+                }
+            } else {
+                throw new IllegalArgumentException("Invalid decimal value: " + value);
+            }
+        }
+        return finish(units, fractionDigits, digits, roundUp, negative, value);
+    }
+
+    /**
+     * Parse a model field when it is set: 0 for null, {@link #INVALID} if malformed, so that
+     * decoding never fails and the accessor still reports the bad value
+     */
+    static long parseField(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return parse(value);
+        } catch (IllegalArgumentException e) {
+            return INVALID;
+        }
+    }
+
+    /**
+     * The value of a field parsed by {@link #parseField}
+     *
+     * @throws IllegalArgumentException if the field value was malformed
+     */
+    static long checked(long units, String value) {
+        return units != INVALID ? units : parse(value);
+    }
+
+    private static long finish(long units, int fractionDigits, boolean digits, boolean roundUp,
+                               boolean negative, Object source) {
+        if (!digits) {
+            throw new IllegalArgumentException("Invalid decimal value: " + source);
+        }
+        for (int f = Math.max(fractionDigits, 0); f < SCALE; f++) {
+            units *= 10;
+        }
+        if (roundUp) {
+            units++;
+        }
+        return negative ? -units : units;
+    }
+
+    /**
+     * Convert a double, rounding to the nearest 1e-6
+     *
+     * @throws IllegalArgumentException if the value is not finite or out of range
+     */
+    public static long fromDouble(double value) {
+        if (!Double.isFinite(value) || Math.abs(value) >= MAX_WHOLE) {
+            throw new IllegalArgumentException("Decimal value out of range: " + value);
+        }
+        return Math.round(value * ONE);
+    }
+
+    public static double toDouble(long units) {
+        return units / (double) ONE;
+    }
+
+    /**
+     * Multiply two fixed-point values, rounding half up
+     *
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    public static long multiply(long a, long b) {
+        if (a >= 0 && b >= 0 && Math.multiplyHigh(a, b) == 0) {
+            long product = a * b;
+            if (product >= 0 && product <= Long.MAX_VALUE - HALF) {
+                return (product + HALF) / ONE;
+            }
+        }
+        return BigDecimal.valueOf(a).multiply(BigDecimal.valueOf(b))
+                .movePointLeft(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Format as a plain decimal string without trailing zeros, e.g. 550000 as "0.55"
+     */
+    public static String toString(long units) {
+        StringBuilder sb = new StringBuilder(24);
+        if (units < 0) {
+            sb.append('-');
+        }
+        long abs = Math.abs(units);
+        sb.append(abs / ONE);
+        long fraction = abs % ONE;
+        if (fraction != 0) {
+            int digits = SCALE;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            sb.append('.');
+            for (int pad = digits - stringSize(fraction); pad > 0; pad--) {
+                sb.append('0');
+            }
+            sb.append(fraction);
+        }
+        return sb.toString();
+    }
+
+    private static int stringSize(long value) {
+        int size = 1;
+        while (value >= 10) {
+            value /= 10;
+            size++;
+        }
+        return size;
+    }
+}
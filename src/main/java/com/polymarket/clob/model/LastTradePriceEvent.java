@@ -2,10 +2,13 @@ package com.polymarket.clob.model;
 
 
 import com.alibaba.fastjson2.annotation.JSONField;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Represents a last_trade_price event from the WebSocket stream.
@@ -13,8 +16,6 @@ import lombok.NoArgsConstructor;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 
 public class LastTradePriceEvent {
 
@@ -66,6 +67,51 @@ public class LastTradePriceEvent {
     @JSONField(name = "timestamp")
     private String timestamp;
 
+    // the decimal fields in fixed point, parsed once when set
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long priceFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long sizeFixed;
+
+    /**
+     * Also used by the builder. The price and size are parsed into fixed point here, once.
+     */
+    @Builder
+    public LastTradePriceEvent(String eventType,
+                               String assetId,
+                               String market,
+                               String price,
+                               String side,
+                               String size,
+                               String feeRateBps,
+                               String timestamp) {
+        this.eventType = eventType;
+        this.assetId = assetId;
+        this.market = market;
+        this.price = price;
+        this.side = side;
+        this.size = size;
+        this.feeRateBps = feeRateBps;
+        this.timestamp = timestamp;
+        this.priceFixed = FixedPoint.parseField(price);
+        this.sizeFixed = FixedPoint.parseField(size);
+    }
+
+    public void setPrice(String price) {
+        this.price = price;
+        this.priceFixed = FixedPoint.parseField(price);
+    }
+
+    public void setSize(String size) {
+        this.size = size;
+        this.sizeFixed = FixedPoint.parseField(size);
+    }
+
     /**
      * Get timestamp as long
      */
@@ -80,6 +126,15 @@ public class LastTradePriceEvent {
         return price != null ? Double.parseDouble(price) : 0.0;
     }
 
+    /**
+     * Get price as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getPriceAsFixed() {
+        return FixedPoint.checked(priceFixed, price);
+    }
+
     /**
      * Get size as double
      */
@@ -87,6 +142,15 @@ public class LastTradePriceEvent {
         return size != null ? Double.parseDouble(size) : 0.0;
     }
 
+    /**
+     * Get size as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getSizeAsFixed() {
+        return FixedPoint.checked(sizeFixed, size);
+    }
+
     /**
      * Get fee rate as integer
      */
@@ -0,0 +1,108 @@
+package com.polymarket.clob.model;
+
+import com.alibaba.fastjson2.annotation.JSONField;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A CLOB market as returned by the markets endpoints.
+ * Simplified and sampling-simplified endpoints only fill the condition ID, tokens, rewards
+ * and status flags.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Market {
+
+    /**
+     * The market condition ID
+     */
+    @JSONField(name = "condition_id")
+    private String conditionId;
+
+    @JSONField(name = "question_id")
+    private String questionId;
+
+    @JSONField(name = "question")
+    private String question;
+
+    @JSONField(name = "description")
+    private String description;
+
+    @JSONField(name = "market_slug")
+    private String marketSlug;
+
+    @JSONField(name = "category")
+    private String category;
+
+    @JSONField(name = "end_date_iso")
+    private String endDateIso;
+
+    @JSONField(name = "game_start_time")
+    private String gameStartTime;
+
+    /**
+     * The outcome tokens of the market
+     */
+    @JSONField(name = "tokens")
+    private List<MarketToken> tokens;
+
+    /**
+     * Liquidity reward parameters
+     */
+    @JSONField(name = "rewards")
+    private Map<String, Object> rewards;
+
+    /**
+     * Minimum price increment (e.g., "0.01")
+     */
+    @JSONField(name = "minimum_tick_size")
+    private String minimumTickSize;
+
+    @JSONField(name = "minimum_order_size")
+    private String minimumOrderSize;
+
+    @JSONField(name = "maker_base_fee")
+    private Integer makerBaseFee;
+
+    @JSONField(name = "taker_base_fee")
+    private Integer takerBaseFee;
+
+    /**
+     * Whether the market settles through the neg risk exchange
+     */
+    @JSONField(name = "neg_risk")
+    private Boolean negRisk;
+
+    @JSONField(name = "neg_risk_market_id")
+    private String negRiskMarketId;
+
+    @JSONField(name = "active")
+    private Boolean active;
+
+    @JSONField(name = "closed")
+    private Boolean closed;
+
+    @JSONField(name = "archived")
+    private Boolean archived;
+
+    @JSONField(name = "accepting_orders")
+    private Boolean acceptingOrders;
+
+    @JSONField(name = "tags")
+    private List<String> tags;
+
+    public boolean isNegRiskMarket() {
+        return Boolean.TRUE.equals(negRisk);
+    }
+
+    public boolean isAcceptingOrders() {
+        return Boolean.TRUE.equals(acceptingOrders);
+    }
+}
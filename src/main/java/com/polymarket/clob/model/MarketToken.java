@@ -0,0 +1,41 @@
+package com.polymarket.clob.model;
+
+import com.alibaba.fastjson2.annotation.JSONField;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An outcome token of a {@link Market}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarketToken {
+
+    /**
+     * The ERC1155 token ID, used as asset ID in order books and orders
+     */
+    @JSONField(name = "token_id")
+    private String tokenId;
+
+    /**
+     * The outcome the token pays out on (e.g., "Yes", "No")
+     */
+    @JSONField(name = "outcome")
+    private String outcome;
+
+    /**
+     * Last known price of the token
+     */
+    @JSONField(name = "price")
+    private Double price;
+
+    /**
+     * Whether the token is the winning outcome of a resolved market
+     */
+    @JSONField(name = "winner")
+    private Boolean winner;
+}
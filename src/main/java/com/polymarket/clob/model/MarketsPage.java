@@ -0,0 +1,34 @@
+package com.polymarket.clob.model;
+
+import com.alibaba.fastjson2.annotation.JSONField;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated markets endpoint
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarketsPage {
+
+    @JSONField(name = "limit")
+    private Integer limit;
+
+    @JSONField(name = "count")
+    private Integer count;
+
+    /**
+     * Cursor of the next page, {@code "LTE="} on the last page
+     */
+    @JSONField(name = "next_cursor")
+    private String nextCursor;
+
+    @JSONField(name = "data")
+    private List<Market> data;
+}
@@ -15,12 +15,18 @@ public class OrderBookEntry {
     @JSONField(name = "size")
     private String size;
 
+    // the decimal fields in fixed point, parsed once when set
+    private long priceFixed;
+    private long sizeFixed;
+
     public OrderBookEntry() {
     }
 
     public OrderBookEntry(String price, String size) {
         this.price = price;
         this.size = size;
+        this.priceFixed = FixedPoint.parseField(price);
+        this.sizeFixed = FixedPoint.parseField(size);
     }
 
     public String getPrice() {
@@ -29,6 +35,7 @@ public class OrderBookEntry {
 
     public void setPrice(String price) {
         this.price = price;
+        this.priceFixed = FixedPoint.parseField(price);
     }
 
     public String getSize() {
@@ -37,16 +44,25 @@ public class OrderBookEntry {
 
     public void setSize(String size) {
         this.size = size;
+        this.sizeFixed = FixedPoint.parseField(size);
     }
 
     public double getPriceAsDouble() {
         return price != null ? Double.parseDouble(price) : 0.0;
     }
 
+    public long getPriceAsFixed() {
+        return FixedPoint.checked(priceFixed, price);
+    }
+
     public double getSizeAsDouble() {
         return size != null ? Double.parseDouble(size) : 0.0;
     }
 
+    public long getSizeAsFixed() {
+        return FixedPoint.checked(sizeFixed, size);
+    }
+
     @Override
     public String toString() {
         return "OrderBookEntry{" +
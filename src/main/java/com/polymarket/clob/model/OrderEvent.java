@@ -2,10 +2,13 @@ package com.polymarket.clob.model;
 
 
 import com.alibaba.fastjson2.annotation.JSONField;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.List;
 
@@ -15,8 +18,6 @@ import java.util.List;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 
 public class OrderEvent {
 
@@ -104,6 +105,74 @@ public class OrderEvent {
     @JSONField(name = "associate_trades")
     private List<String> associateTrades;
 
+    // the decimal fields in fixed point, parsed once when set
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long priceFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long originalSizeFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long sizeMatchedFixed;
+
+    /**
+     * Also used by the builder. The price and sizes are parsed into fixed point here, once.
+     */
+    @Builder
+    public OrderEvent(String eventType,
+                      String assetId,
+                      String market,
+                      String id,
+                      String price,
+                      String side,
+                      String originalSize,
+                      String sizeMatched,
+                      String outcome,
+                      String owner,
+                      String orderOwner,
+                      String type,
+                      String timestamp,
+                      List<String> associateTrades) {
+        this.eventType = eventType;
+        this.assetId = assetId;
+        this.market = market;
+        this.id = id;
+        this.price = price;
+        this.side = side;
+        this.originalSize = originalSize;
+        this.sizeMatched = sizeMatched;
+        this.outcome = outcome;
+        this.owner = owner;
+        this.orderOwner = orderOwner;
+        this.type = type;
+        this.timestamp = timestamp;
+        this.associateTrades = associateTrades;
+        this.priceFixed = FixedPoint.parseField(price);
+        this.originalSizeFixed = FixedPoint.parseField(originalSize);
+        this.sizeMatchedFixed = FixedPoint.parseField(sizeMatched);
+    }
+
+    public void setPrice(String price) {
+        this.price = price;
+        this.priceFixed = FixedPoint.parseField(price);
+    }
+
+    public void setOriginalSize(String originalSize) {
+        this.originalSize = originalSize;
+        this.originalSizeFixed = FixedPoint.parseField(originalSize);
+    }
+
+    public void setSizeMatched(String sizeMatched) {
+        this.sizeMatched = sizeMatched;
+        this.sizeMatchedFixed = FixedPoint.parseField(sizeMatched);
+    }
+
     /**
      * Get timestamp as long
      */
@@ -118,6 +187,15 @@ public class OrderEvent {
         return price != null ? Double.parseDouble(price) : 0.0;
     }
 
+    /**
+     * Get price as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getPriceAsFixed() {
+        return FixedPoint.checked(priceFixed, price);
+    }
+
     /**
      * Get original size as double
      */
@@ -125,6 +203,15 @@ public class OrderEvent {
         return originalSize != null ? Double.parseDouble(originalSize) : 0.0;
     }
 
+    /**
+     * Get original size as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getOriginalSizeAsFixed() {
+        return FixedPoint.checked(originalSizeFixed, originalSize);
+    }
+
     /**
      * Get size matched as double
      */
@@ -132,6 +219,15 @@ public class OrderEvent {
         return sizeMatched != null ? Double.parseDouble(sizeMatched) : 0.0;
     }
 
+    /**
+     * Get size matched as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getSizeMatchedAsFixed() {
+        return FixedPoint.checked(sizeMatchedFixed, sizeMatched);
+    }
+
     /**
      * Get remaining size (original - matched)
      */
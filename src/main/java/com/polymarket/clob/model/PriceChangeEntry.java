@@ -2,10 +2,13 @@ package com.polymarket.clob.model;
 
 
 import com.alibaba.fastjson2.annotation.JSONField;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Represents a single price change entry for an asset.
@@ -13,8 +16,6 @@ import lombok.NoArgsConstructor;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 
 public class PriceChangeEntry {
 
@@ -60,6 +61,71 @@ public class PriceChangeEntry {
     @JSONField(name = "best_ask")
     private String bestAsk;
 
+    // the decimal fields in fixed point, parsed once when set
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long priceFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long sizeFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long bestBidFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long bestAskFixed;
+
+    /**
+     * Also used by the builder. The price, size and best bid/ask are parsed into fixed point here, once.
+     */
+    @Builder
+    public PriceChangeEntry(String assetId,
+                            String price,
+                            String size,
+                            String side,
+                            String hash,
+                            String bestBid,
+                            String bestAsk) {
+        this.assetId = assetId;
+        this.price = price;
+        this.size = size;
+        this.side = side;
+        this.hash = hash;
+        this.bestBid = bestBid;
+        this.bestAsk = bestAsk;
+        this.priceFixed = FixedPoint.parseField(price);
+        this.sizeFixed = FixedPoint.parseField(size);
+        this.bestBidFixed = FixedPoint.parseField(bestBid);
+        this.bestAskFixed = FixedPoint.parseField(bestAsk);
+    }
+
+    public void setPrice(String price) {
+        this.price = price;
+        this.priceFixed = FixedPoint.parseField(price);
+    }
+
+    public void setSize(String size) {
+        this.size = size;
+        this.sizeFixed = FixedPoint.parseField(size);
+    }
+
+    public void setBestBid(String bestBid) {
+        this.bestBid = bestBid;
+        this.bestBidFixed = FixedPoint.parseField(bestBid);
+    }
+
+    public void setBestAsk(String bestAsk) {
+        this.bestAsk = bestAsk;
+        this.bestAskFixed = FixedPoint.parseField(bestAsk);
+    }
+
     /**
      * Get price as double
      */
@@ -67,6 +133,15 @@ public class PriceChangeEntry {
         return price != null ? Double.parseDouble(price) : 0.0;
     }
 
+    /**
+     * Get price as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getPriceAsFixed() {
+        return FixedPoint.checked(priceFixed, price);
+    }
+
     /**
      * Get size as double
      */
@@ -74,6 +149,15 @@ public class PriceChangeEntry {
         return size != null ? Double.parseDouble(size) : 0.0;
     }
 
+    /**
+     * Get size as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getSizeAsFixed() {
+        return FixedPoint.checked(sizeFixed, size);
+    }
+
     /**
      * Get best bid as double
      */
@@ -81,11 +165,29 @@ public class PriceChangeEntry {
         return bestBid != null ? Double.parseDouble(bestBid) : 0.0;
     }
 
+    /**
+     * Get best bid as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getBestBidAsFixed() {
+        return FixedPoint.checked(bestBidFixed, bestBid);
+    }
+
     /**
      * Get best ask as double
      */
     public double getBestAskAsDouble() {
         return bestAsk != null ? Double.parseDouble(bestAsk) : 0.0;
     }
+
+    /**
+     * Get best ask as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getBestAskAsFixed() {
+        return FixedPoint.checked(bestAskFixed, bestAsk);
+    }
 }
 
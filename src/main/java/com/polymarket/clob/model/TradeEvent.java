@@ -2,10 +2,13 @@ package com.polymarket.clob.model;
 
 
 import com.alibaba.fastjson2.annotation.JSONField;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.List;
 
@@ -15,8 +18,6 @@ import java.util.List;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 
 public class TradeEvent {
 
@@ -122,6 +123,69 @@ public class TradeEvent {
     @JSONField(name = "last_update")
     private String lastUpdate;
 
+    // the decimal fields in fixed point, parsed once when set
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long priceFixed;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long sizeFixed;
+
+    /**
+     * Also used by the builder. The price and size are parsed into fixed point here, once.
+     */
+    @Builder
+    public TradeEvent(String eventType,
+                      String assetId,
+                      String market,
+                      String id,
+                      String price,
+                      String side,
+                      String size,
+                      String outcome,
+                      String owner,
+                      String tradeOwner,
+                      String takerOrderId,
+                      List<MakerOrder> makerOrders,
+                      String status,
+                      String type,
+                      String timestamp,
+                      String matchtime,
+                      String lastUpdate) {
+        this.eventType = eventType;
+        this.assetId = assetId;
+        this.market = market;
+        this.id = id;
+        this.price = price;
+        this.side = side;
+        this.size = size;
+        this.outcome = outcome;
+        this.owner = owner;
+        this.tradeOwner = tradeOwner;
+        this.takerOrderId = takerOrderId;
+        this.makerOrders = makerOrders;
+        this.status = status;
+        this.type = type;
+        this.timestamp = timestamp;
+        this.matchtime = matchtime;
+        this.lastUpdate = lastUpdate;
+        this.priceFixed = FixedPoint.parseField(price);
+        this.sizeFixed = FixedPoint.parseField(size);
+    }
+
+    public void setPrice(String price) {
+        this.price = price;
+        this.priceFixed = FixedPoint.parseField(price);
+    }
+
+    public void setSize(String size) {
+        this.size = size;
+        this.sizeFixed = FixedPoint.parseField(size);
+    }
+
     /**
      * Get timestamp as long
      */
@@ -150,6 +214,15 @@ public class TradeEvent {
         return price != null ? Double.parseDouble(price) : 0.0;
     }
 
+    /**
+     * Get price as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getPriceAsFixed() {
+        return FixedPoint.checked(priceFixed, price);
+    }
+
     /**
      * Get size as double
      */
@@ -157,6 +230,15 @@ public class TradeEvent {
         return size != null ? Double.parseDouble(size) : 0.0;
     }
 
+    /**
+     * Get size as a fixed-point value in 1e-6 units
+     *
+     * @see FixedPoint
+     */
+    public long getSizeAsFixed() {
+        return FixedPoint.checked(sizeFixed, size);
+    }
+
     /**
      * Get total trade value (price * size)
      */
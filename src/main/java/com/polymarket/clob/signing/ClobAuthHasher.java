@@ -0,0 +1,123 @@
+package com.polymarket.clob.signing;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed EIP-712 hasher for the fixed-schema {@link ClobAuth} message used by Level 1 auth.
+ *
+ * <p>The {@code ClobAuthDomain} separator is cached per chainId, and the type hash and the hash of
+ * the constant attestation message are computed once. Hashing a message only encodes the address,
+ * timestamp and nonce into a thread-local buffer.
+ */
+public final class ClobAuthHasher {
+
+    static final String DOMAIN_TYPE = "EIP712Domain(string name,string version,uint256 chainId)";
+    static final String CLOB_AUTH_TYPE = "ClobAuth(address address,string timestamp,uint256 nonce,string message)";
+
+    private static final int WORD = 32;
+    private static final int CLOB_AUTH_WORDS = 5; // type hash + 4 fields
+
+    private static final byte[] DOMAIN_TYPE_HASH = keccak(DOMAIN_TYPE.getBytes(StandardCharsets.UTF_8));
+    private static final byte[] CLOB_AUTH_TYPE_HASH = keccak(CLOB_AUTH_TYPE.getBytes(StandardCharsets.UTF_8));
+    private static final byte[] DOMAIN_NAME_HASH = keccak(ClobAuth.CLOB_DOMAIN_NAME.getBytes(StandardCharsets.UTF_8));
+    private static final byte[] DOMAIN_VERSION_HASH = keccak(ClobAuth.CLOB_VERSION.getBytes(StandardCharsets.UTF_8));
+    private static final byte[] MESSAGE_HASH = keccak(ClobAuth.MSG_TO_SIGN.getBytes(StandardCharsets.UTF_8));
+
+    private static final Map<Integer, byte[]> DOMAIN_SEPARATORS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<KeccakDigest> DIGEST = ThreadLocal.withInitial(() -> new KeccakDigest(256));
+    private static final ThreadLocal<byte[]> STRUCT_BUFFER = ThreadLocal.withInitial(() -> new byte[CLOB_AUTH_WORDS * WORD]);
+    private static final ThreadLocal<byte[]> MESSAGE_BUFFER = ThreadLocal.withInitial(() -> new byte[2 + 2 * WORD]);
+    private static final ThreadLocal<byte[]> TIMESTAMP_BUFFER = ThreadLocal.withInitial(() -> new byte[20]);
+
+    private ClobAuthHasher() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Get the cached {@code ClobAuthDomain} separator for a chain
+     *
+     * @param chainId The chain ID
+     * @return The 32-byte domain separator (shared, do not modify)
+     */
+    public static byte[] domainSeparator(int chainId) {
+        return DOMAIN_SEPARATORS.computeIfAbsent(chainId, id -> {
+            byte[] buf = new byte[4 * WORD];
+            System.arraycopy(DOMAIN_TYPE_HASH, 0, buf, 0, WORD);
+            System.arraycopy(DOMAIN_NAME_HASH, 0, buf, WORD, WORD);
+            System.arraycopy(DOMAIN_VERSION_HASH, 0, buf, 2 * WORD, WORD);
+            OrderHasher.putUint64(buf, 3 * WORD, id);
+            return keccak(buf);
+        });
+    }
+
+    /**
+     * Compute the EIP-712 digest of a ClobAuth message with the standard attestation text
+     *
+     * @param address   The signer address
+     * @param timestamp The timestamp in seconds (encoded as its decimal string)
+     * @param nonce     The nonce
+     * @param chainId   The chain ID
+     * @return The 32-byte digest ready to be signed
+     */
+    public static byte[] hash(String address, long timestamp, long nonce, int chainId) {
+        if (timestamp < 0 || nonce < 0) {
+            throw new IllegalArgumentException("Timestamp and nonce must be non-negative");
+        }
+        byte[] domainSeparator = domainSeparator(chainId);
+        KeccakDigest digest = DIGEST.get();
+
+        byte[] struct = STRUCT_BUFFER.get();
+        Arrays.fill(struct, (byte) 0);
+        System.arraycopy(CLOB_AUTH_TYPE_HASH, 0, struct, 0, WORD);
+        OrderHasher.putAddress(struct, WORD, address);
+
+        // string fields are encoded as the keccak of their UTF-8 bytes
+        byte[] ts = TIMESTAMP_BUFFER.get();
+        int tsLen = writeDecimal(ts, timestamp);
+        digest.update(ts, ts.length - tsLen, tsLen);
+        digest.doFinal(struct, 2 * WORD);
+
+        OrderHasher.putUint64(struct, 3 * WORD, nonce);
+        System.arraycopy(MESSAGE_HASH, 0, struct, 4 * WORD, WORD);
+
+        byte[] message = MESSAGE_BUFFER.get();
+        message[0] = 0x19;
+        message[1] = 0x01;
+        System.arraycopy(domainSeparator, 0, message, 2, WORD);
+        digest.update(struct, 0, struct.length);
+        digest.doFinal(message, 2 + WORD);
+
+        byte[] out = new byte[WORD];
+        digest.update(message, 0, message.length);
+        digest.doFinal(out, 0);
+        return out;
+    }
+
+    /**
+     * Write the ASCII decimal digits of a non-negative value right-aligned into buf
+     *
+     * @return The number of digits written
+     */
+    private static int writeDecimal(byte[] buf, long value) {
+        int pos = buf.length;
+        do {
+            buf[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        return buf.length - pos;
+    }
+
+    private static byte[] keccak(byte[] input) {
+        KeccakDigest digest = new KeccakDigest(256);
+        digest.update(input, 0, input.length);
+        byte[] out = new byte[WORD];
+        digest.doFinal(out, 0);
+        return out;
+    }
+}
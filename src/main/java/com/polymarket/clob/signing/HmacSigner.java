@@ -0,0 +1,158 @@
+package com.polymarket.clob.signing;
+
+import com.polymarket.clob.model.ApiCreds;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Level 2 HMAC signer bound to one set of API credentials.
+ *
+ * <p>The secret is decoded once, and each thread keeps its own initialized {@link Mac} and a
+ * reusable message buffer, so signing a request costs the HMAC itself plus the encoded
+ * signature. Produces the same signatures as {@link HmacSignature#buildHmacSignature}.
+ *
+ * <p>The credentials are copied on construction; create a new signer when they change.
+ */
+public class HmacSigner {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final String apiKey;
+    private final String apiSecret;
+    private final String apiPassphrase;
+    private final SecretKeySpec key;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(this::newState);
+
+    private static final class State {
+        final Mac mac;
+        final byte[] digest;
+        byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+        State(Mac mac) {
+            this.mac = mac;
+            this.digest = new byte[mac.getMacLength()];
+        }
+    }
+
+    /**
+     * @param creds the API credentials, whose secret is base64 (URL-safe) encoded
+     * @throws IllegalArgumentException if the secret is not valid base64
+     */
+    public HmacSigner(ApiCreds creds) {
+        this.apiKey = creds.getApiKey();
+        this.apiSecret = creds.getApiSecret();
+        this.apiPassphrase = creds.getApiPassphrase();
+        this.key = new SecretKeySpec(Base64.getUrlDecoder().decode(apiSecret), HMAC_SHA256);
+    }
+
+    /**
+     * Build the HMAC signature of a request
+     *
+     * @param timestamp   The timestamp in seconds
+     * @param method      The HTTP method
+     * @param requestPath The request path
+     * @param body        The request body (can be null)
+     * @return Base64-encoded HMAC signature
+     */
+    public String sign(long timestamp, String method, String requestPath, String body) {
+        State current = state.get();
+        int length = encodeLong(current, 0, timestamp);
+        length = encode(current, length, method);
+        length = encode(current, length, requestPath);
+        if (body != null) {
+            length = encode(current, length, body);
+        }
+        try {
+            current.mac.update(current.buffer, 0, length);
+            current.mac.doFinal(current.digest, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("Failed to create HMAC signature", e);
+        }
+        return Base64.getUrlEncoder().encodeToString(current.digest);
+    }
+
+    /**
+     * Whether this signer was built from credentials equal to the given ones
+     */
+    public boolean isBoundTo(ApiCreds creds) {
+        return creds != null
+                && Objects.equals(apiKey, creds.getApiKey())
+                && Objects.equals(apiSecret, creds.getApiSecret())
+                && Objects.equals(apiPassphrase, creds.getApiPassphrase());
+    }
+
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    public String getApiPassphrase() {
+        return apiPassphrase;
+    }
+
+    private State newState() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(key);
+            return new State(mac);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to create HMAC signature", e);
+        }
+    }
+
+    /**
+     * Append the decimal digits of a value to the buffer
+     *
+     * @return the new position
+     */
+    private static int encodeLong(State state, int position, long value) {
+        if (value < 0) {
+            return encode(state, position, Long.toString(value));
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        ensureCapacity(state, position + digits);
+        for (int i = position + digits - 1; i >= position; i--) {
+            state.buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + digits;
+    }
+
+    /**
+     * Append the UTF-8 bytes of a string to the buffer, copying ASCII without allocating
+     *
+     * @return the new position
+     */
+    private static int encode(State state, int position, String text) {
+        int n = text.length();
+        ensureCapacity(state, position + n);
+        byte[] buffer = state.buffer;
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                byte[] rest = text.substring(i).getBytes(StandardCharsets.UTF_8);
+                ensureCapacity(state, position + i + rest.length);
+                System.arraycopy(rest, 0, state.buffer, position + i, rest.length);
+                return position + i + rest.length;
+            }
+            buffer[position + i] = (byte) c;
+        }
+        return position + n;
+    }
+
+    private static void ensureCapacity(State state, int capacity) {
+        if (capacity > state.buffer.length) {
+            state.buffer = Arrays.copyOf(state.buffer, Math.max(capacity, state.buffer.length * 2));
+        }
+    }
+}
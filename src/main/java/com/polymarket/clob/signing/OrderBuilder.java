@@ -1,24 +1,16 @@
 package com.polymarket.clob.signing;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.polymarket.clob.Constants;
-import com.polymarket.clob.config.Config;
 import com.polymarket.clob.model.*;
-import org.web3j.crypto.StructuredDataEncoder;
 
-import java.io.IOException;
-import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.math.RoundingMode;
 import java.security.SecureRandom;
-import java.util.*;
 
 /**
  * Builds and signs orders for the CLOB
  */
 public class OrderBuilder {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     private static final SecureRandom random = new SecureRandom();
 
     private final Signer signer;
@@ -56,21 +48,22 @@ public class OrderBuilder {
         // Generate salt
         String salt = generateSalt();
 
-        // Calculate amounts
-        BigDecimal price = new BigDecimal(String.valueOf(orderArgs.getPrice()));
-        BigDecimal size = new BigDecimal(String.valueOf(orderArgs.getSize()));
+        // Calculate amounts in token units (6 decimals)
+        long price = FixedPoint.fromDouble(orderArgs.getPrice());
+        long size = FixedPoint.fromDouble(orderArgs.getSize());
+        long notional = FixedPoint.multiply(price, size);
 
         String makerAmount;
         String takerAmount;
 
         if (Constants.BUY.equals(orderArgs.getSide())) {
             // For BUY orders: maker pays price*size, receives size
-            makerAmount = price.multiply(size).setScale(6, RoundingMode.HALF_UP).toPlainString();
-            takerAmount = size.setScale(6, RoundingMode.HALF_UP).toPlainString();
+            makerAmount = Long.toString(notional);
+            takerAmount = Long.toString(size);
         } else {
             // For SELL orders: maker pays size, receives price*size
-            makerAmount = size.setScale(6, RoundingMode.HALF_UP).toPlainString();
-            takerAmount = price.multiply(size).setScale(6, RoundingMode.HALF_UP).toPlainString();
+            makerAmount = Long.toString(size);
+            takerAmount = Long.toString(notional);
         }
 
         // Build the order
@@ -127,74 +120,10 @@ public class OrderBuilder {
      * @return The signature as a hex string
      */
     private String signOrder(SignedOrder order, boolean negRisk) {
-        try {
-            // Get the contract config for the exchange address
-            ContractConfig config = Config.getContractConfig(signer.getChainId(), negRisk);
-            String exchangeAddress = config.getExchange();
-
-            // Build EIP-712 typed data
-            Map<String, Object> typedData = new HashMap<>();
-
-            // Domain
-            Map<String, Object> domain = new HashMap<>();
-            domain.put("name", "Polymarket CTF Exchange");
-            domain.put("version", "1");
-            domain.put("chainId", signer.getChainId());
-            domain.put("verifyingContract", exchangeAddress);
-            typedData.put("domain", domain);
-
-            // Types
-            Map<String, List<Map<String, String>>> types = new HashMap<>();
-            List<Map<String, String>> orderType = Arrays.asList(
-                    createType("salt", "uint256"),
-                    createType("maker", "address"),
-                    createType("signer", "address"),
-                    createType("taker", "address"),
-                    createType("tokenId", "uint256"),
-                    createType("makerAmount", "uint256"),
-                    createType("takerAmount", "uint256"),
-                    createType("expiration", "uint256"),
-                    createType("nonce", "uint256"),
-                    createType("feeRateBps", "uint256"),
-                    createType("side", "uint8"),
-                    createType("signatureType", "uint8")
-            );
-            types.put("Order", orderType);
-            typedData.put("types", types);
-
-            // Message
-            Map<String, Object> message = new HashMap<>();
-            message.put("salt", order.getSalt());
-            message.put("maker", order.getMaker());
-            message.put("signer", order.getSigner());
-            message.put("taker", order.getTaker());
-            message.put("tokenId", order.getTokenId());
-            message.put("makerAmount", order.getMakerAmount());
-            message.put("takerAmount", order.getTakerAmount());
-            message.put("expiration", order.getExpiration());
-            message.put("nonce", order.getNonce());
-            message.put("feeRateBps", order.getFeeRateBps());
-            message.put("side", Constants.BUY.equals(order.getSide()) ? 0 : 1);
-            message.put("signatureType", order.getSignatureType());
-            typedData.put("message", message);
-
-            // Primary type
-            typedData.put("primaryType", "Order");
-
-            // Convert to JSON and create structured data encoder
-            String jsonTypedData = objectMapper.writeValueAsString(typedData);
-            StructuredDataEncoder encoder = new StructuredDataEncoder(jsonTypedData);
-
-            // Get the hash to sign
-            byte[] structHash = encoder.hashStructuredData();
-
-            // Sign and return
-            String signature = signer.sign(structHash);
-            return signature.startsWith("0x") ? signature : "0x" + signature;
-
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to sign order", e);
-        }
+        byte[] structHash = OrderHasher.hash(order, signer.getChainId(), negRisk);
+
+        String signature = signer.sign(structHash);
+        return signature.startsWith("0x") ? signature : "0x" + signature;
     }
 
     /**
@@ -206,15 +135,4 @@ public class OrderBuilder {
         BigInteger salt = new BigInteger(1, bytes);
         return salt.toString();
     }
-
-    /**
-     * Create a type definition for EIP-712
-     */
-    private static Map<String, String> createType(String name, String type) {
-        Map<String, String> typeMap = new HashMap<>();
-        typeMap.put("name", name);
-        typeMap.put("type", type);
-        return typeMap;
-    }
 }
-
@@ -0,0 +1,197 @@
+package com.polymarket.clob.signing;
+
+import com.polymarket.clob.Constants;
+import com.polymarket.clob.config.Config;
+import com.polymarket.clob.model.SignedOrder;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed EIP-712 hasher for the fixed-shape CTF Exchange {@code Order} struct.
+ *
+ * <p>The domain separator is cached per (chainId, negRisk) exchange and the {@code Order}
+ * type hash is computed once, so hashing an order only encodes its 12 fields into a
+ * thread-local buffer and runs keccak256 twice. The result is byte-identical to the
+ * digest produced by web3j's {@code StructuredDataEncoder} for the same typed data.
+ */
+public final class OrderHasher {
+
+    public static final String DOMAIN_NAME = "Polymarket CTF Exchange";
+    public static final String DOMAIN_VERSION = "1";
+
+    static final String DOMAIN_TYPE =
+            "EIP712Domain(string name,string version,uint256 chainId,address verifyingContract)";
+
+    static final String ORDER_TYPE =
+            "Order(uint256 salt,address maker,address signer,address taker,uint256 tokenId,"
+                    + "uint256 makerAmount,uint256 takerAmount,uint256 expiration,uint256 nonce,"
+                    + "uint256 feeRateBps,uint8 side,uint8 signatureType)";
+
+    private static final int WORD = 32;
+    private static final int ORDER_WORDS = 13; // type hash + 12 fields
+
+    private static final byte[] DOMAIN_TYPE_HASH = keccak(DOMAIN_TYPE.getBytes(StandardCharsets.UTF_8));
+    private static final byte[] ORDER_TYPE_HASH = keccak(ORDER_TYPE.getBytes(StandardCharsets.UTF_8));
+    private static final byte[] DOMAIN_NAME_HASH = keccak(DOMAIN_NAME.getBytes(StandardCharsets.UTF_8));
+    private static final byte[] DOMAIN_VERSION_HASH = keccak(DOMAIN_VERSION.getBytes(StandardCharsets.UTF_8));
+
+    private static final Map<Long, byte[]> DOMAIN_SEPARATORS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<KeccakDigest> DIGEST = ThreadLocal.withInitial(() -> new KeccakDigest(256));
+    private static final ThreadLocal<byte[]> STRUCT_BUFFER = ThreadLocal.withInitial(() -> new byte[ORDER_WORDS * WORD]);
+    private static final ThreadLocal<byte[]> MESSAGE_BUFFER = ThreadLocal.withInitial(() -> new byte[2 + 2 * WORD]);
+
+    private OrderHasher() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Get the cached EIP-712 domain separator for the exchange on the given chain
+     *
+     * @param chainId The chain ID
+     * @param negRisk Whether to use the negative risk exchange
+     * @return The 32-byte domain separator (shared, do not modify)
+     */
+    public static byte[] domainSeparator(int chainId, boolean negRisk) {
+        long key = ((long) chainId << 1) | (negRisk ? 1L : 0L);
+        return DOMAIN_SEPARATORS.computeIfAbsent(key, k -> {
+            String exchange = Config.getContractConfig(chainId, negRisk).getExchange();
+            byte[] buf = new byte[5 * WORD];
+            System.arraycopy(DOMAIN_TYPE_HASH, 0, buf, 0, WORD);
+            System.arraycopy(DOMAIN_NAME_HASH, 0, buf, WORD, WORD);
+            System.arraycopy(DOMAIN_VERSION_HASH, 0, buf, 2 * WORD, WORD);
+            putUint64(buf, 3 * WORD, chainId);
+            putAddress(buf, 4 * WORD, exchange);
+            return keccak(buf);
+        });
+    }
+
+    /**
+     * Get the {@code Order} type hash
+     *
+     * @return A copy of the 32-byte type hash
+     */
+    public static byte[] orderTypeHash() {
+        return ORDER_TYPE_HASH.clone();
+    }
+
+    /**
+     * Compute the EIP-712 digest of an order, ready to be signed
+     *
+     * @param order   The order (signature field is ignored)
+     * @param chainId The chain ID
+     * @param negRisk Whether the order targets the negative risk exchange
+     * @return The 32-byte digest {@code keccak256(0x1901 || domainSeparator || hashStruct(order))}
+     */
+    public static byte[] hash(SignedOrder order, int chainId, boolean negRisk) {
+        byte[] domainSeparator = domainSeparator(chainId, negRisk);
+
+        byte[] struct = STRUCT_BUFFER.get();
+        Arrays.fill(struct, (byte) 0);
+        System.arraycopy(ORDER_TYPE_HASH, 0, struct, 0, WORD);
+        putUint256(struct, WORD, order.getSalt());
+        putAddress(struct, 2 * WORD, order.getMaker());
+        putAddress(struct, 3 * WORD, order.getSigner());
+        putAddress(struct, 4 * WORD, order.getTaker());
+        putUint256(struct, 5 * WORD, order.getTokenId());
+        putUint256(struct, 6 * WORD, order.getMakerAmount());
+        putUint256(struct, 7 * WORD, order.getTakerAmount());
+        putUint256(struct, 8 * WORD, order.getExpiration());
+        putUint256(struct, 9 * WORD, order.getNonce());
+        putUint256(struct, 10 * WORD, order.getFeeRateBps());
+        struct[12 * WORD - 1] = (byte) (Constants.BUY.equals(order.getSide()) ? 0 : 1);
+        struct[13 * WORD - 1] = (byte) order.getSignatureType();
+
+        KeccakDigest digest = DIGEST.get();
+        byte[] message = MESSAGE_BUFFER.get();
+        message[0] = 0x19;
+        message[1] = 0x01;
+        System.arraycopy(domainSeparator, 0, message, 2, WORD);
+        digest.update(struct, 0, struct.length);
+        digest.doFinal(message, 2 + WORD);
+
+        byte[] out = new byte[WORD];
+        digest.update(message, 0, message.length);
+        digest.doFinal(out, 0);
+        return out;
+    }
+
+    /**
+     * Encode a non-negative decimal string as a big-endian uint256 word (the target word must be zeroed)
+     */
+    static void putUint256(byte[] buf, int offset, String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing uint256 value");
+        }
+        int len = value.length();
+        if (len <= 18) {
+            long v = 0;
+            for (int i = 0; i < len; i++) {
+                v = v * 10 + digit(value, i);
+            }
+            putUint64(buf, offset, v);
+            return;
+        }
+        for (int i = 0; i < len; i++) {
+            int carry = digit(value, i);
+            for (int j = offset + WORD - 1; j >= offset; j--) {
+                int x = (buf[j] & 0xff) * 10 + carry;
+                buf[j] = (byte) x;
+                carry = x >>> 8;
+            }
+            if (carry != 0) {
+                throw new IllegalArgumentException("Value does not fit in uint256: " + value);
+            }
+        }
+    }
+
+    /**
+     * Encode a non-negative long as a big-endian uint256 word
+     */
+    static void putUint64(byte[] buf, int offset, long value) {
+        for (int i = 0; i < 8; i++) {
+            buf[offset + WORD - 1 - i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    /**
+     * Encode a hex address (with or without 0x prefix) as a left-padded word
+     */
+    static void putAddress(byte[] buf, int offset, String address) {
+        if (address == null) {
+            throw new IllegalArgumentException("Missing address value");
+        }
+        int start = address.startsWith("0x") || address.startsWith("0X") ? 2 : 0;
+        if (address.length() - start != 40) {
+            throw new IllegalArgumentException("Invalid address: " + address);
+        }
+        for (int i = 0; i < 20; i++) {
+            int hi = Character.digit(address.charAt(start + 2 * i), 16);
+            int lo = Character.digit(address.charAt(start + 2 * i + 1), 16);
+            if (hi < 0 || lo < 0) {
+                throw new IllegalArgumentException("Invalid address: " + address);
+            }
+            buf[offset + 12 + i] = (byte) ((hi << 4) | lo);
+        }
+    }
+
+    private static int digit(String value, int index) {
+        char c = value.charAt(index);
+        if (c < '0' || c > '9') {
+            throw new IllegalArgumentException("Invalid uint256 value: " + value);
+        }
+        return c - '0';
+    }
+
+    private static byte[] keccak(byte[] input) {
+        KeccakDigest digest = new KeccakDigest(256);
+        digest.update(input, 0, input.length);
+        byte[] out = new byte[WORD];
+        digest.doFinal(out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,149 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.market.AssetIdTable;
+import com.polymarket.clob.model.BestBidAskEvent;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.PriceChangeEntry;
+import com.polymarket.clob.model.PriceChangeEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Routes market events to the listeners registered for their asset.
+ *
+ * <p>Listeners are held in an array indexed by the asset's {@link AssetIdTable} handle, so
+ * routing an event costs one table lookup, which is an identity hit when the client
+ * canonicalizes asset IDs against the same table. A price change touching several assets is
+ * delivered once to each listener of each asset it touches.
+ *
+ * <pre>
+ * AssetIdTable assetIds = new AssetIdTable();
+ * client.setAssetIds(assetIds);
+ * AssetListenerRouter router = new AssetListenerRouter(assetIds);
+ * router.register(assetId, listener);
+ * client.registerListener(router, EventType.BOOK, EventType.PRICE_CHANGE);
+ * </pre>
+ */
+public class AssetListenerRouter implements TypedWebSocketListener {
+    private static final Logger logger = LogManager.getLogger(AssetListenerRouter.class);
+
+    private static final TypedWebSocketListener[] NONE = new TypedWebSocketListener[0];
+
+    private final AssetIdTable assetIds;
+    private volatile TypedWebSocketListener[][] byHandle = new TypedWebSocketListener[0][];
+
+    /**
+     * @param assetIds the symbol table assets are registered in
+     */
+    public AssetListenerRouter(AssetIdTable assetIds) {
+        this.assetIds = assetIds;
+    }
+
+    /**
+     * Route the events of an asset to a listener, registering the asset if needed
+     */
+    public synchronized void register(String assetId, TypedWebSocketListener listener) {
+        int handle = assetIds.register(assetId);
+        TypedWebSocketListener[][] updated = Arrays.copyOf(byHandle, Math.max(byHandle.length, handle + 1));
+        TypedWebSocketListener[] current = updated[handle] != null ? updated[handle] : NONE;
+        TypedWebSocketListener[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = listener;
+        updated[handle] = extended;
+        byHandle = updated;
+    }
+
+    /**
+     * Stop routing the events of an asset to a listener
+     */
+    public synchronized void unregister(String assetId, TypedWebSocketListener listener) {
+        int handle = assetIds.handle(assetId);
+        TypedWebSocketListener[][] updated = byHandle;
+        if (handle < 0 || handle >= updated.length || updated[handle] == null) {
+            return;
+        }
+        updated = updated.clone();
+        updated[handle] = Arrays.stream(updated[handle])
+                .filter(l -> l != listener)
+                .toArray(TypedWebSocketListener[]::new);
+        byHandle = updated;
+    }
+
+    @Override
+    public void onBook(BookEvent event) {
+        for (TypedWebSocketListener listener : listeners(event.getAssetId())) {
+            try {
+                listener.onBook(event);
+            } catch (Exception e) {
+                logger.error("Error notifying listener", e);
+            }
+        }
+    }
+
+    @Override
+    public void onPriceChange(PriceChangeEvent event) {
+        List<PriceChangeEntry> entries = event.getPriceChanges();
+        if (entries == null) {
+            return;
+        }
+        for (int i = 0, n = entries.size(); i < n; i++) {
+            if (!isFirstEntryFor(entries, i)) {
+                continue;
+            }
+            for (TypedWebSocketListener listener : listeners(entries.get(i).getAssetId())) {
+                try {
+                    listener.onPriceChange(event);
+                } catch (Exception e) {
+                    logger.error("Error notifying listener", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onLastTradePrice(LastTradePriceEvent event) {
+        for (TypedWebSocketListener listener : listeners(event.getAssetId())) {
+            try {
+                listener.onLastTradePrice(event);
+            } catch (Exception e) {
+                logger.error("Error notifying listener", e);
+            }
+        }
+    }
+
+    @Override
+    public void onBestBidAsk(BestBidAskEvent event) {
+        for (TypedWebSocketListener listener : listeners(event.getAssetId())) {
+            try {
+                listener.onBestBidAsk(event);
+            } catch (Exception e) {
+                logger.error("Error notifying listener", e);
+            }
+        }
+    }
+
+    private TypedWebSocketListener[] listeners(String assetId) {
+        int handle = assetIds.handle(assetId);
+        TypedWebSocketListener[][] current = byHandle;
+        if (handle < 0 || handle >= current.length || current[handle] == null) {
+            return NONE;
+        }
+        return current[handle];
+    }
+
+    private static boolean isFirstEntryFor(List<PriceChangeEntry> entries, int index) {
+        String assetId = entries.get(index).getAssetId();
+        if (assetId == null) {
+            return false;
+        }
+        for (int i = 0; i < index; i++) {
+            if (assetId.equals(entries.get(i).getAssetId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.ClobClient;
+import com.polymarket.clob.model.BookEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Resynchronises the books of an {@link OrderBookManager} after a reconnect.
+ *
+ * <p>When a client reconnects, deltas for the books it carries are buffered before the
+ * subscription is resent, and fresh snapshots are fetched over REST from the bulk
+ * {@code /books} endpoint (split into parallel requests by {@link ClobClient#getOrderBooksAsync}).
+ * Each snapshot is swapped in with the deltas received since, before live deltas resume.
+ *
+ * <pre>
+ * OrderBookManager books = new OrderBookManager();
+ * client.registerListener(books, EventType.BOOK, EventType.PRICE_CHANGE);
+ * client.addConnectionListener(new BookResynchronizer(clobClient, books));
+ * </pre>
+ */
+public class BookResynchronizer implements ConnectionStateListener {
+    private static final Logger logger = LogManager.getLogger(BookResynchronizer.class);
+
+    private final Function<List<String>, CompletableFuture<Map<String, BookEvent>>> snapshots;
+    private final OrderBookManager books;
+
+    private final AtomicLong resyncCount = new AtomicLong();
+    private final AtomicLong resyncFailures = new AtomicLong();
+    private final AtomicLong totalResyncMs = new AtomicLong();
+    private volatile long lastResyncMs;
+
+    /**
+     * @param clobClient the REST client the snapshots are fetched with
+     * @param books      the books to resync
+     */
+    public BookResynchronizer(ClobClient clobClient, OrderBookManager books) {
+        this(clobClient::getOrderBooksAsync, books);
+    }
+
+    /**
+     * @param snapshots fetches snapshots for token IDs, keyed by asset ID
+     * @param books     the books to resync
+     */
+    public BookResynchronizer(Function<List<String>, CompletableFuture<Map<String, BookEvent>>> snapshots,
+                              OrderBookManager books) {
+        this.snapshots = snapshots;
+        this.books = books;
+    }
+
+    @Override
+    public void onReconnected(WebSocketClobClient client, long downtimeMs) {
+        List<String> assetIds = new ArrayList<>();
+        for (String assetId : client.getSubscriptions()) {
+            if (books.getBook(assetId) != null) {
+                assetIds.add(assetId);
+            }
+        }
+        if (!assetIds.isEmpty()) {
+            resync(assetIds);
+        }
+    }
+
+    /**
+     * Resync the books of the given assets from REST snapshots
+     *
+     * @return completes once every book has been resynced or reported as desynced
+     */
+    public CompletableFuture<Void> resync(List<String> assetIds) {
+        long start = System.nanoTime();
+        books.beginResync(assetIds);
+        CompletableFuture<Map<String, BookEvent>> fetched;
+        try {
+            fetched = snapshots.apply(assetIds);
+        } catch (Exception e) {
+            fetched = CompletableFuture.failedFuture(e);
+        }
+        return fetched.handle((result, error) -> {
+            if (error != null) {
+                resyncFailures.incrementAndGet();
+                logger.error("Failed to fetch {} book snapshots", assetIds.size(), error);
+            }
+            for (String assetId : assetIds) {
+                books.completeResync(assetId, result != null ? result.get(assetId) : null);
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            lastResyncMs = elapsedMs;
+            totalResyncMs.addAndGet(elapsedMs);
+            resyncCount.incrementAndGet();
+            logger.info("Resynced {} books in {} ms", assetIds.size(), elapsedMs);
+            return null;
+        });
+    }
+
+    /**
+     * Number of resyncs completed, successful or not
+     */
+    public long getResyncCount() {
+        return resyncCount.get();
+    }
+
+    /**
+     * Number of resyncs whose snapshot request failed
+     */
+    public long getResyncFailures() {
+        return resyncFailures.get();
+    }
+
+    /**
+     * Duration of the last resync, in milliseconds
+     */
+    public long getLastResyncMs() {
+        return lastResyncMs;
+    }
+
+    /**
+     * Total time spent resyncing, in milliseconds
+     */
+    public long getTotalResyncMs() {
+        return totalResyncMs.get();
+    }
+}
@@ -0,0 +1,28 @@
+package com.polymarket.clob.websocket;
+
+/**
+ * Listener for connection state changes of a {@link WebSocketClobClient}.
+ * Callbacks run on OkHttp's WebSocket thread and should return quickly.
+ *
+ * @see WebSocketClobClient#addConnectionListener(ConnectionStateListener)
+ */
+public interface ConnectionStateListener {
+
+    /**
+     * Called when an open connection fails or is closed by the server
+     *
+     * @param client the client that lost its connection
+     */
+    default void onDisconnected(WebSocketClobClient client) {
+    }
+
+    /**
+     * Called when a connection is reopened after a disconnect, before the subscription is
+     * resent and any event of the new connection is delivered
+     *
+     * @param client     the client that reconnected
+     * @param downtimeMs time since the connection was lost, in milliseconds
+     */
+    default void onReconnected(WebSocketClobClient client, long downtimeMs) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.metrics.HistogramSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Ingest statistics of one event type
+ */
+@Data
+@AllArgsConstructor
+public class EventTypeStats {
+
+    private EventType eventType;
+
+    /**
+     * Events decoded since the metrics were created
+     */
+    private long events;
+
+    /**
+     * Events per second over the last snapshot interval
+     */
+    private double eventsPerSecond;
+
+    /**
+     * Decode time per event, in nanoseconds
+     */
+    private HistogramSnapshot decode;
+
+    /**
+     * Time to call every listener of an event, in nanoseconds
+     */
+    private HistogramSnapshot dispatch;
+
+    /**
+     * Exchange timestamp to local decode time, in nanoseconds, for events carrying a timestamp
+     */
+    private HistogramSnapshot lag;
+}
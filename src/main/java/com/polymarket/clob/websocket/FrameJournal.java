@@ -0,0 +1,414 @@
+package com.polymarket.clob.websocket;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Binary journal of raw WebSocket frames, written to segmented memory-mapped files.
+ *
+ * <p>Each attached {@link WebSocketClobClient} gets a connection ID and a ring buffer: its
+ * reader thread only stamps the frame with the receive time and publishes a reference to it,
+ * which allocates and copies nothing. A single writer thread drains every ring and copies the
+ * frames into the current segment, encoding text frames to UTF-8 in place.
+ *
+ * <p>Segments are files of a fixed size named {@code <prefix>-<index>.journal}. Layout (big
+ * endian): a 64 byte header of magic {@code "CLBJ"}, an int version, the long segment index and
+ * the creation time in epoch milliseconds, then records aligned to 8 bytes:
+ * <pre>
+ * int    payload length, -1 marks the end of the segment
+ * int    connection ID
+ * long   receive time in epoch nanoseconds
+ * bytes  frame payload (UTF-8 JSON)
+ * </pre>
+ * The length is written last with release semantics, so a record is either complete or reads
+ * as zero, the end of the data. A crashed process therefore leaves a readable journal up to its
+ * last complete frame. A new journal never appends to existing segments, it starts at the next
+ * index.
+ *
+ * <p>Receive times come from a monotonic clock anchored to the wall clock when the journal was
+ * created, so they are precise and ordered but drift from the wall clock on long runs.
+ *
+ * <pre>
+ * FrameJournal journal = new FrameJournal(JournalOptions.builder().directory(dir).build());
+ * journal.start();
+ * client.setJournal(journal);
+ * ...
+ * journal.close();
+ * </pre>
+ */
+public class FrameJournal implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(FrameJournal.class);
+
+    static final int MAGIC = 0x434C424A; // "CLBJ"
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_BYTES = 64;
+    static final int RECORD_HEADER_BYTES = 16;
+    static final int END_OF_SEGMENT = -1;
+    static final String SUFFIX = ".journal";
+    static final String DEFAULT_PREFIX = "frames";
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final int DRAIN_BATCH = 256;
+
+    private final Path directory;
+    private final String prefix;
+    private final int segmentSize;
+    private final int bufferSize;
+    private final WaitStrategy waitStrategy;
+    private final long baseEpochNanos;
+    private final long baseNanoTime;
+
+    private volatile Connection[] connections = new Connection[0];
+    private final Object connectionsLock = new Object();
+    private final AtomicInteger nextConnectionId = new AtomicInteger();
+    private final Writer writer = new Writer();
+    private final LongAdder framesDropped = new LongAdder();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * One client's feed into the journal. Its methods are called by the client's reader thread.
+     */
+    final class Connection {
+        private final int id;
+        private final FrameRingBuffer ring = new FrameRingBuffer(bufferSize);
+        private volatile boolean closed;
+
+        Connection(int id) {
+            this.id = id;
+        }
+
+        int id() {
+            return id;
+        }
+
+        void append(String text) {
+            if (!ring.offer(text, 0, text.length(), now())) {
+                framesDropped.increment();
+            }
+        }
+
+        /**
+         * The array must not be modified afterwards
+         */
+        void append(byte[] bytes) {
+            if (!ring.offer(bytes, 0, bytes.length, now())) {
+                framesDropped.increment();
+            }
+        }
+
+        /**
+         * Stop journaling this connection once its pending frames are written
+         */
+        void close() {
+            closed = true;
+        }
+    }
+
+    /**
+     * Create the journal and its first segment. Frames are buffered until {@link #start()}.
+     *
+     * @param options the journal options
+     * @throws IOException if the directory or the first segment cannot be created
+     */
+    public FrameJournal(JournalOptions options) throws IOException {
+        if (options.getDirectory() == null) {
+            throw new IllegalArgumentException("Journal directory is required");
+        }
+        if (options.getSegmentSize() < SEGMENT_HEADER_BYTES + RECORD_HEADER_BYTES
+                || options.getSegmentSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between 80 bytes and 2 GiB");
+        }
+        this.directory = options.getDirectory();
+        this.prefix = options.getFilePrefix();
+        this.segmentSize = (int) options.getSegmentSize();
+        this.bufferSize = options.getBufferSize();
+        this.waitStrategy = options.getWaitStrategy() != null ? options.getWaitStrategy() : WaitStrategy.PARK;
+        this.baseEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        this.baseNanoTime = System.nanoTime();
+
+        Files.createDirectories(directory);
+        List<Path> existing = segments(directory, prefix);
+        long nextIndex = existing.isEmpty() ? 0 : segmentIndex(existing.get(existing.size() - 1)) + 1;
+        writer.open(nextIndex);
+    }
+
+    /**
+     * Attach a new connection
+     */
+    Connection connect() {
+        Connection connection = new Connection(nextConnectionId.getAndIncrement());
+        synchronized (connectionsLock) {
+            Connection[] updated = Arrays.copyOf(connections, connections.length + 1);
+            updated[connections.length] = connection;
+            connections = updated;
+        }
+        return connection;
+    }
+
+    /**
+     * Start the writer thread
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(writer, "clob-journal-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Write the frames already received, then stop the writer and flush the current segment
+     * to disk
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+        writer.force();
+    }
+
+    /**
+     * Current receive time in epoch nanoseconds
+     */
+    long now() {
+        return baseEpochNanos + (System.nanoTime() - baseNanoTime);
+    }
+
+    // ==================== Counters ====================
+
+    /**
+     * Number of frames written to segments
+     */
+    public long getFramesWritten() {
+        return writer.framesWritten;
+    }
+
+    /**
+     * Number of payload bytes written to segments
+     */
+    public long getBytesWritten() {
+        return writer.bytesWritten;
+    }
+
+    /**
+     * Number of frames lost because a ring was full, the frame did not fit in a segment or a
+     * segment could not be created
+     */
+    public long getFramesDropped() {
+        return framesDropped.sum();
+    }
+
+    /**
+     * The segment being written
+     */
+    public Path getCurrentSegment() {
+        return writer.path;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // ==================== Segment files ====================
+
+    /**
+     * Segment files of a journal, in index order
+     */
+    static List<Path> segments(Path directory, String prefix) throws IOException {
+        Pattern name = Pattern.compile(Pattern.quote(prefix) + "-\\d+" + Pattern.quote(SUFFIX));
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> name.matcher(file.getFileName().toString()).matches())
+                    .sorted((a, b) -> Long.compare(segmentIndex(a), segmentIndex(b)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static long segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.length() - SUFFIX.length()));
+    }
+
+    private final class Writer implements Runnable, FrameRingBuffer.FrameHandler {
+        private MappedByteBuffer segment;
+        private Path path;
+        private long index;
+        private int position;
+        private int connectionId;
+        private boolean failed;
+        private volatile long framesWritten;
+        private volatile long bytesWritten;
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (true) {
+                int drained = 0;
+                for (Connection connection : connections) {
+                    connectionId = connection.id;
+                    drained += connection.ring.drain(this, DRAIN_BATCH);
+                }
+                if (drained > 0) {
+                    idle = 0;
+                } else if (!running) {
+                    return;
+                } else {
+                    removeClosed();
+                    waitStrategy.idle(idle++);
+                }
+            }
+        }
+
+        @Override
+        public void onText(String text, int offset, int length, long stamp) {
+            if (length == 0 || !reserve(RECORD_HEADER_BYTES + 3L * length)) {
+                return;
+            }
+            int payload = position + RECORD_HEADER_BYTES;
+            commit(encode(text, offset, length, payload) - payload, stamp);
+        }
+
+        @Override
+        public void onBytes(byte[] bytes, int offset, int length, long stamp) {
+            if (length == 0 || !reserve(RECORD_HEADER_BYTES + (long) length)) {
+                return;
+            }
+            segment.put(position + RECORD_HEADER_BYTES, bytes, offset, length);
+            commit(length, stamp);
+        }
+
+        /**
+         * Make room for a record of at most {@code bytes}, rolling over to a new segment if needed
+         *
+         * @return false if the frame was dropped
+         */
+        private boolean reserve(long bytes) {
+            if (failed || bytes > segmentSize - SEGMENT_HEADER_BYTES) {
+                framesDropped.increment();
+                return false;
+            }
+            if (position + bytes > segmentSize) {
+                if (position + 4 <= segmentSize) {
+                    INT.setRelease(segment, position, END_OF_SEGMENT);
+                }
+                segment.force();
+                try {
+                    open(index + 1);
+                } catch (IOException e) {
+                    logger.error("Error creating journal segment, frames are no longer recorded", e);
+                    failed = true;
+                    framesDropped.increment();
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void commit(int length, long stamp) {
+            segment.putInt(position + 4, connectionId);
+            segment.putLong(position + 8, stamp);
+            INT.setRelease(segment, position, length);
+            position += (RECORD_HEADER_BYTES + length + 7) & ~7;
+            framesWritten++;
+            bytesWritten += length;
+        }
+
+        /**
+         * Encode a string region to UTF-8 at a position of the segment
+         *
+         * @return the position after the last byte written
+         */
+        private int encode(String text, int offset, int length, int position) {
+            MappedByteBuffer buffer = segment;
+            int p = position;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    buffer.put(p++, (byte) c);
+                } else if (c < 0x800) {
+                    buffer.put(p++, (byte) (0xC0 | (c >> 6)));
+                    buffer.put(p++, (byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    buffer.put(p++, (byte) (0xF0 | (codePoint >> 18)));
+                    buffer.put(p++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    buffer.put(p++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    buffer.put(p++, (byte) (0x80 | (codePoint & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    buffer.put(p++, (byte) '?');
+                } else {
+                    buffer.put(p++, (byte) (0xE0 | (c >> 12)));
+                    buffer.put(p++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                    buffer.put(p++, (byte) (0x80 | (c & 0x3F)));
+                }
+            }
+            return p;
+        }
+
+        private void open(long segmentIndex) throws IOException {
+            Path file = directory.resolve(String.format("%s-%010d%s", prefix, segmentIndex, SUFFIX));
+            MappedByteBuffer mapped;
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(segmentSize);
+                mapped = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+            mapped.putLong(8, segmentIndex);
+            mapped.putLong(16, System.currentTimeMillis());
+            mapped.putInt(4, VERSION);
+            INT.setRelease(mapped, 0, MAGIC);
+            segment = mapped;
+            path = file;
+            index = segmentIndex;
+            position = SEGMENT_HEADER_BYTES;
+        }
+
+        private void force() {
+            if (segment != null) {
+                segment.force();
+            }
+        }
+
+        private void removeClosed() {
+            Connection[] current = connections;
+            for (Connection connection : current) {
+                if (connection.closed && connection.ring.size() == 0) {
+                    synchronized (connectionsLock) {
+                        List<Connection> open = new ArrayList<>(Arrays.asList(connections));
+                        open.removeIf(c -> c.closed && c.ring.size() == 0);
+                        connections = open.toArray(new Connection[0]);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
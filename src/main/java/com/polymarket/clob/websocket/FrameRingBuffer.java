@@ -0,0 +1,167 @@
+package com.polymarket.clob.websocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer single-consumer ring of frame regions.
+ *
+ * <p>Slots are preallocated and hold a reference to the frame (text or bytes) plus the offset and
+ * length of one object within it, and an optional stamp such as a receive time, so publishing
+ * copies nothing. The producer never blocks: when the ring is full the frame is dropped and
+ * counted.
+ */
+final class FrameRingBuffer {
+
+    /**
+     * Handles one frame region on the consumer thread
+     */
+    interface FrameHandler {
+        void onText(String text, int offset, int length, long stamp);
+
+        void onBytes(byte[] bytes, int offset, int length, long stamp);
+    }
+
+    private static final class Slot {
+        String text;
+        byte[] bytes;
+        int offset;
+        int length;
+        long stamp;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(); // next sequence to publish
+    private final AtomicLong tail = new AtomicLong(); // next sequence to consume
+    private final AtomicLong dropped = new AtomicLong();
+    private long cachedTail;
+
+    /**
+     * @param capacity the number of slots, rounded up to a power of two
+     */
+    FrameRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Publish a text region (producer thread only)
+     *
+     * @return false if the ring was full and the frame was dropped
+     */
+    boolean offer(String text, int offset, int length) {
+        return offer(text, offset, length, 0);
+    }
+
+    /**
+     * Publish a stamped text region (producer thread only)
+     *
+     * @return false if the ring was full and the frame was dropped
+     */
+    boolean offer(String text, int offset, int length, long stamp) {
+        Slot slot = claim();
+        if (slot == null) {
+            return false;
+        }
+        slot.text = text;
+        slot.offset = offset;
+        slot.length = length;
+        slot.stamp = stamp;
+        head.lazySet(head.get() + 1);
+        return true;
+    }
+
+    /**
+     * Publish a byte region (producer thread only)
+     *
+     * @return false if the ring was full and the frame was dropped
+     */
+    boolean offer(byte[] bytes, int offset, int length) {
+        return offer(bytes, offset, length, 0);
+    }
+
+    /**
+     * Publish a stamped byte region (producer thread only)
+     *
+     * @return false if the ring was full and the frame was dropped
+     */
+    boolean offer(byte[] bytes, int offset, int length, long stamp) {
+        Slot slot = claim();
+        if (slot == null) {
+            return false;
+        }
+        slot.bytes = bytes;
+        slot.offset = offset;
+        slot.length = length;
+        slot.stamp = stamp;
+        head.lazySet(head.get() + 1);
+        return true;
+    }
+
+    private Slot claim() {
+        long h = head.get();
+        if (h - cachedTail >= slots.length) {
+            cachedTail = tail.get();
+            if (h - cachedTail >= slots.length) {
+                dropped.incrementAndGet();
+                return null;
+            }
+        }
+        return slots[(int) h & mask];
+    }
+
+    /**
+     * Hand up to {@code max} published frames to the handler (consumer thread only)
+     *
+     * @return the number of frames handled
+     */
+    int drain(FrameHandler handler, int max) {
+        long t = tail.get();
+        long available = Math.min(head.get() - t, max);
+        for (long i = 0; i < available; i++) {
+            Slot slot = slots[(int) (t + i) & mask];
+            String text = slot.text;
+            byte[] bytes = slot.bytes;
+            int offset = slot.offset;
+            int length = slot.length;
+            long stamp = slot.stamp;
+            slot.text = null;
+            slot.bytes = null;
+            // free the slot before handling, so a slow handler leaves the full capacity to the producer
+            tail.lazySet(t + i + 1);
+            if (text != null) {
+                handler.onText(text, offset, length, stamp);
+            } else {
+                handler.onBytes(bytes, offset, length, stamp);
+            }
+        }
+        return (int) available;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Frames published but not yet consumed
+     */
+    int size() {
+        return (int) (head.get() - tail.get());
+    }
+
+    long publishedCount() {
+        return head.get();
+    }
+
+    long droppedCount() {
+        return dropped.get();
+    }
+}
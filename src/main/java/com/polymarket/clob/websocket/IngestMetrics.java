@@ -0,0 +1,165 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.metrics.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ingest instrumentation of one or more {@link WebSocketClobClient}s.
+ *
+ * <p>For every event type it counts events and records into lock-free histograms, all in
+ * nanoseconds:
+ * <ul>
+ *   <li>decode time, from the start of an event's JSON to its model being ready</li>
+ *   <li>dispatch time, across all listeners of the event</li>
+ *   <li>lag, from the exchange {@code timestamp} of the event to the local clock when it was
+ *   decoded, which in pipeline mode includes the time spent queued for a worker</li>
+ * </ul>
+ * Lag depends on the local clock being in sync with the exchange, and is only as precise as
+ * the timestamp, which is in seconds for trade and order events.
+ *
+ * <p>Listener calls that take longer than the slow-call threshold are counted per listener and
+ * logged the first time. Rates are computed over the interval between two {@link #snapshot()}
+ * calls, so snapshot on a fixed schedule to alert on them. One instance may be shared by
+ * several clients, for example every shard of a {@link ShardedWebSocketManager}.
+ *
+ * <pre>
+ * IngestMetrics metrics = new IngestMetrics(2, TimeUnit.MILLISECONDS);
+ * client.setIngestMetrics(metrics);
+ * ...
+ * IngestStats stats = metrics.snapshot();
+ * long lagP99 = stats.getEventTypes().get(EventType.BOOK).getLag().getP99();
+ * </pre>
+ */
+public class IngestMetrics {
+    private static final Logger logger = LogManager.getLogger(IngestMetrics.class);
+
+    private static final long DEFAULT_SLOW_CALL_MS = 1;
+
+    private final EventTypeRecorder[] eventTypes = new EventTypeRecorder[EventType.values().length];
+    private final ConcurrentMap<Object, SlowListener> slowListeners = new ConcurrentHashMap<>();
+    private final long slowCallNanos;
+    private final long startNanos = System.nanoTime();
+    private long lastSnapshotNanos = startNanos;
+
+    private static final class EventTypeRecorder {
+        final LongAdder events = new LongAdder();
+        final LatencyHistogram decode = new LatencyHistogram();
+        final LatencyHistogram dispatch = new LatencyHistogram();
+        final LatencyHistogram lag = new LatencyHistogram();
+        long lastEvents; // guarded by the IngestMetrics monitor
+    }
+
+    private static final class SlowListener {
+        final String name;
+        final LongAdder calls = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        volatile EventType lastEventType;
+
+        SlowListener(Object listener) {
+            this.name = listener.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(listener));
+        }
+    }
+
+    public IngestMetrics() {
+        this(DEFAULT_SLOW_CALL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param slowCallThreshold duration above which a single listener call counts as slow
+     * @param unit              the threshold unit
+     */
+    public IngestMetrics(long slowCallThreshold, TimeUnit unit) {
+        this.slowCallNanos = unit.toNanos(slowCallThreshold);
+        for (int i = 0; i < eventTypes.length; i++) {
+            eventTypes[i] = new EventTypeRecorder();
+        }
+    }
+
+    // ==================== Recording ====================
+
+    void recordDecode(EventType eventType, long nanos) {
+        EventTypeRecorder recorder = eventTypes[eventType.ordinal()];
+        recorder.events.increment();
+        recorder.decode.record(nanos);
+    }
+
+    void recordDispatch(EventType eventType, long nanos) {
+        eventTypes[eventType.ordinal()].dispatch.record(nanos);
+    }
+
+    /**
+     * @param exchangeMillis the event timestamp, in epoch milliseconds
+     * @param receiveMillis  the local clock, in epoch milliseconds
+     */
+    void recordLag(EventType eventType, long exchangeMillis, long receiveMillis) {
+        eventTypes[eventType.ordinal()].lag.record((receiveMillis - exchangeMillis) * 1_000_000);
+    }
+
+    /**
+     * Check the duration of one listener call against the slow-call threshold
+     */
+    void recordListenerCall(Object listener, EventType eventType, long nanos) {
+        if (nanos < slowCallNanos) {
+            return;
+        }
+        SlowListener slow = slowListeners.get(listener);
+        if (slow == null) {
+            SlowListener created = new SlowListener(listener);
+            slow = slowListeners.putIfAbsent(listener, created);
+            if (slow == null) {
+                slow = created;
+                logger.warn("Slow listener {} took {} us on a {} event", slow.name, nanos / 1000, eventType);
+            }
+        }
+        slow.calls.increment();
+        slow.lastEventType = eventType;
+        slow.maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    // ==================== Snapshots ====================
+
+    /**
+     * Statistics since creation, with rates over the interval since the previous snapshot
+     */
+    public synchronized IngestStats snapshot() {
+        long now = System.nanoTime();
+        double seconds = Math.max(now - lastSnapshotNanos, 1) / 1e9;
+        lastSnapshotNanos = now;
+
+        Map<EventType, EventTypeStats> byType = new EnumMap<>(EventType.class);
+        for (EventType eventType : EventType.values()) {
+            EventTypeRecorder recorder = eventTypes[eventType.ordinal()];
+            long events = recorder.events.sum();
+            double rate = (events - recorder.lastEvents) / seconds;
+            recorder.lastEvents = events;
+            byType.put(eventType, new EventTypeStats(eventType, events, rate,
+                    recorder.decode.snapshot(), recorder.dispatch.snapshot(), recorder.lag.snapshot()));
+        }
+
+        List<SlowListenerStats> slow = new ArrayList<>();
+        for (SlowListener listener : slowListeners.values()) {
+            slow.add(new SlowListenerStats(listener.name, listener.calls.sum(), listener.maxNanos.get(),
+                    listener.lastEventType));
+        }
+        slow.sort((a, b) -> Long.compare(b.getSlowCalls(), a.getSlowCalls()));
+        return new IngestStats((now - startNanos) / 1_000_000, byType, slow);
+    }
+
+    /**
+     * Duration above which a single listener call counts as slow, in nanoseconds
+     */
+    public long getSlowCallThresholdNanos() {
+        return slowCallNanos;
+    }
+}
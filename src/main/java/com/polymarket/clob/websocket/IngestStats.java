@@ -0,0 +1,34 @@
+package com.polymarket.clob.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time statistics of an {@link IngestMetrics}
+ */
+@Data
+@AllArgsConstructor
+public class IngestStats {
+
+    /**
+     * Time since the metrics were created, in milliseconds
+     */
+    private long uptimeMs;
+
+    private Map<EventType, EventTypeStats> eventTypes;
+
+    /**
+     * Listeners that made at least one slow call, most slow calls first
+     */
+    private List<SlowListenerStats> slowListeners;
+
+    /**
+     * Events of all types per second over the last snapshot interval
+     */
+    public double getEventsPerSecond() {
+        return eventTypes.values().stream().mapToDouble(EventTypeStats::getEventsPerSecond).sum();
+    }
+}
@@ -0,0 +1,49 @@
+package com.polymarket.clob.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * Options for a {@link FrameJournal}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalOptions {
+
+    /**
+     * Directory the segment files are written to, created if missing
+     */
+    private Path directory;
+
+    /**
+     * File name prefix of the segments, which are named {@code <prefix>-<index>.journal}
+     */
+    @Builder.Default
+    private String filePrefix = FrameJournal.DEFAULT_PREFIX;
+
+    /**
+     * Size of each segment file in bytes, at most 2 GiB. Files are created at full size and
+     * filled sparsely, and a frame must fit in one segment.
+     */
+    @Builder.Default
+    private long segmentSize = 64L * 1024 * 1024;
+
+    /**
+     * Slots of the ring buffer between each connection and the writer, rounded up to a power
+     * of two. Frames arriving while it is full are dropped and counted.
+     */
+    @Builder.Default
+    private int bufferSize = 16384;
+
+    /**
+     * How the writer thread waits for frames
+     */
+    @Builder.Default
+    private WaitStrategy waitStrategy = WaitStrategy.PARK;
+}
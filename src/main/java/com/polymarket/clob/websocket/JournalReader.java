@@ -0,0 +1,114 @@
+package com.polymarket.clob.websocket;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the frames of a {@link FrameJournal} back in order.
+ *
+ * <p>Segments are memory-mapped read-only one at a time and scanned sequentially. Each payload
+ * is copied into a reused buffer, so reading allocates nothing per frame. A segment ends at its
+ * end marker or at the first record that was never completed, and reading continues with the
+ * next segment.
+ */
+public class JournalReader {
+    private static final Logger logger = LogManager.getLogger(JournalReader.class);
+
+    /**
+     * Receives the frames of a journal
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        /**
+         * @param connectionId      the connection the frame was received on
+         * @param receiveEpochNanos the receive time in epoch nanoseconds
+         * @param buffer            holds the UTF-8 payload, reused for the next frame
+         * @param offset            start of the payload in the buffer
+         * @param length            length of the payload
+         * @return false to stop reading
+         */
+        boolean onFrame(int connectionId, long receiveEpochNanos, byte[] buffer, int offset, int length);
+    }
+
+    private final Path directory;
+    private final String prefix;
+    private byte[] buffer = new byte[64 * 1024];
+
+    /**
+     * @param directory the journal directory, with segments named by the default prefix
+     */
+    public JournalReader(Path directory) {
+        this(directory, FrameJournal.DEFAULT_PREFIX);
+    }
+
+    /**
+     * @param directory the journal directory
+     * @param prefix    the file name prefix of the segments
+     */
+    public JournalReader(Path directory, String prefix) {
+        this.directory = directory;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Segment files of the journal, in index order
+     */
+    public List<Path> segments() throws IOException {
+        return FrameJournal.segments(directory, prefix);
+    }
+
+    /**
+     * Hand every frame of the journal to a handler, in the order it was written
+     *
+     * @return the number of frames read
+     * @throws IOException if a segment cannot be mapped
+     */
+    public long read(RecordHandler handler) throws IOException {
+        long frames = 0;
+        for (Path segment : segments()) {
+            MappedByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (mapped.capacity() < FrameJournal.SEGMENT_HEADER_BYTES || mapped.getInt(0) != FrameJournal.MAGIC) {
+                logger.warn("Skipping journal segment without a header: {}", segment);
+                continue;
+            }
+            if (mapped.getInt(4) != FrameJournal.VERSION) {
+                throw new IOException("Unsupported journal version " + mapped.getInt(4) + " in " + segment);
+            }
+
+            int position = FrameJournal.SEGMENT_HEADER_BYTES;
+            int limit = mapped.capacity();
+            while (position + FrameJournal.RECORD_HEADER_BYTES <= limit) {
+                int length = mapped.getInt(position);
+                if (length == 0 || length == FrameJournal.END_OF_SEGMENT) {
+                    break;
+                }
+                if (length < 0 || length > limit - position - FrameJournal.RECORD_HEADER_BYTES) {
+                    logger.warn("Corrupt journal record at {} in {}", position, segment);
+                    break;
+                }
+                if (length > buffer.length) {
+                    buffer = Arrays.copyOf(buffer, Math.max(length, buffer.length * 2));
+                }
+                mapped.get(position + FrameJournal.RECORD_HEADER_BYTES, buffer, 0, length);
+                frames++;
+                if (!handler.onFrame(mapped.getInt(position + 4), mapped.getLong(position + 8), buffer, 0, length)) {
+                    return frames;
+                }
+                position += (FrameJournal.RECORD_HEADER_BYTES + length + 7) & ~7;
+            }
+        }
+        return frames;
+    }
+}
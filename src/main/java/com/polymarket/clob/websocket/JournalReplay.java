@@ -0,0 +1,173 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.market.AssetIdTable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a {@link FrameJournal} through a {@link WebSocketClobClient}.
+ *
+ * <p>Recorded frames take the same path as live ones: the client's pipeline if it is enabled,
+ * otherwise its decoder on the calling thread, then the registered {@link WebSocketListener}s and
+ * {@link TypedWebSocketListener}s, ingest metrics and order books. The client should not be
+ * connected while it replays.
+ *
+ * <pre>
+ * WebSocketClobClient client = new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, url, assetIds, null);
+ * client.registerListener(strategy);
+ * ReplayStats stats = new JournalReplay(ReplayOptions.builder().directory(dir).speed(10).build()).replay(client);
+ * </pre>
+ */
+public class JournalReplay {
+    private static final Logger logger = LogManager.getLogger(JournalReplay.class);
+
+    // the writer drains connections in batches, so receive times of different connections
+    // interleave slightly out of order
+    private static final long STOP_SLACK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SPIN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ReplayOptions options;
+    private final JournalReader reader;
+    private final AssetIdTable assetIds;
+    private final WebSocketMessageDecoder splitter;
+
+    /**
+     * @param options the replay options
+     */
+    public JournalReplay(ReplayOptions options) {
+        if (options.getDirectory() == null) {
+            throw new IllegalArgumentException("Journal directory is required");
+        }
+        this.options = options;
+        this.reader = new JournalReader(options.getDirectory(), options.getFilePrefix());
+        if (options.getAssetIds() != null) {
+            this.assetIds = new AssetIdTable(options.getAssetIds().size());
+            this.assetIds.registerAll(options.getAssetIds());
+            this.splitter = new WebSocketMessageDecoder((eventType, rawEventType, event) -> {
+                // never called, the splitter only scans frames
+            });
+        } else {
+            this.assetIds = null;
+            this.splitter = null;
+        }
+    }
+
+    /**
+     * Replay the journal on the calling thread, returning once every selected frame has been
+     * handed to the client. With a pipeline, the replay waits for room in its rings rather than
+     * dropping events, and the workers may still be dispatching the last ones on return.
+     *
+     * @param client the client whose listeners receive the events
+     * @return the replay statistics
+     * @throws IOException if a segment cannot be read
+     */
+    public ReplayStats replay(WebSocketClobClient client) throws IOException {
+        Run run = new Run(client);
+        WebSocketPipeline pipeline = client.getPipeline();
+        long droppedBefore = pipeline != null ? pipeline.getEventsDropped() : 0;
+        long start = System.nanoTime();
+        long framesRead = reader.read(run);
+        if (splitter != null) {
+            splitter.release();
+        }
+        long dropped = pipeline != null ? pipeline.getEventsDropped() - droppedBefore : 0;
+        if (dropped > 0) {
+            logger.warn("Pipeline dropped {} replayed events", dropped);
+        }
+        return new ReplayStats(framesRead, run.framesReplayed, run.bytesReplayed, dropped,
+                System.nanoTime() - start, run.firstStamp, run.lastStamp);
+    }
+
+    private final class Run implements JournalReader.RecordHandler {
+        private final WebSocketClobClient client;
+        private final double speed = options.getSpeed();
+        private final int connectionId = options.getConnectionId();
+        private final long fromNanos = TimeUnit.MILLISECONDS.toNanos(options.getFromEpochMs());
+        private final long toNanos = options.getToEpochMs() >= Long.MAX_VALUE / 1_000_000
+                ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(options.getToEpochMs());
+
+        boolean started;
+        long originNanos;
+        long firstStamp;
+        long lastStamp;
+        long framesReplayed;
+        long bytesReplayed;
+
+        Run(WebSocketClobClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public boolean onFrame(int connection, long stamp, byte[] buffer, int offset, int length) {
+            if (stamp >= toNanos) {
+                return stamp - toNanos < STOP_SLACK_NANOS;
+            }
+            if (stamp < fromNanos || (connectionId >= 0 && connection != connectionId)) {
+                return true;
+            }
+            if (!started) {
+                started = true;
+                firstStamp = stamp;
+                originNanos = System.nanoTime();
+            } else if (speed > 0) {
+                pace(stamp);
+            }
+            lastStamp = stamp;
+
+            if (assetIds == null) {
+                feed(buffer, offset, length);
+                return true;
+            }
+            int count = splitter.split(buffer, offset, length);
+            if (count < 0 || selected(0, count)) {
+                // malformed frames are left for the decoder to report
+                feed(buffer, offset, length);
+                return true;
+            }
+            for (int i = 0; i < count; i++) {
+                if (selected(i, i + 1)) {
+                    int start = splitter.objectStart(i);
+                    feed(buffer, offset + start, splitter.objectEnd(i) - start);
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Whether every object in [from, to) of the last split passes the asset filter
+         */
+        private boolean selected(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (!splitter.matchesAssets(splitter.objectStart(i), splitter.objectEnd(i), assetIds)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void feed(byte[] buffer, int offset, int length) {
+            framesReplayed++;
+            bytesReplayed += length;
+            client.replay(buffer, offset, length);
+        }
+
+        /**
+         * Wait until the frame is due, parking while far from it and spinning close to it
+         */
+        private void pace(long stamp) {
+            long due = originNanos + (long) ((stamp - firstStamp) / speed);
+            long remaining;
+            while ((remaining = due - System.nanoTime()) > 0) {
+                if (remaining > SPIN_NANOS) {
+                    LockSupport.parkNanos(remaining - SPIN_NANOS);
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,528 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.FixedPoint;
+import com.polymarket.clob.model.OrderBookEntry;
+import com.polymarket.clob.model.PriceChangeEntry;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Locally maintained L2 order book for a single asset.
+ *
+ * <p>Prices are stored as integer ticks of {@code 1 / TICKS_PER_UNIT} (0.0001) so every level of
+ * the [0, 1] price range maps to a fixed array slot, and sizes are {@link FixedPoint} longs in
+ * units of {@code 1 / SIZE_UNITS_PER_SHARE}. A bitset per side tracks which levels are populated,
+ * so the best bid and ask are cached and only recomputed when the best level is removed.
+ *
+ * <p>All public methods are synchronized on the book. A {@link LevelIterator} reads the arrays
+ * directly, so iterate either from the WebSocket listener thread or while holding
+ * {@code synchronized (book)}.
+ */
+public final class OrderBook {
+
+    /**
+     * Number of ticks per 1.0 of price (the finest tick size is 0.0001)
+     */
+    public static final int TICKS_PER_UNIT = 10_000;
+
+    /**
+     * Number of size units per share (token amounts carry 6 decimals)
+     */
+    public static final long SIZE_UNITS_PER_SHARE = FixedPoint.ONE;
+
+    /**
+     * Returned by tick queries when a side of the book is empty
+     */
+    public static final int NO_PRICE = -1;
+
+    private static final long UNITS_PER_TICK = FixedPoint.ONE / TICKS_PER_UNIT;
+    private static final int LEVELS = TICKS_PER_UNIT + 1;
+
+    /**
+     * Side of the book
+     */
+    public enum Side {
+        BID, ASK;
+
+        /**
+         * Map a price_change side ("BUY" / "SELL") to a book side
+         */
+        public static Side fromOrderSide(String side) {
+            if ("BUY".equalsIgnoreCase(side)) {
+                return BID;
+            }
+            if ("SELL".equalsIgnoreCase(side)) {
+                return ASK;
+            }
+            throw new IllegalArgumentException("Unknown side: " + side);
+        }
+    }
+
+    private final String assetId;
+    private String market;
+
+    private final long[] bidSizes = new long[LEVELS];
+    private final long[] askSizes = new long[LEVELS];
+    private final long[] bidBits = new long[(LEVELS + 63) >>> 6];
+    private final long[] askBits = new long[(LEVELS + 63) >>> 6];
+
+    private int bestBid = NO_PRICE;
+    private int bestAsk = NO_PRICE;
+    private int bidLevels;
+    private int askLevels;
+
+    private String hash;
+    private long timestamp;
+    private long updateCount;
+    private boolean consistent;
+
+    public OrderBook(String assetId) {
+        this.assetId = assetId;
+    }
+
+    // ==================== Updates ====================
+
+    /**
+     * Replace the book contents with a full snapshot
+     *
+     * @param event The book snapshot for this asset
+     * @return false if the snapshot carries the same hash as the current consistent state and was skipped
+     */
+    public synchronized boolean applySnapshot(BookEvent event) {
+        if (consistent && event.getHash() != null && event.getHash().equals(hash)) {
+            return false;
+        }
+        clear();
+        loadSide(Side.BID, event.getBids());
+        loadSide(Side.ASK, event.getAsks());
+
+        market = event.getMarket();
+        hash = event.getHash();
+        timestamp = event.getTimestamp() != null ? event.getTimestampAsLong() : timestamp;
+        consistent = true;
+        updateCount++;
+        return true;
+    }
+
+    /**
+     * Apply a single price level delta. The size is the new aggregate size at the level,
+     * zero removes it.
+     *
+     * @param entry     The price change for this asset
+     * @param timestamp The event timestamp in milliseconds
+     */
+    public synchronized void applyPriceChange(PriceChangeEntry entry, long timestamp) {
+        setLevel(Side.fromOrderSide(entry.getSide()), toTicks(entry.getPrice()), toSizeUnits(entry.getSize()));
+        if (entry.getHash() != null) {
+            hash = entry.getHash();
+        }
+        if (timestamp > 0) {
+            this.timestamp = timestamp;
+        }
+        updateCount++;
+    }
+
+    /**
+     * Check the local top of book against the best bid / ask the server reported alongside a
+     * price change. A mismatch marks the book inconsistent until the next snapshot.
+     *
+     * @param entry The last price change applied for this asset
+     * @return true if the book matches (or the entry carries nothing to compare)
+     */
+    public synchronized boolean validate(PriceChangeEntry entry) {
+        if (!consistent) {
+            return false;
+        }
+        if (!matches(entry.getBestBid(), bestBid) || !matches(entry.getBestAsk(), bestAsk)) {
+            consistent = false;
+        }
+        return consistent;
+    }
+
+    /**
+     * Set the aggregate size of a level
+     *
+     * @param side  The book side
+     * @param tick  The price in ticks
+     * @param units The size in size units, zero removes the level
+     */
+    public synchronized void setLevel(Side side, int tick, long units) {
+        if (tick < 0 || tick >= LEVELS) {
+            throw new IllegalArgumentException("Price tick out of range: " + tick);
+        }
+        if (units < 0) {
+            throw new IllegalArgumentException("Negative size: " + units);
+        }
+        boolean bid = side == Side.BID;
+        long[] sizes = bid ? bidSizes : askSizes;
+        long[] bits = bid ? bidBits : askBits;
+        boolean present = sizes[tick] != 0;
+        sizes[tick] = units;
+
+        if (units != 0) {
+            if (!present) {
+                bits[tick >>> 6] |= 1L << tick;
+                if (bid) {
+                    bidLevels++;
+                    if (tick > bestBid) {
+                        bestBid = tick;
+                    }
+                } else {
+                    askLevels++;
+                    if (bestAsk == NO_PRICE || tick < bestAsk) {
+                        bestAsk = tick;
+                    }
+                }
+            }
+        } else if (present) {
+            bits[tick >>> 6] &= ~(1L << tick);
+            if (bid) {
+                bidLevels--;
+                if (tick == bestBid) {
+                    bestBid = prevSetBit(bidBits, tick - 1);
+                }
+            } else {
+                askLevels--;
+                if (tick == bestAsk) {
+                    bestAsk = nextSetBit(askBits, tick + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all levels and mark the book inconsistent until the next snapshot
+     */
+    public synchronized void clear() {
+        Arrays.fill(bidSizes, 0L);
+        Arrays.fill(askSizes, 0L);
+        Arrays.fill(bidBits, 0L);
+        Arrays.fill(askBits, 0L);
+        bestBid = NO_PRICE;
+        bestAsk = NO_PRICE;
+        bidLevels = 0;
+        askLevels = 0;
+        consistent = false;
+    }
+
+    private void loadSide(Side side, List<OrderBookEntry> entries) {
+        if (entries == null) {
+            return;
+        }
+        for (int i = 0, n = entries.size(); i < n; i++) {
+            OrderBookEntry entry = entries.get(i);
+            setLevel(side, toTicks(entry.getPrice()), toSizeUnits(entry.getSize()));
+        }
+    }
+
+    private static boolean matches(String reported, int localTick) {
+        if (reported == null || reported.isEmpty()) {
+            return true;
+        }
+        int tick = toTicks(reported);
+        // an empty side may be reported as either 0 or 1 depending on the side
+        return tick == localTick || (localTick == NO_PRICE && (tick == 0 || tick == TICKS_PER_UNIT));
+    }
+
+    // ==================== Queries ====================
+
+    public String getAssetId() {
+        return assetId;
+    }
+
+    public synchronized String getMarket() {
+        return market;
+    }
+
+    /**
+     * Hash of the last snapshot or price change applied
+     */
+    public synchronized String getHash() {
+        return hash;
+    }
+
+    public synchronized long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Number of snapshots and deltas applied
+     */
+    public synchronized long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * False before the first snapshot and after a failed validation
+     */
+    public synchronized boolean isConsistent() {
+        return consistent;
+    }
+
+    /**
+     * Best bid in ticks, or {@link #NO_PRICE}
+     */
+    public synchronized int getBestBidTick() {
+        return bestBid;
+    }
+
+    /**
+     * Best ask in ticks, or {@link #NO_PRICE}
+     */
+    public synchronized int getBestAskTick() {
+        return bestAsk;
+    }
+
+    /**
+     * Best bid price, or NaN if there are no bids
+     */
+    public synchronized double getBestBid() {
+        return bestBid == NO_PRICE ? Double.NaN : ticksToPrice(bestBid);
+    }
+
+    /**
+     * Best ask price, or NaN if there are no asks
+     */
+    public synchronized double getBestAsk() {
+        return bestAsk == NO_PRICE ? Double.NaN : ticksToPrice(bestAsk);
+    }
+
+    public synchronized long getBestBidSize() {
+        return bestBid == NO_PRICE ? 0L : bidSizes[bestBid];
+    }
+
+    public synchronized long getBestAskSize() {
+        return bestAsk == NO_PRICE ? 0L : askSizes[bestAsk];
+    }
+
+    /**
+     * Spread in ticks, or {@link #NO_PRICE} if either side is empty
+     */
+    public synchronized int getSpreadTicks() {
+        return bestBid == NO_PRICE || bestAsk == NO_PRICE ? NO_PRICE : bestAsk - bestBid;
+    }
+
+    /**
+     * Midpoint price, or NaN if either side is empty
+     */
+    public synchronized double getMidpoint() {
+        return bestBid == NO_PRICE || bestAsk == NO_PRICE ? Double.NaN : (bestBid + bestAsk) / (2.0 * TICKS_PER_UNIT);
+    }
+
+    /**
+     * Size resting at a price level, in size units
+     */
+    public synchronized long getSizeAt(Side side, int tick) {
+        if (tick < 0 || tick >= LEVELS) {
+            return 0L;
+        }
+        return side == Side.BID ? bidSizes[tick] : askSizes[tick];
+    }
+
+    /**
+     * Number of populated levels on a side
+     */
+    public synchronized int getLevelCount(Side side) {
+        return side == Side.BID ? bidLevels : askLevels;
+    }
+
+    /**
+     * Total size over the best {@code levels} levels of a side, in size units
+     */
+    public synchronized long getDepth(Side side, int levels) {
+        boolean bid = side == Side.BID;
+        long[] sizes = bid ? bidSizes : askSizes;
+        long[] bits = bid ? bidBits : askBits;
+        long total = 0;
+        int tick = bid ? bestBid : bestAsk;
+        for (int i = 0; i < levels && tick != NO_PRICE; i++) {
+            total += sizes[tick];
+            tick = bid ? prevSetBit(bits, tick - 1) : nextSetBit(bits, tick + 1);
+        }
+        return total;
+    }
+
+    /**
+     * Total size available at prices at least as good as {@code limitTick}, in size units.
+     * For bids that is every level at or above the limit, for asks at or below it.
+     */
+    public synchronized long getDepthToPrice(Side side, int limitTick) {
+        boolean bid = side == Side.BID;
+        long[] sizes = bid ? bidSizes : askSizes;
+        long[] bits = bid ? bidBits : askBits;
+        long total = 0;
+        int tick = bid ? bestBid : bestAsk;
+        while (tick != NO_PRICE && (bid ? tick >= limitTick : tick <= limitTick)) {
+            total += sizes[tick];
+            tick = bid ? prevSetBit(bits, tick - 1) : nextSetBit(bits, tick + 1);
+        }
+        return total;
+    }
+
+    /**
+     * Create a reusable iterator over this book's levels. Allocate one per consumer and call
+     * {@link LevelIterator#reset(Side)} before each pass.
+     */
+    public LevelIterator newLevelIterator() {
+        return new LevelIterator(this);
+    }
+
+    /**
+     * Allocation-free cursor over the populated levels of one side, best price first.
+     *
+     * <pre>
+     * LevelIterator it = book.newLevelIterator();
+     * it.reset(OrderBook.Side.BID);
+     * while (it.next()) {
+     *     use(it.tick(), it.size());
+     * }
+     * </pre>
+     */
+    public static final class LevelIterator {
+        private final OrderBook book;
+        private long[] bits;
+        private long[] sizes;
+        private boolean descending;
+        private int nextTick = NO_PRICE;
+        private int tick = NO_PRICE;
+        private long size;
+
+        private LevelIterator(OrderBook book) {
+            this.book = book;
+        }
+
+        /**
+         * Position the cursor before the best level of a side
+         */
+        public LevelIterator reset(Side side) {
+            descending = side == Side.BID;
+            bits = descending ? book.bidBits : book.askBits;
+            sizes = descending ? book.bidSizes : book.askSizes;
+            nextTick = descending ? book.bestBid : book.bestAsk;
+            tick = NO_PRICE;
+            size = 0L;
+            return this;
+        }
+
+        /**
+         * Advance to the next level
+         *
+         * @return false once the side is exhausted
+         */
+        public boolean next() {
+            if (nextTick == NO_PRICE) {
+                return false;
+            }
+            tick = nextTick;
+            size = sizes[tick];
+            nextTick = descending ? prevSetBit(bits, tick - 1) : nextSetBit(bits, tick + 1);
+            return true;
+        }
+
+        /**
+         * Price of the current level in ticks
+         */
+        public int tick() {
+            return tick;
+        }
+
+        /**
+         * Price of the current level
+         */
+        public double price() {
+            return ticksToPrice(tick);
+        }
+
+        /**
+         * Size of the current level in size units
+         */
+        public long size() {
+            return size;
+        }
+    }
+
+    // ==================== Conversions ====================
+
+    /**
+     * Parse a decimal price string (e.g. "0.55" or ".55") into ticks without allocating
+     *
+     * @throws IllegalArgumentException if the price is outside [0, 1] or finer than one tick
+     */
+    public static int toTicks(String price) {
+        long units = FixedPoint.parse(price);
+        if (units < 0 || units > FixedPoint.ONE) {
+            throw new IllegalArgumentException("Price out of range: " + price);
+        }
+        if (units % UNITS_PER_TICK != 0) {
+            throw new IllegalArgumentException("Price finer than one tick: " + price);
+        }
+        return (int) (units / UNITS_PER_TICK);
+    }
+
+    /**
+     * Parse a decimal size string into size units without allocating
+     *
+     * @see FixedPoint#parse(CharSequence)
+     */
+    public static long toSizeUnits(String size) {
+        return FixedPoint.parse(size);
+    }
+
+    public static double ticksToPrice(int tick) {
+        return tick / (double) TICKS_PER_UNIT;
+    }
+
+    public static double sizeUnitsToShares(long units) {
+        return FixedPoint.toDouble(units);
+    }
+
+    // ==================== Bitset Helpers ====================
+
+    private static int nextSetBit(long[] bits, int from) {
+        if (from >= LEVELS) {
+            return NO_PRICE;
+        }
+        int word = from >>> 6;
+        long w = bits[word] & (-1L << from);
+        while (true) {
+            if (w != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(w);
+            }
+            if (++word == bits.length) {
+                return NO_PRICE;
+            }
+            w = bits[word];
+        }
+    }
+
+    private static int prevSetBit(long[] bits, int from) {
+        if (from < 0) {
+            return NO_PRICE;
+        }
+        int word = from >>> 6;
+        long w = bits[word] & (-1L >>> (63 - (from & 63)));
+        while (true) {
+            if (w != 0) {
+                return (word << 6) + 63 - Long.numberOfLeadingZeros(w);
+            }
+            if (word-- == 0) {
+                return NO_PRICE;
+            }
+            w = bits[word];
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "OrderBook{" +
+                "assetId='" + assetId + '\'' +
+                ", bestBid=" + getBestBid() +
+                ", bestAsk=" + getBestAsk() +
+                ", bidLevels=" + bidLevels +
+                ", askLevels=" + askLevels +
+                ", consistent=" + consistent +
+                '}';
+    }
+}
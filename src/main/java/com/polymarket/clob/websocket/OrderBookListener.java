@@ -0,0 +1,26 @@
+package com.polymarket.clob.websocket;
+
+/**
+ * Listener interface for changes to books maintained by an {@link OrderBookManager}.
+ * Callbacks run on the thread that delivered the WebSocket event.
+ *
+ * @see OrderBookManager#addListener(OrderBookListener)
+ */
+public interface OrderBookListener {
+
+    /**
+     * Called after a snapshot or a batch of price changes has been applied to a book
+     *
+     * @param book the updated book
+     */
+    void onUpdate(OrderBook book);
+
+    /**
+     * Called when a book no longer matches the top of book reported by the server.
+     * The book stays inconsistent until the next snapshot for the asset is applied.
+     *
+     * @param book the book that failed validation
+     */
+    default void onDesync(OrderBook book) {
+    }
+}
@@ -0,0 +1,312 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.market.AssetIdTable;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.PriceChangeEntry;
+import com.polymarket.clob.model.PriceChangeEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Maintains an {@link OrderBook} per asset from {@code book} snapshots and {@code price_change}
+ * deltas. Register it with a market channel {@link WebSocketClobClient} to keep books up to date.
+ *
+ * <pre>
+ * OrderBookManager books = new OrderBookManager();
+ * client.registerListener(books, EventType.BOOK, EventType.PRICE_CHANGE);
+ * ...
+ * OrderBook book = books.getBook(assetId);
+ * </pre>
+ *
+ * <p>Books can be resynchronised from snapshots fetched elsewhere: between
+ * {@link #beginResync(Collection)} and {@link #completeResync(String, BookEvent)} the deltas of
+ * an asset are buffered, then the snapshot and the newer buffered deltas are applied under the
+ * book's lock, so readers never see the book in between. A {@code book} event received from
+ * the socket during a resync completes it in the same way.
+ *
+ * <p>Constructed with an {@link AssetIdTable}, books are also indexed by asset handle, so
+ * {@link #getBook(int)} is a plain array read.
+ */
+public class OrderBookManager implements TypedWebSocketListener {
+    private static final Logger logger = LogManager.getLogger(OrderBookManager.class);
+
+    private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+    private final List<OrderBookListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, ResyncBuffer> resyncing = new ConcurrentHashMap<>();
+    private final AssetIdTable assetIds;
+    private volatile OrderBook[] byHandle = new OrderBook[0];
+    private final Object byHandleLock = new Object();
+
+    public OrderBookManager() {
+        this(null);
+    }
+
+    /**
+     * @param assetIds the symbol table to also index books by handle in, or null
+     */
+    public OrderBookManager(AssetIdTable assetIds) {
+        this.assetIds = assetIds;
+    }
+
+    /**
+     * Registers a listener for book updates and desync notifications
+     */
+    public void addListener(OrderBookListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onBook(BookEvent event) {
+        apply(event);
+    }
+
+    @Override
+    public void onPriceChange(PriceChangeEvent event) {
+        apply(event);
+    }
+
+    /**
+     * Replace the book for the event's asset with the snapshot
+     */
+    public void apply(BookEvent event) {
+        if (event.getAssetId() == null) {
+            return;
+        }
+        if (resyncing.containsKey(event.getAssetId())) {
+            completeResync(event.getAssetId(), event);
+            return;
+        }
+        OrderBook book = getOrCreateBook(event.getAssetId());
+        if (book.applySnapshot(event)) {
+            notifyUpdate(book);
+        }
+    }
+
+    /**
+     * Apply every delta in a price change event, then validate each touched book against the
+     * best bid / ask reported in its last entry
+     */
+    public void apply(PriceChangeEvent event) {
+        List<PriceChangeEntry> entries = event.getPriceChanges();
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        long timestamp = event.getTimestamp() != null ? event.getTimestampAsLong() : 0L;
+
+        for (int i = 0, n = entries.size(); i < n; i++) {
+            PriceChangeEntry entry = entries.get(i);
+            ResyncBuffer pending = resyncing.get(entry.getAssetId());
+            if (pending != null && pending.offer(entry, timestamp)) {
+                continue;
+            }
+            OrderBook book = books.get(entry.getAssetId());
+            if (book == null) {
+                // deltas are meaningless until a snapshot has been seen
+                continue;
+            }
+            try {
+                book.applyPriceChange(entry, timestamp);
+            } catch (IllegalArgumentException e) {
+                logger.error("Invalid price change for {}: {}", entry.getAssetId(), e.getMessage());
+                book.clear();
+                notifyDesync(book);
+                continue;
+            }
+            if (isLastEntryFor(entries, i)) {
+                if (book.validate(entry)) {
+                    notifyUpdate(book);
+                } else {
+                    logger.warn("Order book {} out of sync (hash {})", entry.getAssetId(), entry.getHash());
+                    notifyDesync(book);
+                }
+            }
+        }
+    }
+
+    // ==================== Resync ====================
+
+    /**
+     * Start buffering the deltas of the given assets until their resync completes
+     */
+    public void beginResync(Collection<String> assetIds) {
+        for (String assetId : assetIds) {
+            resyncing.putIfAbsent(assetId, new ResyncBuffer());
+        }
+    }
+
+    /**
+     * Finish the resync of an asset: apply the snapshot, then the buffered deltas that are not
+     * older than it, atomically with respect to readers of the book. Without a snapshot the
+     * book is cleared and reported as desynced. Does nothing if the asset is not resyncing.
+     *
+     * @param assetId  the asset
+     * @param snapshot the fresh snapshot, or null if it could not be fetched
+     */
+    public void completeResync(String assetId, BookEvent snapshot) {
+        ResyncBuffer pending = resyncing.get(assetId);
+        if (pending == null) {
+            return;
+        }
+        synchronized (pending) {
+            if (pending.done) {
+                return;
+            }
+            pending.done = true;
+            resyncing.remove(assetId, pending);
+
+            if (snapshot == null) {
+                OrderBook book = books.get(assetId);
+                if (book != null) {
+                    book.clear();
+                    notifyDesync(book);
+                }
+                return;
+            }
+            OrderBook book = getOrCreateBook(assetId);
+            try {
+                synchronized (book) {
+                    book.clear();
+                    book.applySnapshot(snapshot);
+                    long snapshotTime = book.getTimestamp();
+                    for (int i = 0; i < pending.entries.size(); i++) {
+                        long timestamp = pending.timestamps.get(i);
+                        if (timestamp == 0 || timestamp >= snapshotTime) {
+                            book.applyPriceChange(pending.entries.get(i), timestamp);
+                        }
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                logger.error("Invalid buffered price change for {}: {}", assetId, e.getMessage());
+                book.clear();
+                notifyDesync(book);
+                return;
+            }
+            notifyUpdate(book);
+        }
+    }
+
+    /**
+     * Whether the deltas of an asset are currently buffered for a resync
+     */
+    public boolean isResyncing(String assetId) {
+        return resyncing.containsKey(assetId);
+    }
+
+    private static final class ResyncBuffer {
+        private final List<PriceChangeEntry> entries = new ArrayList<>();
+        private final List<Long> timestamps = new ArrayList<>();
+        private boolean done;
+
+        /**
+         * @return false if the resync has already completed and the delta must be applied
+         */
+        synchronized boolean offer(PriceChangeEntry entry, long timestamp) {
+            if (done) {
+                return false;
+            }
+            entries.add(entry);
+            timestamps.add(timestamp);
+            return true;
+        }
+    }
+
+    private static boolean isLastEntryFor(List<PriceChangeEntry> entries, int index) {
+        String assetId = entries.get(index).getAssetId();
+        for (int i = index + 1, n = entries.size(); i < n; i++) {
+            if (assetId.equals(entries.get(i).getAssetId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the book for an asset, or null if no snapshot has been received for it
+     */
+    public OrderBook getBook(String assetId) {
+        return books.get(assetId);
+    }
+
+    /**
+     * Get the book for an asset handle, or null if no snapshot has been received for it or the
+     * manager has no {@link AssetIdTable}
+     */
+    public OrderBook getBook(int handle) {
+        OrderBook[] current = byHandle;
+        return handle >= 0 && handle < current.length ? current[handle] : null;
+    }
+
+    /**
+     * Get all books currently maintained
+     */
+    public Collection<OrderBook> getBooks() {
+        return Collections.unmodifiableCollection(books.values());
+    }
+
+    /**
+     * Stop maintaining the book for an asset
+     */
+    public OrderBook removeBook(String assetId) {
+        OrderBook removed = books.remove(assetId);
+        if (removed != null && assetIds != null) {
+            setByHandle(assetIds.handle(assetId), null);
+        }
+        return removed;
+    }
+
+    private OrderBook getOrCreateBook(String assetId) {
+        OrderBook book = books.get(assetId);
+        return book != null ? book : books.computeIfAbsent(assetId, this::newBook);
+    }
+
+    private OrderBook newBook(String assetId) {
+        OrderBook book = new OrderBook(assetId);
+        if (assetIds != null) {
+            setByHandle(assetIds.register(assetId), book);
+        }
+        return book;
+    }
+
+    private void setByHandle(int handle, OrderBook book) {
+        if (handle < 0) {
+            return;
+        }
+        synchronized (byHandleLock) {
+            OrderBook[] current = byHandle;
+            if (handle >= current.length) {
+                current = Arrays.copyOf(current, Math.max(handle + 1, current.length * 2));
+            }
+            current[handle] = book;
+            byHandle = current; // volatile write publishes the slot
+        }
+    }
+
+    private void notifyUpdate(OrderBook book) {
+        for (OrderBookListener listener : listeners) {
+            try {
+                listener.onUpdate(book);
+            } catch (Exception e) {
+                logger.error("Error notifying order book listener", e);
+            }
+        }
+    }
+
+    private void notifyDesync(OrderBook book) {
+        for (OrderBookListener listener : listeners) {
+            try {
+                listener.onDesync(book);
+            } catch (Exception e) {
+                logger.error("Error notifying order book listener", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.polymarket.clob.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Options for the off-callback processing pipeline of {@link WebSocketClobClient}
+ *
+ * @see WebSocketClobClient#enablePipeline(PipelineOptions)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PipelineOptions {
+
+    /**
+     * Number of worker threads decoding and dispatching events. Events of the same market,
+     * and therefore the same asset, are always handled by the same worker in arrival order.
+     */
+    @Builder.Default
+    private int workers = 1;
+
+    /**
+     * Slots per worker ring buffer, rounded up to a power of two. Frames arriving while a
+     * worker's ring is full are dropped and counted.
+     */
+    @Builder.Default
+    private int bufferSize = 8192;
+
+    /**
+     * How idle workers wait for frames
+     */
+    @Builder.Default
+    private WaitStrategy waitStrategy = WaitStrategy.YIELD;
+}
@@ -0,0 +1,61 @@
+package com.polymarket.clob.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Options for the resilient reconnect mode of {@link WebSocketClobClient}
+ *
+ * @see WebSocketClobClient#enableResilientReconnect(ReconnectOptions)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconnectOptions {
+
+    /**
+     * Delay before the first reconnect attempt, in milliseconds
+     */
+    @Builder.Default
+    private long initialDelayMs = 500;
+
+    /**
+     * Upper bound of the backoff delay, in milliseconds
+     */
+    @Builder.Default
+    private long maxDelayMs = 30_000;
+
+    /**
+     * Factor the delay grows by after each consecutive failure
+     */
+    @Builder.Default
+    private double multiplier = 2.0;
+
+    /**
+     * Fraction of each delay that is randomised, from 0 (none) to 1 (full jitter), so that
+     * many connections dropped together do not reconnect in lockstep
+     */
+    @Builder.Default
+    private double jitter = 0.5;
+
+    /**
+     * Maximum consecutive failed attempts before giving up, or 0 to retry forever
+     */
+    @Builder.Default
+    private int maxAttempts = 0;
+
+    /**
+     * Consecutive failures after which the circuit opens, or 0 to never open it
+     */
+    @Builder.Default
+    private int circuitBreakerThreshold = 10;
+
+    /**
+     * How long the circuit stays open before a single trial attempt, in milliseconds
+     */
+    @Builder.Default
+    private long circuitOpenMs = 60_000;
+}
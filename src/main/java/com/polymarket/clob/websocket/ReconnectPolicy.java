@@ -0,0 +1,101 @@
+package com.polymarket.clob.websocket;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Computes reconnect delays with jittered exponential backoff and tracks circuit breaker state.
+ *
+ * <p>Each consecutive failure grows the delay by the configured multiplier up to the maximum.
+ * Once failures reach the breaker threshold the circuit opens: the next attempt waits the full
+ * open period and is a single half-open trial. A failed trial re-opens the circuit, and a
+ * successful connection closes it and resets the backoff.
+ */
+public final class ReconnectPolicy {
+
+    /**
+     * Circuit breaker state
+     */
+    public enum State {
+        /**
+         * Connected, or reconnecting with normal backoff
+         */
+        CLOSED,
+
+        /**
+         * Too many consecutive failures, waiting out the open period
+         */
+        OPEN,
+
+        /**
+         * A trial attempt after the open period is in flight
+         */
+        HALF_OPEN
+    }
+
+    private final ReconnectOptions options;
+    private final DoubleSupplier random;
+
+    private State state = State.CLOSED;
+    private int failures;
+
+    public ReconnectPolicy(ReconnectOptions options) {
+        this(options, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    ReconnectPolicy(ReconnectOptions options, DoubleSupplier random) {
+        if (options.getInitialDelayMs() <= 0 || options.getMaxDelayMs() < options.getInitialDelayMs()) {
+            throw new IllegalArgumentException("Invalid reconnect delays");
+        }
+        if (options.getJitter() < 0 || options.getJitter() > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1");
+        }
+        this.options = options;
+        this.random = random;
+    }
+
+    /**
+     * Record a failed connection and get the delay before the next attempt
+     *
+     * @return the delay in milliseconds, or -1 if the maximum number of attempts is reached
+     */
+    public synchronized long onFailure() {
+        failures++;
+        if (options.getMaxAttempts() > 0 && failures > options.getMaxAttempts()) {
+            return -1;
+        }
+        if (state == State.HALF_OPEN
+                || (options.getCircuitBreakerThreshold() > 0 && failures >= options.getCircuitBreakerThreshold())) {
+            state = State.OPEN;
+            return options.getCircuitOpenMs();
+        }
+        double backoff = options.getInitialDelayMs() * Math.pow(options.getMultiplier(), failures - 1);
+        double delay = Math.min(backoff, options.getMaxDelayMs());
+        return Math.round(delay * (1 - options.getJitter() * random.getAsDouble()));
+    }
+
+    /**
+     * Record that a scheduled attempt is starting
+     */
+    public synchronized void onAttempt() {
+        if (state == State.OPEN) {
+            state = State.HALF_OPEN;
+        }
+    }
+
+    /**
+     * Record a successful connection, closing the circuit and resetting the backoff
+     */
+    public synchronized void onConnected() {
+        failures = 0;
+        state = State.CLOSED;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return failures;
+    }
+}
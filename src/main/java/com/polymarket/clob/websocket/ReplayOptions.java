@@ -0,0 +1,62 @@
+package com.polymarket.clob.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Options for a {@link JournalReplay}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReplayOptions {
+
+    /**
+     * Directory of the journal segments
+     */
+    private Path directory;
+
+    /**
+     * File name prefix of the segments
+     */
+    @Builder.Default
+    private String filePrefix = FrameJournal.DEFAULT_PREFIX;
+
+    /**
+     * Replay speed relative to the recording: 1 replays in real time, 10 ten times faster.
+     * Zero or less replays as fast as the listeners consume the frames.
+     */
+    @Builder.Default
+    private double speed = 0;
+
+    /**
+     * Replay frames received at or after this time, in epoch milliseconds
+     */
+    @Builder.Default
+    private long fromEpochMs = 0;
+
+    /**
+     * Replay frames received before this time, in epoch milliseconds
+     */
+    @Builder.Default
+    private long toEpochMs = Long.MAX_VALUE;
+
+    /**
+     * Replay only events of these asset IDs, or all events if null. A price_change event is
+     * replayed whole if any of its entries is for one of them, and events without an asset ID
+     * are always replayed.
+     */
+    private Collection<String> assetIds;
+
+    /**
+     * Replay only the frames of this journal connection, or of all connections if negative
+     */
+    @Builder.Default
+    private int connectionId = -1;
+}
@@ -0,0 +1,70 @@
+package com.polymarket.clob.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Statistics of a completed {@link JournalReplay}
+ */
+@Data
+@AllArgsConstructor
+public class ReplayStats {
+
+    /**
+     * Frames read from the journal, including those filtered out
+     */
+    private long framesRead;
+
+    /**
+     * Frames fed to the client. A frame of several events of which only some passed the asset
+     * filter counts once per event replayed.
+     */
+    private long framesReplayed;
+
+    /**
+     * Payload bytes fed to the client
+     */
+    private long bytesReplayed;
+
+    /**
+     * Events the client's pipeline dropped during the replay, which only happens if it was
+     * stopped while replaying
+     */
+    private long eventsDropped;
+
+    /**
+     * Wall-clock duration of the replay, in nanoseconds
+     */
+    private long elapsedNanos;
+
+    /**
+     * Receive time of the first frame replayed, in epoch nanoseconds, or 0 if none was
+     */
+    private long firstReceiveEpochNanos;
+
+    /**
+     * Receive time of the last frame replayed, in epoch nanoseconds, or 0 if none was
+     */
+    private long lastReceiveEpochNanos;
+
+    /**
+     * Frames replayed per second of wall-clock time
+     */
+    public double getFramesPerSecond() {
+        return elapsedNanos > 0 ? framesReplayed * 1e9 / elapsedNanos : 0;
+    }
+
+    /**
+     * Payload megabytes replayed per second of wall-clock time
+     */
+    public double getMegabytesPerSecond() {
+        return elapsedNanos > 0 ? bytesReplayed * 1e3 / elapsedNanos : 0;
+    }
+
+    /**
+     * Recorded time span replayed per unit of wall-clock time
+     */
+    public double getSpeedup() {
+        return elapsedNanos > 0 ? (double) (lastReceiveEpochNanos - firstReceiveEpochNanos) / elapsedNanos : 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.polymarket.clob.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Point-in-time statistics of one {@link ShardedWebSocketManager} shard
+ */
+@Data
+@AllArgsConstructor
+public class ShardStats {
+
+    /**
+     * Shard index
+     */
+    private int shard;
+
+    /**
+     * Number of asset IDs subscribed on the shard
+     */
+    private int assetCount;
+
+    /**
+     * Events received since the shard started
+     */
+    private long totalEvents;
+
+    /**
+     * Events per second over the last sample interval
+     */
+    private double eventsPerSecond;
+}
@@ -0,0 +1,437 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.BestBidAskEvent;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.PriceChangeEntry;
+import com.polymarket.clob.model.PriceChangeEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spreads market channel subscriptions over several {@link WebSocketClobClient} connections.
+ *
+ * <p>Asset IDs are partitioned across shards by hash or by asset count, and every shard
+ * delivers to the same listeners, so callers register once as with a single client. Events
+ * are counted per shard and per asset, and rates are sampled on a fixed interval. When a
+ * shard's rate exceeds {@link ShardingOptions#getSaturationEventsPerSecond()}, its busiest
+ * assets are moved to the least loaded shards.
+ *
+ * <p>A moved asset is subscribed on its new shard before it is unsubscribed from the old one,
+ * on the live connections, so listeners may briefly see duplicate events for it but no gap.
+ */
+public class ShardedWebSocketManager {
+    private static final Logger logger = LogManager.getLogger(ShardedWebSocketManager.class);
+
+    private final String baseUrl;
+    private final ShardingOptions options;
+    private final Shard[] shards;
+    private final Map<String, Integer> assignments = new HashMap<>();
+    private final Map<String, AssetCounter> assetCounters = new ConcurrentHashMap<>();
+    private final List<WebSocketListener> mapListeners = new ArrayList<>();
+    private final Map<TypedWebSocketListener, EventType[]> typedListeners = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private boolean started;
+    private long lastSampleNanos;
+    private long lastRebalanceMillis;
+
+    /**
+     * @param baseUrl  the base URL of the WebSocket endpoint (without the /ws path)
+     * @param assetIds the asset IDs to subscribe to
+     * @param options  the sharding options
+     */
+    public ShardedWebSocketManager(String baseUrl, Collection<String> assetIds, ShardingOptions options) {
+        if (options.getShards() <= 0) {
+            throw new IllegalArgumentException("Sharding needs at least one shard");
+        }
+        this.baseUrl = baseUrl;
+        this.options = options;
+        this.shards = new Shard[options.getShards()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i);
+        }
+        for (String assetId : new LinkedHashSet<>(assetIds)) {
+            int shard = options.getAssignment() == ShardingOptions.Assignment.LOAD
+                    ? fewestAssets()
+                    : (assetId.hashCode() & Integer.MAX_VALUE) % shards.length;
+            assign(assetId, shard);
+        }
+    }
+
+    // ==================== Listeners ====================
+
+    /**
+     * Registers a Map-based listener on every shard
+     */
+    public synchronized void registerListener(WebSocketListener listener) {
+        mapListeners.add(listener);
+        for (Shard shard : shards) {
+            if (shard.client != null) {
+                shard.client.registerListener(listener);
+            }
+        }
+    }
+
+    /**
+     * Registers a typed listener for all event types on every shard
+     */
+    public void registerListener(TypedWebSocketListener listener) {
+        registerListener(listener, EventType.values());
+    }
+
+    /**
+     * Registers a typed listener for the given event types on every shard
+     */
+    public synchronized void registerListener(TypedWebSocketListener listener, EventType... eventTypes) {
+        typedListeners.put(listener, eventTypes);
+        for (Shard shard : shards) {
+            if (shard.client != null) {
+                shard.client.registerListener(listener, eventTypes);
+            }
+        }
+    }
+
+    /**
+     * Removes a typed listener from every shard
+     */
+    public synchronized void unregisterListener(TypedWebSocketListener listener) {
+        typedListeners.remove(listener);
+        for (Shard shard : shards) {
+            if (shard.client != null) {
+                shard.client.unregisterListener(listener);
+            }
+        }
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Connect every non-empty shard and start sampling rates. May be called again after
+     * {@link #close()} to reconnect.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        for (Shard shard : shards) {
+            connect(shard);
+        }
+        lastSampleNanos = System.nanoTime();
+        lastRebalanceMillis = System.currentTimeMillis();
+        long interval = options.getSampleIntervalMs();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "clob-ws-shards");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sampleAndRebalance, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Close every shard connection
+     */
+    public synchronized void close() {
+        started = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        for (Shard shard : shards) {
+            if (shard.client != null) {
+                shard.client.close();
+                shard.client = null;
+            }
+        }
+    }
+
+    /**
+     * Creates the connection for one shard. Overridable to customise the clients.
+     *
+     * @param assetIds the asset IDs the shard subscribes to
+     */
+    protected WebSocketClobClient createClient(List<String> assetIds) {
+        return new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, baseUrl, assetIds, null);
+    }
+
+    private void connect(Shard shard) {
+        if (shard.assets.isEmpty()) {
+            return;
+        }
+        WebSocketClobClient client = createClient(new ArrayList<>(shard.assets));
+        if (options.getAssetIds() != null) {
+            client.setAssetIds(options.getAssetIds());
+        }
+        if (options.getIngestMetrics() != null) {
+            client.setIngestMetrics(options.getIngestMetrics());
+        }
+        if (options.getJournal() != null) {
+            client.setJournal(options.getJournal());
+        }
+        if (options.getPipeline() != null) {
+            client.enablePipeline(options.getPipeline());
+        }
+        client.registerListener(shard.counter);
+        for (WebSocketListener listener : mapListeners) {
+            client.registerListener(listener);
+        }
+        typedListeners.forEach(client::registerListener);
+        client.run();
+        shard.client = client;
+    }
+
+    /**
+     * Move one asset between shards on the live connections, subscribing before unsubscribing
+     */
+    private void move(String assetId, Shard from, Shard to) {
+        from.assets.remove(assetId);
+        assign(assetId, to.index);
+        if (!started) {
+            return;
+        }
+        if (to.client == null) {
+            connect(to);
+        } else {
+            to.client.subscribe(Collections.singletonList(assetId));
+        }
+        from.client.unsubscribe(Collections.singletonList(assetId));
+    }
+
+    // ==================== Rebalancing ====================
+
+    /**
+     * Sample rates now and rebalance if a shard is saturated, ignoring the cooldown
+     *
+     * @return the number of assets moved
+     */
+    public synchronized int rebalance() {
+        sample();
+        return moveFromSaturated();
+    }
+
+    private synchronized void sampleAndRebalance() {
+        try {
+            sample();
+            if (options.getSaturationEventsPerSecond() > 0
+                    && System.currentTimeMillis() - lastRebalanceMillis >= options.getRebalanceCooldownMs()) {
+                if (moveFromSaturated() > 0) {
+                    lastRebalanceMillis = System.currentTimeMillis();
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error rebalancing shards", e);
+        }
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        double seconds = Math.max(now - lastSampleNanos, 1) / 1e9;
+        lastSampleNanos = now;
+        for (Shard shard : shards) {
+            long total = shard.events.sum();
+            shard.eventsPerSecond = (total - shard.lastEvents) / seconds;
+            shard.lastEvents = total;
+        }
+        for (AssetCounter counter : assetCounters.values()) {
+            long total = counter.events.sum();
+            counter.eventsPerSecond = (total - counter.lastEvents) / seconds;
+            counter.lastEvents = total;
+        }
+    }
+
+    /**
+     * Move the busiest assets off each saturated shard, each to the least loaded shard as
+     * long as that shard ends up less loaded than the saturated one was
+     */
+    private int moveFromSaturated() {
+        double threshold = options.getSaturationEventsPerSecond();
+        if (threshold <= 0 || shards.length == 1) {
+            return 0;
+        }
+        double[] load = new double[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            load[i] = shards[i].eventsPerSecond;
+        }
+
+        int moved = 0;
+        for (Shard hot : shards) {
+            if (load[hot.index] <= threshold || hot.assets.size() <= 1) {
+                continue;
+            }
+            List<String> busiest = new ArrayList<>(hot.assets);
+            busiest.sort((a, b) -> Double.compare(assetRate(b), assetRate(a)));
+            for (String assetId : busiest) {
+                if (load[hot.index] <= threshold || hot.assets.size() <= 1) {
+                    break;
+                }
+                double rate = assetRate(assetId);
+                int target = leastLoaded(load);
+                if (rate <= 0 || load[target] + rate >= load[hot.index]) {
+                    continue;
+                }
+                move(assetId, hot, shards[target]);
+                load[hot.index] -= rate;
+                load[target] += rate;
+                moved++;
+            }
+        }
+
+        if (moved > 0) {
+            logger.info("Rebalanced {} assets across {} shards", moved, shards.length);
+        }
+        return moved;
+    }
+
+    private double assetRate(String assetId) {
+        AssetCounter counter = assetCounters.get(assetId);
+        return counter != null ? counter.eventsPerSecond : 0;
+    }
+
+    private static int leastLoaded(double[] load) {
+        int best = 0;
+        for (int i = 1; i < load.length; i++) {
+            if (load[i] < load[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private int fewestAssets() {
+        int best = 0;
+        for (int i = 1; i < shards.length; i++) {
+            if (shards[i].assets.size() < shards[best].assets.size()) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private void assign(String assetId, int shard) {
+        shards[shard].assets.add(assetId);
+        assignments.put(assetId, shard);
+    }
+
+    // ==================== Stats ====================
+
+    /**
+     * Statistics of every shard, with rates as of the last sample
+     */
+    public synchronized List<ShardStats> getShardStats() {
+        List<ShardStats> stats = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            stats.add(new ShardStats(shard.index, shard.assets.size(), shard.events.sum(), shard.eventsPerSecond));
+        }
+        return stats;
+    }
+
+    /**
+     * Events per second of one asset as of the last sample
+     */
+    public double getAssetRate(String assetId) {
+        return assetRate(assetId);
+    }
+
+    /**
+     * Get the shard an asset is subscribed on, or -1 if it is not managed
+     */
+    public synchronized int getShard(String assetId) {
+        Integer shard = assignments.get(assetId);
+        return shard != null ? shard : -1;
+    }
+
+    /**
+     * Get the asset IDs subscribed on one shard
+     */
+    public synchronized Set<String> getAssets(int shard) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(shards[shard].assets));
+    }
+
+    /**
+     * Get the current connection of one shard, or null if it has no assets or is not started
+     */
+    public synchronized WebSocketClobClient getClient(int shard) {
+        return shards[shard].client;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private final class Shard {
+        private final int index;
+        private final Set<String> assets = new LinkedHashSet<>();
+        private final LongAdder events = new LongAdder();
+        private final TypedWebSocketListener counter;
+        private volatile WebSocketClobClient client;
+        private long lastEvents;
+        private volatile double eventsPerSecond;
+
+        Shard(int index) {
+            this.index = index;
+            this.counter = new TypedWebSocketListener() {
+                @Override
+                public void onBook(BookEvent event) {
+                    count(event.getAssetId());
+                }
+
+                @Override
+                public void onPriceChange(PriceChangeEvent event) {
+                    events.increment();
+                    if (event.getPriceChanges() != null) {
+                        for (PriceChangeEntry entry : event.getPriceChanges()) {
+                            countAsset(entry.getAssetId());
+                        }
+                    }
+                }
+
+                @Override
+                public void onLastTradePrice(LastTradePriceEvent event) {
+                    count(event.getAssetId());
+                }
+
+                @Override
+                public void onBestBidAsk(BestBidAskEvent event) {
+                    count(event.getAssetId());
+                }
+
+                @Override
+                public void onUnknown(String eventType, Map<String, Object> message) {
+                    events.increment();
+                }
+            };
+        }
+
+        private void count(String assetId) {
+            events.increment();
+            countAsset(assetId);
+        }
+    }
+
+    private void countAsset(String assetId) {
+        if (assetId != null) {
+            assetCounters.computeIfAbsent(assetId, k -> new AssetCounter()).events.increment();
+        }
+    }
+
+    private static final class AssetCounter {
+        private final LongAdder events = new LongAdder();
+        private long lastEvents;
+        private volatile double eventsPerSecond;
+    }
+}
@@ -0,0 +1,87 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.market.AssetIdTable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Options for {@link ShardedWebSocketManager}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShardingOptions {
+
+    /**
+     * How asset IDs are initially assigned to shards
+     */
+    public enum Assignment {
+        /**
+         * By hash of the asset ID, stable across restarts
+         */
+        HASH,
+
+        /**
+         * To the shard with the fewest assets
+         */
+        LOAD
+    }
+
+    /**
+     * Number of WebSocket connections
+     */
+    @Builder.Default
+    private int shards = Runtime.getRuntime().availableProcessors();
+
+    @Builder.Default
+    private Assignment assignment = Assignment.HASH;
+
+    /**
+     * How often per-shard and per-asset message rates are sampled, in milliseconds
+     */
+    @Builder.Default
+    private long sampleIntervalMs = 1000;
+
+    /**
+     * Events per second above which a shard is considered saturated and its busiest assets are
+     * moved to less loaded shards. Zero disables automatic rebalancing.
+     */
+    @Builder.Default
+    private double saturationEventsPerSecond = 5000;
+
+    /**
+     * Minimum time between two automatic rebalances, in milliseconds
+     */
+    @Builder.Default
+    private long rebalanceCooldownMs = 30_000;
+
+    /**
+     * Pipeline options applied to every shard connection, or null to process events on each
+     * connection's reader thread
+     */
+    private PipelineOptions pipeline;
+
+    /**
+     * Asset ID symbol table shared by every shard connection, or null
+     *
+     * @see WebSocketClobClient#setAssetIds(AssetIdTable)
+     */
+    private AssetIdTable assetIds;
+
+    /**
+     * Ingest metrics shared by every shard connection, or null
+     *
+     * @see WebSocketClobClient#setIngestMetrics(IngestMetrics)
+     */
+    private IngestMetrics ingestMetrics;
+
+    /**
+     * Journal recording the frames of every shard connection, or null
+     *
+     * @see WebSocketClobClient#setJournal(FrameJournal)
+     */
+    private FrameJournal journal;
+}
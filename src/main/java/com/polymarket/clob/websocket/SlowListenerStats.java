@@ -0,0 +1,32 @@
+package com.polymarket.clob.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Slow calls of one listener recorded by an {@link IngestMetrics}
+ */
+@Data
+@AllArgsConstructor
+public class SlowListenerStats {
+
+    /**
+     * Class name and identity hash of the listener
+     */
+    private String listener;
+
+    /**
+     * Calls that took longer than the slow-call threshold
+     */
+    private long slowCalls;
+
+    /**
+     * Longest call, in nanoseconds
+     */
+    private long maxNanos;
+
+    /**
+     * Event type of the most recent slow call
+     */
+    private EventType lastEventType;
+}
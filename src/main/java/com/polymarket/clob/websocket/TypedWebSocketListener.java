@@ -0,0 +1,80 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.BestBidAskEvent;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.OrderEvent;
+import com.polymarket.clob.model.PriceChangeEvent;
+import com.polymarket.clob.model.TradeEvent;
+
+import java.util.Map;
+
+/**
+ * Typed listener for WebSocket events from {@link WebSocketClobClient}.
+ *
+ * <p>Each event type has its own callback receiving the deserialized model, so no per-message
+ * map is built and no event type string has to be compared. Override only the callbacks of
+ * interest, and register for just the event types needed to skip dispatch of the others:
+ *
+ * <pre>
+ * client.registerListener(new TypedWebSocketListener() {
+ *     public void onBook(BookEvent event) { ... }
+ * }, EventType.BOOK);
+ * </pre>
+ *
+ * @see WebSocketClobClient#registerListener(TypedWebSocketListener, EventType...)
+ * @see WebSocketListenerAdapter
+ */
+public interface TypedWebSocketListener {
+
+    /**
+     * Full order book snapshot for an asset
+     */
+    default void onBook(BookEvent event) {
+    }
+
+    /**
+     * Price level changes for one or more assets of a market
+     */
+    default void onPriceChange(PriceChangeEvent event) {
+    }
+
+    /**
+     * Last trade price for an asset
+     */
+    default void onLastTradePrice(LastTradePriceEvent event) {
+    }
+
+    /**
+     * Best bid and ask update for an asset
+     */
+    default void onBestBidAsk(BestBidAskEvent event) {
+    }
+
+    /**
+     * Trade of one of the user's orders
+     */
+    default void onTrade(TradeEvent event) {
+    }
+
+    /**
+     * Order placement, update or cancellation
+     */
+    default void onOrder(OrderEvent event) {
+    }
+
+    /**
+     * User order fill, delivered as the raw message fields
+     */
+    default void onFill(Map<String, Object> message) {
+    }
+
+    /**
+     * Unrecognized, unparseable or undecodable message
+     *
+     * @param eventType the event_type of the message as received (may be null)
+     * @param message   the raw message fields, or a map holding "raw_message" if it could not be parsed
+     */
+    default void onUnknown(String eventType, Map<String, Object> message) {
+    }
+}
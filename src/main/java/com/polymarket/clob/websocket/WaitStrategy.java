@@ -0,0 +1,48 @@
+package com.polymarket.clob.websocket;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a pipeline worker waits for frames when its ring buffer is empty.
+ * Trades latency against CPU usage.
+ */
+public enum WaitStrategy {
+
+    /**
+     * Spin on the CPU. Lowest latency, keeps one core busy per worker.
+     */
+    BUSY_SPIN,
+
+    /**
+     * Spin briefly, then yield the CPU to other threads between checks.
+     */
+    YIELD,
+
+    /**
+     * Spin briefly, then park for short intervals. Lowest CPU usage, adds up to
+     * {@link #PARK_NANOS} plus timer slack of latency once idle.
+     */
+    PARK;
+
+    /**
+     * Park interval used by {@link #PARK}
+     */
+    public static final long PARK_NANOS = 50_000L;
+
+    private static final int SPIN_TRIES = 100;
+
+    /**
+     * Wait once
+     *
+     * @param idleCount the number of consecutive empty polls so far
+     */
+    void idle(int idleCount) {
+        if (this == BUSY_SPIN || idleCount < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (this == YIELD) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
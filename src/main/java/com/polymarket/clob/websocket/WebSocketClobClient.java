@@ -2,14 +2,22 @@ package com.polymarket.clob.websocket;
 
 
 import com.alibaba.fastjson2.JSON;
-import com.alibaba.fastjson2.JSONObject;
+import com.polymarket.clob.market.AssetIdTable;
+import com.polymarket.clob.model.BestBidAskEvent;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.OrderEvent;
+import com.polymarket.clob.model.PriceChangeEvent;
+import com.polymarket.clob.model.TradeEvent;
 import okhttp3.*;
+import okio.ByteString;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.polymarket.clob.websocket.EventType.*;
 
@@ -31,6 +39,26 @@ import static com.polymarket.clob.websocket.EventType.*;
  *   <li>Listener notification pattern</li>
  * </ul>
  *
+ * <p>Subscriptions can be changed on a live connection with {@link #subscribe(Collection)} and
+ * {@link #unsubscribe(Collection)}, and the current set is resent on every reconnect.
+ *
+ * <p>By default a dropped connection is retried a few times with linear backoff.
+ * {@link #enableResilientReconnect(ReconnectOptions)} switches to jittered exponential backoff
+ * with a circuit breaker, and {@link ConnectionStateListener}s are told about disconnects and
+ * reconnects, for example to resync books with {@link BookResynchronizer}.
+ *
+ * <p>With {@link #setAssetIds(AssetIdTable)}, subscribed asset IDs are registered in a symbol
+ * table and the asset IDs of decoded events are its canonical instances, so listeners can
+ * index state by handle.
+ *
+ * <p>With {@link #setIngestMetrics(IngestMetrics)}, event rates, decode and dispatch times,
+ * lag behind the exchange and slow listener calls are recorded, and with
+ * {@link #setJournal(FrameJournal)} every frame received is recorded to disk for replay.
+ *
+ * <p>Listeners are either typed ({@link TypedWebSocketListener}), subscribed per {@link EventType},
+ * or Map-based ({@link WebSocketListener}).
+ *
+ * @see TypedWebSocketListener
  * @see WebSocketListener
  */
 public class WebSocketClobClient extends okhttp3.WebSocketListener {
@@ -49,14 +77,30 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
 
     private final String channelType;
     private final String url;
-    private final List<String> data; // asset_ids or markets
+    private final Set<String> subscriptions = new LinkedHashSet<>(); // asset_ids or markets
+    private final Object subscriptionsLock = new Object();
     private final Map<String, Object> auth;
     private final OkHttpClient client;
     private final ScheduledExecutorService scheduler;
 
     private WebSocket webSocket;
+    private WebSocket openSocket; // guarded by subscriptionsLock, null until the subscription is sent
 
-    private List<WebSocketListener> listeners = new ArrayList<>();
+    private final List<WebSocketListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Typed subscribers indexed by {@link EventType#ordinal()}, replaced copy-on-write
+     */
+    private volatile TypedWebSocketListener[][] subscribers = new TypedWebSocketListener[EventType.values().length][0];
+    private final Object subscribersLock = new Object();
+    private final TypedWebSocketListener mapListenerAdapter = new WebSocketListenerAdapter(this::notifyListener);
+    private final WebSocketMessageDecoder decoder = new WebSocketMessageDecoder(this::dispatch);
+    private volatile WebSocketPipeline pipeline;
+    private volatile AssetIdTable assetIds;
+    private volatile IngestMetrics ingestMetrics;
+    private volatile FrameJournal.Connection journal;
+    private volatile ReconnectPolicy reconnectPolicy;
+    private final List<ConnectionStateListener> connectionListeners = new CopyOnWriteArrayList<>();
 
     private volatile boolean isClosedByUser = false;
     private volatile boolean isReconnecting = false;
@@ -65,6 +109,12 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
     private int reconnectAttempts = 0;
     private ScheduledFuture<?> pingTask = null;
 
+    private volatile boolean disconnected = false;
+    private volatile long disconnectedAtNanos;
+    private volatile long lastDowntimeMs;
+    private final AtomicLong reconnectCount = new AtomicLong();
+    private final AtomicLong totalDowntimeMs = new AtomicLong();
+
 
     /**
      * Constructs a new WebSocketClobClient.
@@ -77,7 +127,9 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
     public WebSocketClobClient(String channelType, String baseUrl, List<String> data, Map<String, Object> auth) {
         this.channelType = channelType;
         this.url = baseUrl + "/ws/" + channelType;
-        this.data = data;
+        if (data != null) {
+            this.subscriptions.addAll(data);
+        }
         this.auth = auth;
         this.scheduler = Executors.newScheduledThreadPool(1);//threads to allocate for the scheduler (used for ping/pong mechanism)
 
@@ -103,13 +155,270 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
      * Registers a listener to receive WebSocket event notifications.
      * Multiple listeners can be registered and will all be notified when events occur.
      *
+     * <p>Map listeners are served through a single {@link WebSocketListenerAdapter}, so the
+     * message map is only built when at least one is registered.
+     *
      * @param listener the listener to register for event notifications
      * @see WebSocketListener#onEvent(String, Map)
      */
     public void registerListener(WebSocketListener listener) {
-        this.listeners.add(listener);
+        synchronized (subscribersLock) {
+            this.listeners.add(listener);
+            if (this.listeners.size() == 1) {
+                addSubscriber(mapListenerAdapter, EventType.values());
+            }
+        }
+    }
+
+    /**
+     * Registers a typed listener for all event types.
+     *
+     * @param listener the listener to register
+     */
+    public void registerListener(TypedWebSocketListener listener) {
+        registerListener(listener, EventType.values());
+    }
+
+    /**
+     * Registers a typed listener for the given event types only. Events of other types are
+     * never dispatched to it.
+     *
+     * @param listener   the listener to register
+     * @param eventTypes the event types to subscribe to
+     */
+    public void registerListener(TypedWebSocketListener listener, EventType... eventTypes) {
+        synchronized (subscribersLock) {
+            addSubscriber(listener, eventTypes);
+        }
+    }
+
+    /**
+     * Removes a typed listener from every event type it was registered for.
+     *
+     * @param listener the listener to remove
+     */
+    public void unregisterListener(TypedWebSocketListener listener) {
+        synchronized (subscribersLock) {
+            TypedWebSocketListener[][] updated = subscribers.clone();
+            for (int i = 0; i < updated.length; i++) {
+                updated[i] = Arrays.stream(updated[i])
+                        .filter(l -> l != listener)
+                        .toArray(TypedWebSocketListener[]::new);
+            }
+            subscribers = updated;
+        }
     }
 
+    private void addSubscriber(TypedWebSocketListener listener, EventType... eventTypes) {
+        TypedWebSocketListener[][] updated = subscribers.clone();
+        for (EventType eventType : eventTypes) {
+            TypedWebSocketListener[] current = updated[eventType.ordinal()];
+            TypedWebSocketListener[] extended = Arrays.copyOf(current, current.length + 1);
+            extended[current.length] = listener;
+            updated[eventType.ordinal()] = extended;
+        }
+        subscribers = updated;
+    }
+
+    // ==================== Subscriptions ====================
+
+    /**
+     * Adds asset IDs (for MARKET_CHANNEL) or markets (for USER_CHANNEL) to the subscription.
+     * When connected, only the IDs not already subscribed are sent in an incremental
+     * subscribe frame; otherwise they are sent with the subscription on the next connect.
+     * The full set is replayed on every reconnect.
+     *
+     * @param ids the IDs to subscribe to
+     * @return the number of IDs that were not already subscribed
+     */
+    public int subscribe(Collection<String> ids) {
+        synchronized (subscriptionsLock) {
+            List<String> added = new ArrayList<>();
+            for (String id : ids) {
+                if (subscriptions.add(id)) {
+                    added.add(id);
+                }
+            }
+            registerAssetIds(added);
+            sendOperation("subscribe", added);
+            return added.size();
+        }
+    }
+
+    /**
+     * Removes asset IDs or markets from the subscription, sending an incremental unsubscribe
+     * frame when connected.
+     *
+     * @param ids the IDs to unsubscribe from
+     * @return the number of IDs that were subscribed
+     */
+    public int unsubscribe(Collection<String> ids) {
+        synchronized (subscriptionsLock) {
+            List<String> removed = new ArrayList<>();
+            for (String id : ids) {
+                if (subscriptions.remove(id)) {
+                    removed.add(id);
+                }
+            }
+            sendOperation("unsubscribe", removed);
+            return removed.size();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the subscribed asset IDs or markets, in subscription order.
+     */
+    public List<String> getSubscriptions() {
+        synchronized (subscriptionsLock) {
+            return new ArrayList<>(subscriptions);
+        }
+    }
+
+    private void sendOperation(String operation, List<String> ids) {
+        if (ids.isEmpty() || openSocket == null) {
+            return;
+        }
+        Map<String, Object> operationMsg = new HashMap<>();
+        operationMsg.put(idsKey(), ids);
+        operationMsg.put("operation", operation);
+        String jsonMsg = JSON.toJSONString(operationMsg);
+        if (openSocket.send(jsonMsg)) {
+            logger.info("Sent {} for {} ids", operation, ids.size());
+        } else {
+            // the socket is going away, the set is replayed on reconnect
+            logger.warn("Could not send {} for {} ids, socket closing", operation, ids.size());
+        }
+    }
+
+    /**
+     * Register subscribed asset IDs in a symbol table and canonicalize the asset IDs of
+     * decoded events against it. For MARKET_CHANNEL the current and future subscriptions are
+     * registered. Call before {@link #run()} and {@link #enablePipeline(PipelineOptions)}.
+     *
+     * @param assetIds the symbol table, which may be shared with other clients and a
+     *                 {@link com.polymarket.clob.market.MarketCatalog}
+     */
+    public void setAssetIds(AssetIdTable assetIds) {
+        synchronized (subscriptionsLock) {
+            this.assetIds = assetIds;
+            registerAssetIds(subscriptions);
+        }
+        decoder.setAssetIds(assetIds);
+    }
+
+    /**
+     * Returns the asset ID symbol table, or null if none was set
+     */
+    public AssetIdTable getAssetIds() {
+        return assetIds;
+    }
+
+    /**
+     * Record ingest metrics of this connection, on the reader thread or the pipeline workers.
+     * May be called at any time, and the metrics may be shared with other clients.
+     *
+     * @param metrics the metrics, or null to stop recording
+     */
+    public synchronized void setIngestMetrics(IngestMetrics metrics) {
+        this.ingestMetrics = metrics;
+        decoder.setMetrics(metrics);
+        WebSocketPipeline current = pipeline;
+        if (current != null) {
+            current.setMetrics(metrics);
+        }
+    }
+
+    /**
+     * Returns the ingest metrics, or null if none were set
+     */
+    public IngestMetrics getIngestMetrics() {
+        return ingestMetrics;
+    }
+
+    /**
+     * Record every frame received to a journal, stamped with the receive time and a connection
+     * ID that identifies this client across reconnects. The reader thread only hands the frame
+     * to the journal's writer thread.
+     *
+     * @param journal the journal, which may be shared with other clients, or null to stop recording
+     */
+    public synchronized void setJournal(FrameJournal journal) {
+        FrameJournal.Connection previous = this.journal;
+        if (previous != null) {
+            previous.close();
+        }
+        this.journal = journal != null ? journal.connect() : null;
+    }
+
+    /**
+     * Returns the connection ID of this client in its journal, or -1 if it is not recorded
+     */
+    public int getJournalConnectionId() {
+        FrameJournal.Connection current = journal;
+        return current != null ? current.id() : -1;
+    }
+
+    private void registerAssetIds(Collection<String> ids) {
+        AssetIdTable table = assetIds;
+        if (table != null && MARKET_CHANNEL.equals(channelType)) {
+            table.registerAll(ids);
+        }
+    }
+
+    private String idsKey() {
+        return USER_CHANNEL.equals(channelType) ? "markets" : "assets_ids";
+    }
+
+    /**
+     * Dispatches a decoded event to the typed subscribers of its event type.
+     * If a listener throws an exception, it is logged and dispatch continues to other listeners.
+     *
+     * @param eventType    the resolved event type
+     * @param rawEventType the event_type as received, passed to {@link TypedWebSocketListener#onUnknown}
+     * @param event        the typed event, or the raw message map for FILL and UNKNOWN
+     */
+    @SuppressWarnings("unchecked")
+    void dispatch(EventType eventType, String rawEventType, Object event) {
+        IngestMetrics metrics = ingestMetrics;
+        for (TypedWebSocketListener listener : subscribers[eventType.ordinal()]) {
+            long start = metrics != null ? System.nanoTime() : 0;
+            try {
+                switch (eventType) {
+                    case BOOK:
+                        listener.onBook((BookEvent) event);
+                        break;
+                    case PRICE_CHANGE:
+                        listener.onPriceChange((PriceChangeEvent) event);
+                        break;
+                    case LAST_TRADE_PRICE:
+                        listener.onLastTradePrice((LastTradePriceEvent) event);
+                        break;
+                    case BEST_BID_ASK:
+                        listener.onBestBidAsk((BestBidAskEvent) event);
+                        break;
+                    case TRADE:
+                        listener.onTrade((TradeEvent) event);
+                        break;
+                    case ORDER:
+                        listener.onOrder((OrderEvent) event);
+                        break;
+                    case FILL:
+                        listener.onFill((Map<String, Object>) event);
+                        break;
+                    case UNKNOWN:
+                    default:
+                        listener.onUnknown(rawEventType, (Map<String, Object>) event);
+                        break;
+                }
+            } catch (Exception e) {
+                logger.error("Error notifying listener", e);
+            }
+            // map listeners are timed one by one in notifyListener
+            if (metrics != null && listener != mapListenerAdapter) {
+                metrics.recordListenerCall(listener, eventType, System.nanoTime() - start);
+            }
+        }
+    }
 
     /**
      * Notifies all registered listeners about a WebSocket event.
@@ -121,15 +430,122 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
      * @see WebSocketListener#onEvent(String, Map)
      */
     public void notifyListener(String eventType, Map<String, Object> messageMap) {
+        IngestMetrics metrics = ingestMetrics;
         for (WebSocketListener listener : listeners) {
+            long start = metrics != null ? System.nanoTime() : 0;
             try {
                 listener.onEvent(eventType, messageMap);
             } catch (Exception e) {
                 logger.error("Error notifying listener", e);
             }
+            if (metrics != null) {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= metrics.getSlowCallThresholdNanos()) {
+                    metrics.recordListenerCall(listener, EventType.fromValue(eventType), elapsed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Enables pipeline mode: the socket reader thread only enqueues frames, and worker threads
+     * decode them and notify listeners. Listeners are then called from worker threads, with
+     * events of the same market always delivered in order by the same worker.
+     * Call before {@link #run()}.
+     *
+     * @param options the pipeline options
+     * @return the pipeline, for its queue depth and drop counters
+     * @throws IllegalStateException if the pipeline is already enabled
+     */
+    public synchronized WebSocketPipeline enablePipeline(PipelineOptions options) {
+        if (pipeline != null) {
+            throw new IllegalStateException("Pipeline already enabled");
+        }
+        WebSocketPipeline created = new WebSocketPipeline(options, this::dispatch, assetIds);
+        created.setMetrics(ingestMetrics);
+        created.start();
+        pipeline = created;
+        return created;
+    }
+
+    /**
+     * Returns the pipeline, or null when events are processed on the socket reader thread.
+     */
+    public WebSocketPipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Feed a recorded frame through the pipeline or the decoder as if it had just been received,
+     * without journaling it again. Called by {@link JournalReplay} on its own thread, so the
+     * client must not be connected at the same time. Unlike live frames, replayed frames wait
+     * for room in the pipeline rather than being dropped.
+     */
+    void replay(byte[] bytes, int offset, int length) {
+        WebSocketPipeline pipeline = this.pipeline;
+        if (pipeline != null) {
+            // the pipeline keeps a reference to the frame until a worker decodes it
+            pipeline.publishAwait(Arrays.copyOfRange(bytes, offset, offset + length));
+        } else {
+            decoder.decode(bytes, offset, length);
         }
     }
 
+    // ==================== Reconnect ====================
+
+    /**
+     * Enables resilient reconnect mode: jittered exponential backoff, retries without limit by
+     * default, and a circuit breaker that slows down attempts after repeated failures.
+     *
+     * @param options the reconnect options
+     * @return the policy, for its circuit breaker state
+     * @throws IllegalStateException if resilient reconnect is already enabled
+     */
+    public synchronized ReconnectPolicy enableResilientReconnect(ReconnectOptions options) {
+        if (reconnectPolicy != null) {
+            throw new IllegalStateException("Resilient reconnect already enabled");
+        }
+        ReconnectPolicy created = new ReconnectPolicy(options);
+        reconnectPolicy = created;
+        return created;
+    }
+
+    /**
+     * Returns the circuit breaker state, always CLOSED unless resilient reconnect is enabled.
+     */
+    public ReconnectPolicy.State getCircuitState() {
+        ReconnectPolicy policy = reconnectPolicy;
+        return policy != null ? policy.getState() : ReconnectPolicy.State.CLOSED;
+    }
+
+    /**
+     * Registers a listener for disconnects and reconnects
+     */
+    public void addConnectionListener(ConnectionStateListener listener) {
+        connectionListeners.add(listener);
+    }
+
+    /**
+     * Number of times the connection was reopened after being lost
+     */
+    public long getReconnectCount() {
+        return reconnectCount.get();
+    }
+
+    /**
+     * Downtime of the last outage, in milliseconds
+     */
+    public long getLastDowntimeMs() {
+        return lastDowntimeMs;
+    }
+
+    /**
+     * Total downtime across all outages, in milliseconds
+     */
+    public long getTotalDowntimeMs() {
+        return totalDowntimeMs.get();
+    }
+
     /**
      * Initiates the WebSocket connection to the server.
      * Creates a WebSocket request and establishes the connection.
@@ -146,7 +562,7 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
 
     /**
      * Callback invoked when the WebSocket connection is successfully established.
-     * Sends the initial subscription message for the configured channel type and starts the ping scheduler.
+     * Sends the subscription message with the current subscription set and starts the ping scheduler.
      *
      * <p>For MARKET_CHANNEL, subscribes to asset IDs for market data.
      * For USER_CHANNEL, subscribes to markets with authentication credentials.
@@ -159,22 +575,45 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
         logger.info("WebSocket connected to {}", url);
         reconnectAttempts = 0; // Reset reconnection attempts on successful connection
         isReconnecting = false;
+        ReconnectPolicy policy = reconnectPolicy;
+        if (policy != null) {
+            policy.onConnected();
+        }
+        if (disconnected) {
+            disconnected = false;
+            long downtimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - disconnectedAtNanos);
+            lastDowntimeMs = downtimeMs;
+            totalDowntimeMs.addAndGet(downtimeMs);
+            reconnectCount.incrementAndGet();
+            logger.info("WebSocket {} reconnected after {} ms", url, downtimeMs);
+            for (ConnectionStateListener listener : connectionListeners) {
+                try {
+                    listener.onReconnected(this, downtimeMs);
+                } catch (Exception e) {
+                    logger.error("Error notifying connection listener", e);
+                }
+            }
+        }
 
         try {
-            // Send subscription message
-            Map<String, Object> subscriptionMsg = new HashMap<>();
-            subscriptionMsg.put("type", channelType);
-
-            if (MARKET_CHANNEL.equals(channelType)) {
-                subscriptionMsg.put("assets_ids", data);
-            } else if (USER_CHANNEL.equals(channelType)) {
-                subscriptionMsg.put("markets", data);
-                subscriptionMsg.put("auth", auth);
-            }
+            // Send subscription message with the current set, so changes made while
+            // disconnected are picked up on reconnect
+            synchronized (subscriptionsLock) {
+                Map<String, Object> subscriptionMsg = new HashMap<>();
+                subscriptionMsg.put("type", channelType);
+
+                if (MARKET_CHANNEL.equals(channelType)) {
+                    subscriptionMsg.put("assets_ids", new ArrayList<>(subscriptions));
+                } else if (USER_CHANNEL.equals(channelType)) {
+                    subscriptionMsg.put("markets", new ArrayList<>(subscriptions));
+                    subscriptionMsg.put("auth", auth);
+                }
 
-            String jsonMsg = JSON.toJSONString(subscriptionMsg);
-            webSocket.send(jsonMsg);
-            logger.info("Sent subscription message: {}", jsonMsg);
+                String jsonMsg = JSON.toJSONString(subscriptionMsg);
+                webSocket.send(jsonMsg);
+                openSocket = webSocket;
+                logger.info("Sent subscription message for {} ids", subscriptions.size());
+            }
             // Start ping scheduler
             startPingScheduler(webSocket);
 
@@ -196,6 +635,7 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
      *
      * @param webSocket the WebSocket instance that received the message
      * @param text      the text message received
+     * @see WebSocketMessageDecoder
      */
     @Override
     public void onMessage(WebSocket webSocket, String text) {
@@ -210,100 +650,49 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
                 return;
             }
 
-            // Check if message is a JSON array
-            String trimmed = text.trim();
-            if (trimmed.startsWith("[")) {
-                // Handle JSON array - process each message
-                try {
-                    com.alibaba.fastjson2.JSONArray jsonArray = com.alibaba.fastjson2.JSONArray.parseArray(text);
-                    for (int i = 0; i < jsonArray.size(); i++) {
-                        JSONObject jsonObject = jsonArray.getJSONObject(i);
-                        processJsonMessage(jsonObject);
-                    }
-                } catch (Exception e) {
-                    logger.error("Error parsing onMessage: {}", text, e);
-                    // Fallback: notify as unknown
-                    Map<String, Object> messageMap = new HashMap<>();
-                    messageMap.put("raw_message", text);
-                    notifyListener(EventType.UNKNOWN.getValue(), messageMap);
-                }
-                return;
+            FrameJournal.Connection journal = this.journal;
+            if (journal != null) {
+                journal.append(text);
             }
 
-            // Try to parse as single JSON object
-            try {
-                JSONObject jsonObject = JSONObject.parseObject(text);
-                processJsonMessage(jsonObject);
-            } catch (Exception e) {
-                logger.error("Error parsing onMessage: {}", text, e);
-                // Fallback: notify as unknown
-                Map<String, Object> messageMap = new HashMap<>();
-                messageMap.put("raw_message", text);
-                notifyListener(EventType.UNKNOWN.getValue(), messageMap);
+            WebSocketPipeline pipeline = this.pipeline;
+            if (pipeline != null) {
+                pipeline.publish(text);
+            } else {
+                decoder.decode(text);
             }
-
         } catch (Exception e) {
             logger.error("Error in onMessage: {}", text, e);
         }
     }
 
     /**
-     * Process a single JSON message object
+     * Callback invoked when a binary message is received from the WebSocket.
+     * The payload is decoded as UTF-8 JSON in the same way as text messages.
+     *
+     * @param webSocket the WebSocket instance that received the message
+     * @param bytes     the binary message received
      */
-    private void processJsonMessage(JSONObject jsonObject) {
-        String eventTypeStr = jsonObject.getString("event_type");
-        EventType eventType = EventType.fromValue(eventTypeStr);
-        Map<String, Object> messageMap = new HashMap<>();
-
-        // Deserialize specific event types to typed objects
+    @Override
+    public void onMessage(WebSocket webSocket, ByteString bytes) {
         try {
-            logger.debug("Processing {} {} event: {}", url, eventType, jsonObject.toJSONString());
-
-            switch (eventType) {
-                case PRICE_CHANGE:
-                    com.polymarket.clob.model.PriceChangeEvent priceChangeEvent = jsonObject.to(com.polymarket.clob.model.PriceChangeEvent.class);
-                    messageMap.put(eventType.name(), priceChangeEvent);
-                    break;
-
-                case BOOK:
-                    com.polymarket.clob.model.BookEvent bookEvent = jsonObject.to(com.polymarket.clob.model.BookEvent.class);
-                    messageMap.put(eventType.name(), bookEvent);
-                    break;
-
-                case LAST_TRADE_PRICE:
-                    com.polymarket.clob.model.LastTradePriceEvent lastTradePriceEvent = jsonObject.to(com.polymarket.clob.model.LastTradePriceEvent.class);
-                    messageMap.put(eventType.name(), lastTradePriceEvent);
-                    break;
-
-                case BEST_BID_ASK:
-                    com.polymarket.clob.model.BestBidAskEvent bestBidAskEvent = jsonObject.to(com.polymarket.clob.model.BestBidAskEvent.class);
-                    messageMap.put(eventType.name(), bestBidAskEvent);
-                    break;
-
-                case TRADE:
-                    com.polymarket.clob.model.TradeEvent tradeEvent = jsonObject.to(com.polymarket.clob.model.TradeEvent.class);
-                    messageMap.put(eventType.name(), tradeEvent);
-                    break;
-
-                case ORDER:
-                    com.polymarket.clob.model.OrderEvent orderEvent = jsonObject.to(com.polymarket.clob.model.OrderEvent.class);
-                    messageMap.put(eventType.name(), orderEvent);
-                    break;
-
-                case FILL:
-                case UNKNOWN:
-                default:
-                    // No special deserialization for these event types
-                    break;
+            byte[] array = bytes.toByteArray();
+            FrameJournal.Connection journal = this.journal;
+            if (journal != null) {
+                journal.append(array);
+            }
+
+            WebSocketPipeline pipeline = this.pipeline;
+            if (pipeline != null) {
+                pipeline.publish(array);
+            } else {
+                decoder.decode(array);
             }
         } catch (Exception e) {
-            logger.error("Error deserializing {} event", eventType, e);
+            logger.error("Error in onMessage: {} bytes", bytes.size(), e);
         }
-
-        notifyListener(eventTypeStr, messageMap);
     }
 
-
     /**
      * Callback invoked when the remote peer has requested to close the WebSocket connection.
      * Closes the WebSocket connection gracefully and shuts down the scheduler.
@@ -335,6 +724,7 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
 
         // Stop ping scheduler
         stopPingScheduler();
+        onConnectionLost(webSocket);
 
         // Attempt reconnection if not closed by user
         if (!isClosedByUser) {
@@ -356,6 +746,7 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
 
         // Stop ping scheduler
         stopPingScheduler();
+        onConnectionLost(webSocket);
 
         // Attempt reconnection if not closed by user (code 1000 is normal closure)
         if (!isClosedByUser && code != 1000) {
@@ -363,6 +754,35 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
         }
     }
 
+    private boolean clearOpenSocket(WebSocket webSocket) {
+        synchronized (subscriptionsLock) {
+            if (openSocket != null && openSocket == webSocket) {
+                openSocket = null;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Start the downtime clock and notify connection listeners when the open connection is
+     * lost. Failed connection attempts are not reported again.
+     */
+    private void onConnectionLost(WebSocket webSocket) {
+        if (!clearOpenSocket(webSocket) || isClosedByUser) {
+            return;
+        }
+        disconnectedAtNanos = System.nanoTime();
+        disconnected = true;
+        for (ConnectionStateListener listener : connectionListeners) {
+            try {
+                listener.onDisconnected(this);
+            } catch (Exception e) {
+                logger.error("Error notifying connection listener", e);
+            }
+        }
+    }
+
     private void startPingScheduler(WebSocket webSocket) {
         // Cancel existing ping task if any
         stopPingScheduler();
@@ -395,43 +815,64 @@ public class WebSocketClobClient extends okhttp3.WebSocketListener {
 
         // Stop ping scheduler
         stopPingScheduler();
+        synchronized (subscriptionsLock) {
+            openSocket = null;
+        }
 
         if (webSocket != null) {
             webSocket.close(1000, "Client closing");
         }
         scheduler.shutdown();
+        if (pipeline != null) {
+            pipeline.stop(1, TimeUnit.SECONDS);
+        }
         client.dispatcher().executorService().shutdown();
         client.connectionPool().evictAll();
     }
 
     /**
-     * Attempts to reconnect to the WebSocket server with exponential backoff.
-     * Will retry up to maxReconnectAttempts times before giving up.
+     * Attempts to reconnect to the WebSocket server. Uses the resilient reconnect policy when
+     * enabled, otherwise linear backoff for up to maxReconnectAttempts attempts.
      */
     private void attemptReconnect() {
         if (isReconnecting || isClosedByUser) {
             return;
         }
 
-        if (reconnectAttempts >= maxReconnectAttempts) {
-            logger.error("Max reconnection attempts {} ({}) reached. Giving up.", url, maxReconnectAttempts);
-            return;
+        ReconnectPolicy policy = reconnectPolicy;
+        long delay;
+        if (policy != null) {
+            delay = policy.onFailure();
+            if (delay < 0) {
+                logger.error("Max reconnection attempts {} reached. Giving up.", url);
+                return;
+            }
+            logger.info("Attempting to reconnect {} (attempt {}, circuit {}) in {} ms...",
+                    url, policy.getConsecutiveFailures(), policy.getState(), delay);
+        } else {
+            if (reconnectAttempts >= maxReconnectAttempts) {
+                logger.error("Max reconnection attempts {} ({}) reached. Giving up.", url, maxReconnectAttempts);
+                return;
+            }
+            reconnectAttempts++;
+            delay = reconnectDelayMs * reconnectAttempts; // Simple linear backoff
+            logger.info("Attempting to reconnect {} (attempt {}/{}) in {} ms...",
+                    url, reconnectAttempts, maxReconnectAttempts, delay);
         }
 
         isReconnecting = true;
-        reconnectAttempts++;
-
-        long delay = reconnectDelayMs * reconnectAttempts; // Simple linear backoff
-        logger.info("Attempting to reconnect {} (attempt {}/{}) in {} ms...",
-                url, reconnectAttempts, maxReconnectAttempts, delay);
 
         // Schedule reconnection attempt using the existing scheduler
         scheduler.schedule(() -> {
+            // the attempt is in flight, a failure of it schedules the next one
+            isReconnecting = false;
+            if (policy != null) {
+                policy.onAttempt();
+            }
             try {
                 run(); // Attempt to reconnect
             } catch (Exception e) {
                 logger.error("Reconnection attempt failed {}", url, e);
-                isReconnecting = false;
                 // Try again
                 attemptReconnect();
             }
@@ -0,0 +1,73 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.BestBidAskEvent;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.OrderEvent;
+import com.polymarket.clob.model.PriceChangeEvent;
+import com.polymarket.clob.model.TradeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adapts a Map-based {@link WebSocketListener} to the typed listener API.
+ *
+ * <p>Typed events are delivered as a map holding the event under its {@link EventType#name()}
+ * key, e.g. {@code "BOOK"}, as the Map listener contract has always done. Fill and unknown
+ * messages are delivered with their raw fields.
+ */
+public class WebSocketListenerAdapter implements TypedWebSocketListener {
+
+    private final WebSocketListener delegate;
+
+    public WebSocketListenerAdapter(WebSocketListener delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void onBook(BookEvent event) {
+        notify(EventType.BOOK, event);
+    }
+
+    @Override
+    public void onPriceChange(PriceChangeEvent event) {
+        notify(EventType.PRICE_CHANGE, event);
+    }
+
+    @Override
+    public void onLastTradePrice(LastTradePriceEvent event) {
+        notify(EventType.LAST_TRADE_PRICE, event);
+    }
+
+    @Override
+    public void onBestBidAsk(BestBidAskEvent event) {
+        notify(EventType.BEST_BID_ASK, event);
+    }
+
+    @Override
+    public void onTrade(TradeEvent event) {
+        notify(EventType.TRADE, event);
+    }
+
+    @Override
+    public void onOrder(OrderEvent event) {
+        notify(EventType.ORDER, event);
+    }
+
+    @Override
+    public void onFill(Map<String, Object> message) {
+        delegate.onEvent(EventType.FILL.getValue(), message);
+    }
+
+    @Override
+    public void onUnknown(String eventType, Map<String, Object> message) {
+        delegate.onEvent(eventType, message);
+    }
+
+    private void notify(EventType eventType, Object event) {
+        Map<String, Object> messageMap = new HashMap<>();
+        messageMap.put(eventType.name(), event);
+        delegate.onEvent(eventType.getValue(), messageMap);
+    }
+}
@@ -0,0 +1,690 @@
+package com.polymarket.clob.websocket;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONObject;
+import com.polymarket.clob.market.AssetIdTable;
+import com.polymarket.clob.model.BestBidAskEvent;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.OrderEvent;
+import com.polymarket.clob.model.PriceChangeEntry;
+import com.polymarket.clob.model.PriceChangeEvent;
+import com.polymarket.clob.model.TradeEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes WebSocket frames straight into event models.
+ *
+ * <p>The frame is scanned once to find object boundaries and each object's top-level
+ * {@code event_type}, then every object is deserialized directly from the frame text or bytes
+ * into its target class in one pass. No intermediate {@link JSONObject} tree is built, except
+ * for fill and unknown events which are delivered as raw fields. Known event type strings are
+ * matched in place, so no String is allocated for them.
+ *
+ * <p>With an {@link AssetIdTable}, the {@code asset_id} of each event is resolved to its handle
+ * in place and the event's asset ID is replaced by the table's canonical instance, so listeners
+ * keyed by asset ID hit the cached hash and compare by identity. IDs not in the table are left
+ * as decoded.
+ *
+ * <p>With {@link IngestMetrics}, the decode and dispatch time of every event and its lag behind
+ * the exchange timestamp are recorded; the timestamp is read from the frame in place.
+ *
+ * <p>A decoder keeps scratch state between calls and must only be used by one thread at a
+ * time, such as the WebSocket reader thread of a single connection.
+ */
+public final class WebSocketMessageDecoder {
+    private static final Logger logger = LogManager.getLogger(WebSocketMessageDecoder.class);
+
+    private static final String EVENT_TYPE_KEY = "event_type";
+    private static final String ASSET_ID_KEY = "asset_id";
+    private static final String PRICE_CHANGES_KEY = "price_changes";
+    private static final String TIMESTAMP_KEY = "timestamp";
+    private static final long SECONDS_CUTOFF = 100_000_000_000L; // timestamps below are in seconds
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    /**
+     * Receives decoded events
+     */
+    @FunctionalInterface
+    public interface EventSink {
+
+        /**
+         * @param eventType    the resolved event type
+         * @param rawEventType the event_type as received (may be null)
+         * @param event        the typed model, or the raw message map for FILL and UNKNOWN
+         */
+        void onEvent(EventType eventType, String rawEventType, Object event);
+    }
+
+    private final EventSink sink;
+    private final StringFrame stringFrame = new StringFrame();
+    private final BytesFrame bytesFrame = new BytesFrame();
+    private int[] bounds = new int[16];
+    private Frame current;
+    private AssetIdTable assetIds;
+    private volatile IngestMetrics metrics;
+
+    public WebSocketMessageDecoder(EventSink sink) {
+        this(sink, null);
+    }
+
+    /**
+     * @param sink     receives decoded events
+     * @param assetIds the table asset IDs are canonicalized against, or null
+     */
+    public WebSocketMessageDecoder(EventSink sink, AssetIdTable assetIds) {
+        this.sink = sink;
+        this.assetIds = assetIds;
+    }
+
+    /**
+     * Set the table asset IDs are canonicalized against, or null to leave them as decoded.
+     * Must not be called while a frame is being decoded.
+     */
+    public void setAssetIds(AssetIdTable assetIds) {
+        this.assetIds = assetIds;
+    }
+
+    /**
+     * Set the metrics decode and dispatch times are recorded into, or null to stop recording.
+     * May be called while frames are being decoded.
+     */
+    public void setMetrics(IngestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get the model class an event type is deserialized into, or null if it is delivered raw
+     */
+    public static Class<?> modelClass(EventType eventType) {
+        switch (eventType) {
+            case BOOK:
+                return BookEvent.class;
+            case PRICE_CHANGE:
+                return PriceChangeEvent.class;
+            case LAST_TRADE_PRICE:
+                return LastTradePriceEvent.class;
+            case BEST_BID_ASK:
+                return BestBidAskEvent.class;
+            case TRADE:
+                return TradeEvent.class;
+            case ORDER:
+                return OrderEvent.class;
+            case FILL:
+            case UNKNOWN:
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Decode a text frame holding a JSON object or an array of objects
+     */
+    public void decode(String text) {
+        decode(text, 0, text.length());
+    }
+
+    /**
+     * Decode JSON from a region of a text frame
+     */
+    public void decode(String text, int offset, int length) {
+        try {
+            decode(stringFrame(text, offset, length));
+        } finally {
+            stringFrame.text = null;
+        }
+    }
+
+    /**
+     * Decode a binary frame holding UTF-8 JSON
+     */
+    public void decode(byte[] bytes) {
+        decode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Decode UTF-8 JSON from a region of a buffer
+     */
+    public void decode(byte[] bytes, int offset, int length) {
+        try {
+            decode(bytesFrame(bytes, offset, length));
+        } finally {
+            bytesFrame.bytes = null;
+        }
+    }
+
+    // ==================== Splitting ====================
+
+    /**
+     * Split a text frame into its top-level objects without decoding them. The frame stays
+     * referenced until the next split or {@link #release()}.
+     *
+     * @return the number of objects, or -1 if the frame is malformed
+     */
+    int split(String text) {
+        current = stringFrame(text, 0, text.length());
+        return scan(current);
+    }
+
+    /**
+     * Split a region of a binary frame into its top-level objects without decoding them
+     *
+     * @return the number of objects, or -1 if the frame is malformed
+     */
+    int split(byte[] bytes, int offset, int length) {
+        current = bytesFrame(bytes, offset, length);
+        return scan(current);
+    }
+
+    /**
+     * Start index of the i-th object of the last split, relative to the split region
+     */
+    int objectStart(int i) {
+        return bounds[2 * i];
+    }
+
+    /**
+     * End index (exclusive) of the i-th object of the last split
+     */
+    int objectEnd(int i) {
+        return bounds[2 * i + 1];
+    }
+
+    /**
+     * Hash the value of a top-level string field of an object from the last split without
+     * allocating. Equal values hash equally for text and binary frames.
+     *
+     * @return the hash, or 0 if the field is absent
+     */
+    int fieldHash(int start, int end, String key) {
+        int valueStart = findField(current, start, end, key);
+        if (valueStart < 0) {
+            return 0;
+        }
+        int valueEnd = stringEnd(current, valueStart);
+        int hash = 0;
+        for (int i = valueStart; i < valueEnd; i++) {
+            hash = 31 * hash + current.at(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Whether an object from the last split refers to an asset of a table, by its top-level
+     * asset ID or, for price_change events, by the asset ID of any of its entries. Objects
+     * without an asset ID match.
+     */
+    boolean matchesAssets(int start, int end, AssetIdTable table) {
+        int valueStart = findField(current, start, end, ASSET_ID_KEY);
+        if (valueStart >= 0) {
+            return current.handle(table, valueStart, stringEnd(current, valueStart)) != AssetIdTable.NONE;
+        }
+        int entries = findValue(current, start, end, PRICE_CHANGES_KEY);
+        if (entries < 0 || current.at(entries) != '[') {
+            return true;
+        }
+        boolean found = false;
+        int i = skipWhitespace(current, entries + 1);
+        while (i < end && current.at(i) == '{') {
+            int entryEnd = skipObject(current, i);
+            if (entryEnd < 0) {
+                break;
+            }
+            int entryAsset = findField(current, i, entryEnd, ASSET_ID_KEY);
+            if (entryAsset >= 0) {
+                if (current.handle(table, entryAsset, stringEnd(current, entryAsset)) != AssetIdTable.NONE) {
+                    return true;
+                }
+                found = true;
+            }
+            i = skipWhitespace(current, entryEnd);
+            if (i >= end || current.at(i) != ',') {
+                break;
+            }
+            i = skipWhitespace(current, i + 1);
+        }
+        return !found;
+    }
+
+    /**
+     * Drop the reference to the last split frame
+     */
+    void release() {
+        stringFrame.text = null;
+        bytesFrame.bytes = null;
+        current = null;
+    }
+
+    private StringFrame stringFrame(String text, int offset, int length) {
+        StringFrame frame = stringFrame;
+        frame.text = text;
+        frame.offset = offset;
+        frame.length = length;
+        return frame;
+    }
+
+    private BytesFrame bytesFrame(byte[] bytes, int offset, int length) {
+        BytesFrame frame = bytesFrame;
+        frame.bytes = bytes;
+        frame.offset = offset;
+        frame.length = length;
+        return frame;
+    }
+
+    private void decode(Frame frame) {
+        int count = scan(frame);
+        if (count < 0) {
+            deliverRaw(frame);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            decodeObject(frame, bounds[2 * i], bounds[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Record the [start, end) bounds of every top-level object
+     *
+     * @return the number of objects, or -1 if the frame is not an object or an array of objects
+     */
+    private int scan(Frame frame) {
+        int length = frame.length();
+        int i = skipWhitespace(frame, 0);
+        if (i == length) {
+            return 0;
+        }
+        int c = frame.at(i);
+        if (c == '{') {
+            int end = skipObject(frame, i);
+            if (end < 0 || skipWhitespace(frame, end) != length) {
+                return -1;
+            }
+            bounds[0] = i;
+            bounds[1] = end;
+            return 1;
+        }
+        if (c != '[') {
+            return -1;
+        }
+
+        int count = 0;
+        i = skipWhitespace(frame, i + 1);
+        if (i < length && frame.at(i) == ']') {
+            return skipWhitespace(frame, i + 1) == length ? 0 : -1;
+        }
+        while (i < length) {
+            if (frame.at(i) != '{') {
+                return -1;
+            }
+            int end = skipObject(frame, i);
+            if (end < 0) {
+                return -1;
+            }
+            if (2 * count + 2 > bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[2 * count] = i;
+            bounds[2 * count + 1] = end;
+            count++;
+
+            i = skipWhitespace(frame, end);
+            if (i < length && frame.at(i) == ',') {
+                i = skipWhitespace(frame, i + 1);
+            } else if (i < length && frame.at(i) == ']') {
+                return skipWhitespace(frame, i + 1) == length ? count : -1;
+            } else {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private void decodeObject(Frame frame, int start, int end) {
+        IngestMetrics metrics = this.metrics;
+        long decodeStart = metrics != null ? System.nanoTime() : 0;
+        int typeStart = findField(frame, start, end, EVENT_TYPE_KEY);
+        EventType eventType = EventType.UNKNOWN;
+        String rawEventType = null;
+        if (typeStart >= 0) {
+            int typeEnd = stringEnd(frame, typeStart);
+            eventType = resolve(frame, typeStart, typeEnd);
+            rawEventType = eventType != EventType.UNKNOWN
+                    ? eventType.getValue()
+                    : frame.text(typeStart, typeEnd - typeStart);
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Decoding {} event: {}", eventType, frame.text(start, end - start));
+        }
+
+        Class<?> modelClass = modelClass(eventType);
+        Object event;
+        try {
+            event = modelClass != null
+                    ? frame.parse(start, end - start, modelClass)
+                    : frame.parseObject(start, end - start);
+        } catch (Exception e) {
+            logger.error("Error deserializing {} event", eventType, e);
+            try {
+                event = frame.parseObject(start, end - start);
+            } catch (Exception ignored) {
+                deliverRaw(frame);
+                return;
+            }
+            eventType = EventType.UNKNOWN;
+        }
+        if (assetIds != null && modelClass != null && eventType != EventType.UNKNOWN) {
+            canonicalize(frame, start, end, eventType, event);
+        }
+        if (metrics == null) {
+            sink.onEvent(eventType, rawEventType, event);
+            return;
+        }
+
+        long exchangeMillis = timestampMillis(frame, start, end);
+        if (exchangeMillis > 0) {
+            metrics.recordLag(eventType, exchangeMillis, System.currentTimeMillis());
+        }
+        long decoded = System.nanoTime();
+        metrics.recordDecode(eventType, decoded - decodeStart);
+        sink.onEvent(eventType, rawEventType, event);
+        metrics.recordDispatch(eventType, System.nanoTime() - decoded);
+    }
+
+    /**
+     * Read the top-level {@code timestamp} of an object in place, converting seconds to milliseconds
+     *
+     * @return the timestamp in epoch milliseconds, or 0 if absent or not a number
+     */
+    private static long timestampMillis(Frame frame, int start, int end) {
+        int valueStart = findField(frame, start, end, TIMESTAMP_KEY);
+        if (valueStart < 0) {
+            return 0;
+        }
+        long value = 0;
+        int i = valueStart;
+        for (int c = frame.at(i); c != '"'; c = frame.at(++i)) {
+            if (c < '0' || c > '9' || i - valueStart > 18) {
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value < SECONDS_CUTOFF ? value * 1000 : value;
+    }
+
+    /**
+     * Replace the asset IDs of a decoded event by their canonical instances
+     */
+    private void canonicalize(Frame frame, int start, int end, EventType eventType, Object event) {
+        AssetIdTable table = assetIds;
+        if (eventType == EventType.PRICE_CHANGE) {
+            List<PriceChangeEntry> entries = ((PriceChangeEvent) event).getPriceChanges();
+            if (entries != null) {
+                for (int i = 0, n = entries.size(); i < n; i++) {
+                    PriceChangeEntry entry = entries.get(i);
+                    entry.setAssetId(table.canonical(entry.getAssetId()));
+                }
+            }
+            return;
+        }
+        int valueStart = findField(frame, start, end, ASSET_ID_KEY);
+        if (valueStart < 0) {
+            return;
+        }
+        int handle = frame.handle(table, valueStart, stringEnd(frame, valueStart));
+        if (handle == AssetIdTable.NONE) {
+            return;
+        }
+        String assetId = table.assetId(handle);
+        switch (eventType) {
+            case BOOK:
+                ((BookEvent) event).setAssetId(assetId);
+                break;
+            case LAST_TRADE_PRICE:
+                ((LastTradePriceEvent) event).setAssetId(assetId);
+                break;
+            case BEST_BID_ASK:
+                ((BestBidAskEvent) event).setAssetId(assetId);
+                break;
+            case TRADE:
+                ((TradeEvent) event).setAssetId(assetId);
+                break;
+            case ORDER:
+                ((OrderEvent) event).setAssetId(assetId);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void deliverRaw(Frame frame) {
+        String text = frame.text(0, frame.length());
+        logger.error("Error parsing onMessage: {}", text);
+        Map<String, Object> messageMap = new HashMap<>();
+        messageMap.put("raw_message", text);
+        sink.onEvent(EventType.UNKNOWN, EventType.UNKNOWN.getValue(), messageMap);
+    }
+
+    private static EventType resolve(Frame frame, int start, int end) {
+        for (EventType type : EVENT_TYPES) {
+            if (frame.matches(start, end, type.getValue())) {
+                return type;
+            }
+        }
+        return EventType.UNKNOWN;
+    }
+
+    // ==================== Scanning ====================
+
+    /**
+     * Find the value of a top-level key of an object
+     *
+     * @return the index just after the value's opening quote, or -1 if absent or not a string
+     */
+    private static int findField(Frame frame, int start, int end, String key) {
+        int value = findValue(frame, start, end, key);
+        return value >= 0 && frame.at(value) == '"' ? value + 1 : -1;
+    }
+
+    /**
+     * Find the value of a top-level key of an object
+     *
+     * @return the index of the value's first character, or -1 if absent
+     */
+    private static int findValue(Frame frame, int start, int end, String key) {
+        int depth = 0;
+        boolean expectKey = false;
+        for (int i = start; i < end; i++) {
+            int c = frame.at(i);
+            if (c == '"') {
+                int close = stringEnd(frame, i + 1);
+                if (depth == 1 && expectKey) {
+                    int colon = skipWhitespace(frame, close + 1);
+                    if (frame.matches(i + 1, close, key)) {
+                        int value = skipWhitespace(frame, colon + 1);
+                        return value < end ? value : -1;
+                    }
+                    expectKey = false;
+                    i = colon;
+                } else {
+                    i = close;
+                }
+            } else if (c == '{' || c == '[') {
+                depth++;
+                expectKey = c == '{' && depth == 1;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            } else if (c == ',' && depth == 1) {
+                expectKey = true;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index just past the closing brace, or -1 if the object is unterminated
+     */
+    private static int skipObject(Frame frame, int start) {
+        int depth = 0;
+        for (int i = start, n = frame.length(); i < n; i++) {
+            int c = frame.at(i);
+            if (c == '"') {
+                i = stringEnd(frame, i + 1);
+                if (i >= n) {
+                    return -1;
+                }
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (--depth == 0) {
+                    return c == '}' ? i + 1 : -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index of the closing quote of a string whose content starts at {@code from}
+     */
+    private static int stringEnd(Frame frame, int from) {
+        int n = frame.length();
+        for (int i = from; i < n; i++) {
+            int c = frame.at(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return n;
+    }
+
+    private static int skipWhitespace(Frame frame, int from) {
+        int n = frame.length();
+        int i = from;
+        while (i < n) {
+            int c = frame.at(i);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    // ==================== Frames ====================
+
+    private abstract static class Frame {
+        abstract int length();
+
+        abstract int at(int index);
+
+        abstract boolean matches(int start, int end, String ascii);
+
+        abstract String text(int start, int length);
+
+        abstract Object parse(int start, int length, Class<?> type);
+
+        abstract JSONObject parseObject(int start, int length);
+
+        abstract int handle(AssetIdTable table, int start, int end);
+    }
+
+    private static final class StringFrame extends Frame {
+        String text;
+        int offset;
+        int length;
+
+        @Override
+        int length() {
+            return length;
+        }
+
+        @Override
+        int at(int index) {
+            return text.charAt(offset + index);
+        }
+
+        @Override
+        boolean matches(int start, int end, String ascii) {
+            return end - start == ascii.length() && text.regionMatches(offset + start, ascii, 0, ascii.length());
+        }
+
+        @Override
+        String text(int start, int length) {
+            return text.substring(offset + start, offset + start + length);
+        }
+
+        @Override
+        Object parse(int start, int length, Class<?> type) {
+            return JSON.parseObject(text, offset + start, length, type);
+        }
+
+        @Override
+        JSONObject parseObject(int start, int length) {
+            return JSON.parseObject(text, offset + start, length);
+        }
+
+        @Override
+        int handle(AssetIdTable table, int start, int end) {
+            return table.handle(text, offset + start, offset + end);
+        }
+    }
+
+    private static final class BytesFrame extends Frame {
+        byte[] bytes;
+        int offset;
+        int length;
+
+        @Override
+        int length() {
+            return length;
+        }
+
+        @Override
+        int at(int index) {
+            return bytes[offset + index];
+        }
+
+        @Override
+        boolean matches(int start, int end, String ascii) {
+            if (end - start != ascii.length()) {
+                return false;
+            }
+            for (int i = 0; i < ascii.length(); i++) {
+                if (bytes[offset + start + i] != ascii.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        String text(int start, int length) {
+            return new String(bytes, offset + start, length, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        Object parse(int start, int length, Class<?> type) {
+            return JSON.parseObject(bytes, offset + start, length, type);
+        }
+
+        @Override
+        JSONObject parseObject(int start, int length) {
+            return JSON.parseObject(bytes, offset + start, length);
+        }
+
+        @Override
+        int handle(AssetIdTable table, int start, int end) {
+            return table.handle(bytes, offset + start, offset + end);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.market.AssetIdTable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves decoding and listener dispatch off the WebSocket reader thread.
+ *
+ * <p>The reader thread only splits each frame into its top-level objects and publishes the
+ * object regions into one ring buffer per worker. Each object is routed by the hash of its
+ * {@code market} field, so every event of a market (and of its assets) is handled by the same
+ * worker in arrival order. Workers decode with their own {@link WebSocketMessageDecoder} and
+ * dispatch to the client's listeners.
+ *
+ * <p>Frames that cannot be split are routed whole to the first worker, which delivers them as
+ * UNKNOWN. When a worker falls behind and its ring fills up, new frames for it are dropped and
+ * counted rather than blocking the socket.
+ */
+public class WebSocketPipeline {
+    private static final Logger logger = LogManager.getLogger(WebSocketPipeline.class);
+
+    private static final String PARTITION_KEY = "market";
+    private static final int DRAIN_BATCH = 256;
+
+    private final FrameRingBuffer[] rings;
+    private final Worker[] workers;
+    private final WaitStrategy waitStrategy;
+    private final WebSocketMessageDecoder splitter;
+    private final AtomicLong framesReceived = new AtomicLong();
+
+    private volatile boolean running;
+
+    /**
+     * @param options the pipeline options
+     * @param sink    where decoded events are dispatched, called from worker threads
+     */
+    public WebSocketPipeline(PipelineOptions options, WebSocketMessageDecoder.EventSink sink) {
+        this(options, sink, null);
+    }
+
+    /**
+     * @param options  the pipeline options
+     * @param sink     where decoded events are dispatched, called from worker threads
+     * @param assetIds the table the workers canonicalize asset IDs against, or null
+     */
+    public WebSocketPipeline(PipelineOptions options, WebSocketMessageDecoder.EventSink sink, AssetIdTable assetIds) {
+        if (options.getWorkers() <= 0) {
+            throw new IllegalArgumentException("Pipeline needs at least one worker");
+        }
+        this.waitStrategy = options.getWaitStrategy() != null ? options.getWaitStrategy() : WaitStrategy.YIELD;
+        this.rings = new FrameRingBuffer[options.getWorkers()];
+        this.workers = new Worker[options.getWorkers()];
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = new FrameRingBuffer(options.getBufferSize());
+            workers[i] = new Worker(i, rings[i], new WebSocketMessageDecoder(sink, assetIds));
+        }
+        this.splitter = new WebSocketMessageDecoder((eventType, rawEventType, event) -> {
+            // never called, the splitter only scans frames
+        });
+    }
+
+    /**
+     * Start the worker threads
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (Worker worker : workers) {
+            Thread thread = new Thread(worker, "clob-ws-pipeline-" + worker.index);
+            thread.setDaemon(true);
+            worker.thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Stop the workers once they have drained the frames already published
+     *
+     * @param timeout maximum time to wait for each worker
+     * @param unit    the timeout unit
+     */
+    public synchronized void stop(long timeout, TimeUnit unit) {
+        running = false;
+        for (Worker worker : workers) {
+            Thread thread = worker.thread;
+            if (thread == null) {
+                continue;
+            }
+            try {
+                thread.join(unit.toMillis(timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            worker.thread = null;
+        }
+    }
+
+    /**
+     * Set the metrics the workers record decode and dispatch times into, or null to stop recording
+     */
+    public void setMetrics(IngestMetrics metrics) {
+        for (Worker worker : workers) {
+            worker.decoder.setMetrics(metrics);
+        }
+    }
+
+    /**
+     * Publish a text frame (reader thread only)
+     */
+    public void publish(String text) {
+        framesReceived.incrementAndGet();
+        try {
+            int count = splitter.split(text);
+            if (count < 0) {
+                rings[0].offer(text, 0, text.length());
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                int start = splitter.objectStart(i);
+                int end = splitter.objectEnd(i);
+                rings[partition(start, end)].offer(text, start, end - start);
+            }
+        } finally {
+            splitter.release();
+        }
+    }
+
+    /**
+     * Publish a binary frame (reader thread only). The array must not be modified afterwards.
+     */
+    public void publish(byte[] bytes) {
+        publish(bytes, false);
+    }
+
+    /**
+     * Publish a binary frame, waiting for room in the worker rings instead of dropping events,
+     * for replays that must deliver every frame (publishing thread only). Events are still
+     * dropped once the pipeline is stopped.
+     */
+    void publishAwait(byte[] bytes) {
+        publish(bytes, true);
+    }
+
+    private void publish(byte[] bytes, boolean await) {
+        framesReceived.incrementAndGet();
+        try {
+            int count = splitter.split(bytes, 0, bytes.length);
+            if (count < 0) {
+                offer(rings[0], bytes, 0, bytes.length, await);
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                int start = splitter.objectStart(i);
+                int end = splitter.objectEnd(i);
+                offer(rings[partition(start, end)], bytes, start, end - start, await);
+            }
+        } finally {
+            splitter.release();
+        }
+    }
+
+    private void offer(FrameRingBuffer ring, byte[] bytes, int offset, int length, boolean await) {
+        if (await) {
+            int idle = 0;
+            while (running && ring.size() >= ring.capacity()) {
+                waitStrategy.idle(idle++);
+            }
+        }
+        ring.offer(bytes, offset, length);
+    }
+
+    private int partition(int start, int end) {
+        if (rings.length == 1) {
+            return 0;
+        }
+        return (splitter.fieldHash(start, end, PARTITION_KEY) & Integer.MAX_VALUE) % rings.length;
+    }
+
+    // ==================== Counters ====================
+
+    /**
+     * Number of frames received from the socket
+     */
+    public long getFramesReceived() {
+        return framesReceived.get();
+    }
+
+    /**
+     * Number of events published to worker rings
+     */
+    public long getEventsPublished() {
+        long total = 0;
+        for (FrameRingBuffer ring : rings) {
+            total += ring.publishedCount();
+        }
+        return total;
+    }
+
+    /**
+     * Number of events dropped because a worker ring was full
+     */
+    public long getEventsDropped() {
+        long total = 0;
+        for (FrameRingBuffer ring : rings) {
+            total += ring.droppedCount();
+        }
+        return total;
+    }
+
+    /**
+     * Number of events decoded and dispatched by the workers
+     */
+    public long getEventsProcessed() {
+        long total = 0;
+        for (Worker worker : workers) {
+            total += worker.processed;
+        }
+        return total;
+    }
+
+    /**
+     * Events waiting in all worker rings
+     */
+    public int getQueueDepth() {
+        int total = 0;
+        for (FrameRingBuffer ring : rings) {
+            total += ring.size();
+        }
+        return total;
+    }
+
+    /**
+     * Events waiting in one worker's ring
+     */
+    public int getQueueDepth(int worker) {
+        return rings[worker].size();
+    }
+
+    public int getWorkerCount() {
+        return workers.length;
+    }
+
+    private final class Worker implements Runnable, FrameRingBuffer.FrameHandler {
+        private final int index;
+        private final FrameRingBuffer ring;
+        private final WebSocketMessageDecoder decoder;
+        private volatile long processed;
+        private Thread thread;
+
+        Worker(int index, FrameRingBuffer ring, WebSocketMessageDecoder decoder) {
+            this.index = index;
+            this.ring = ring;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (true) {
+                int drained = ring.drain(this, DRAIN_BATCH);
+                if (drained > 0) {
+                    processed += drained;
+                    idle = 0;
+                } else if (!running) {
+                    return;
+                } else {
+                    waitStrategy.idle(idle++);
+                }
+            }
+        }
+
+        @Override
+        public void onText(String text, int offset, int length, long stamp) {
+            try {
+                decoder.decode(text, offset, length);
+            } catch (Exception e) {
+                logger.error("Error processing frame on pipeline worker {}", index, e);
+            }
+        }
+
+        @Override
+        public void onBytes(byte[] bytes, int offset, int length, long stamp) {
+            try {
+                decoder.decode(bytes, offset, length);
+            } catch (Exception e) {
+                logger.error("Error processing frame on pipeline worker {}", index, e);
+            }
+        }
+    }
+}
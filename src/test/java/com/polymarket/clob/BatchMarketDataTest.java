@@ -0,0 +1,182 @@
+package com.polymarket.clob;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONArray;
+import com.alibaba.fastjson2.JSONObject;
+import com.polymarket.clob.exception.PolyException;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.BookParams;
+import com.polymarket.clob.model.Market;
+import com.polymarket.clob.model.MarketsPage;
+import com.polymarket.clob.model.MidpointResponse;
+import com.polymarket.clob.model.PriceResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the batched and typed market data queries against a local HTTP server
+ */
+public class BatchMarketDataTest {
+
+    private HttpServer server;
+    private ClobClient client;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(Endpoints.MID_POINTS, exchange -> {
+            JSONObject result = new JSONObject();
+            for (Object param : readParams(exchange)) {
+                String tokenId = ((JSONObject) param).getString("token_id");
+                result.put(tokenId, "0." + tokenId);
+            }
+            respond(exchange, 200, result.toJSONString());
+        });
+        server.createContext(Endpoints.GET_PRICES, exchange -> {
+            JSONObject result = new JSONObject();
+            for (Object param : readParams(exchange)) {
+                JSONObject p = (JSONObject) param;
+                JSONObject bySide = result.getJSONObject(p.getString("token_id"));
+                if (bySide == null) {
+                    bySide = new JSONObject();
+                    result.put(p.getString("token_id"), bySide);
+                }
+                bySide.put(p.getString("side"), Constants.BUY.equals(p.getString("side")) ? "0.4" : "0.6");
+            }
+            respond(exchange, 200, result.toJSONString());
+        });
+        server.createContext(Endpoints.GET_ORDER_BOOKS, exchange -> {
+            JSONArray result = new JSONArray();
+            for (Object param : readParams(exchange)) {
+                JSONObject book = new JSONObject();
+                book.put("asset_id", ((JSONObject) param).getString("token_id"));
+                book.put("bids", JSON.parseArray("[{\"price\":\"0.4\",\"size\":\"10\"}]"));
+                book.put("asks", JSON.parseArray("[{\"price\":\"0.6\",\"size\":\"5\"}]"));
+                result.add(book);
+            }
+            respond(exchange, 200, result.toJSONString());
+        });
+        server.createContext(Endpoints.GET_SPREADS, exchange -> {
+            readParams(exchange);
+            respond(exchange, 500, "{\"error\":\"down\"}");
+        });
+        server.createContext(Endpoints.GET_MARKETS, exchange -> respond(exchange, 200,
+                "{\"limit\":2,\"count\":2,\"next_cursor\":\"LTE=\",\"data\":["
+                        + "{\"condition_id\":\"c1\",\"question\":\"Q1?\"},{\"condition_id\":\"c2\",\"question\":\"Q2?\"}]}"));
+        server.createContext(Endpoints.GET_MARKET, exchange -> {
+            String conditionId = exchange.getRequestURI().getPath().substring(Endpoints.GET_MARKET.length());
+            respond(exchange, 200, "{\"condition_id\":\"" + conditionId + "\",\"question\":\"Q?\"}");
+        });
+        server.start();
+        client = new ClobClient("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private JSONArray readParams(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (InputStream is = exchange.getRequestBody()) {
+            return JSON.parseArray(new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static List<String> tokenIds(int count) {
+        List<String> tokenIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tokenIds.add(String.valueOf(i));
+        }
+        return tokenIds;
+    }
+
+    @Test
+    public void testMarketsDecodedIntoModels() {
+        MarketsPage page = client.getMarketsPage();
+        assertEquals("LTE=", page.getNextCursor());
+        assertEquals(2, page.getData().size());
+        assertEquals("c2", page.getData().get(1).getConditionId());
+        assertEquals("Q1?", page.getData().get(0).getQuestion());
+
+        Market market = client.getMarketInfo("c7");
+        assertEquals("c7", market.getConditionId());
+        assertEquals("Q?", market.getQuestion());
+    }
+
+    @Test
+    public void testMidpointsAreChunkedAndMerged() {
+        client.setBatchSize(3);
+        Map<String, MidpointResponse> midpoints = client.getMidpoints(tokenIds(10));
+
+        assertEquals(4, requests.get());
+        assertEquals(10, midpoints.size());
+        assertEquals("0.0", midpoints.get("0").getMid());
+        assertEquals("0.9", midpoints.get("9").getMid());
+    }
+
+    @Test
+    public void testPricesKeyedByTokenAndSide() throws Exception {
+        client.setBatchSize(1);
+        Map<String, Map<String, PriceResponse>> prices = client.getPricesAsync(Arrays.asList(
+                new BookParams("a", Constants.BUY),
+                new BookParams("a", Constants.SELL),
+                new BookParams("b", Constants.BUY))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, requests.get());
+        assertEquals("0.4", prices.get("a").get(Constants.BUY).getPrice());
+        assertEquals("0.6", prices.get("a").get(Constants.SELL).getPrice());
+        assertEquals(1, prices.get("b").size());
+    }
+
+    @Test
+    public void testOrderBooksKeyedByAssetId() {
+        Map<String, BookEvent> books = client.getOrderBooks(tokenIds(5));
+
+        assertEquals(1, requests.get());
+        assertEquals(5, books.size());
+        assertEquals("3", books.get("3").getAssetId());
+        assertEquals("0.4", books.get("3").getBids().get(0).getPrice());
+    }
+
+    @Test
+    public void testEmptyBatchMakesNoRequest() {
+        assertTrue(client.getMidpoints(new ArrayList<>()).isEmpty());
+        assertEquals(0, requests.get());
+    }
+
+    @Test
+    public void testChunkFailureRethrown() {
+        PolyException e = assertThrows(PolyException.class, () -> client.getSpreads(tokenIds(2)));
+        assertTrue(e.getMessage().startsWith("HTTP 500"));
+        assertThrows(IllegalArgumentException.class, () -> client.setBatchSize(0));
+    }
+}
@@ -0,0 +1,91 @@
+package com.polymarket.clob;
+
+import com.polymarket.clob.exception.PolyException;
+import com.polymarket.clob.model.CreateOrderOptions;
+import com.polymarket.clob.model.OrderArgs;
+import com.polymarket.clob.model.OrderType;
+import com.polymarket.clob.model.SignedOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for parallel batch order signing, with metadata served from the caches
+ */
+public class BatchOrderSigningTest {
+
+    private static final String TEST_PRIVATE_KEY = "0x1234567890abcdef1234567890abcdef1234567890abcdef1234567890abcdef";
+
+    private ClobClient client;
+
+    @BeforeEach
+    void setUp() {
+        // unreachable host, every lookup must be served from the caches
+        client = new ClobClient("http://127.0.0.1:9", 137, TEST_PRIVATE_KEY);
+        for (String tokenId : Arrays.asList("1", "2")) {
+            client.getTickSizeCache().put(tokenId, "0.01");
+            client.getNegRiskCache().put(tokenId, tokenId.equals("2"));
+            client.getFeeRateCache().put(tokenId, 0);
+        }
+    }
+
+    private static OrderArgs order(String tokenId, double price) {
+        return OrderArgs.builder()
+                .tokenId(tokenId)
+                .price(price)
+                .size(10.0)
+                .side(Constants.BUY)
+                .taker(Constants.ZERO_ADDRESS)
+                .build();
+    }
+
+    @Test
+    void testPreservesInputOrder() {
+        List<OrderArgs> ladder = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            ladder.add(order(i % 2 == 0 ? "2" : "1", i / 100.0));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            client.setSigningExecutor(executor);
+            List<SignedOrder> orders = client.createOrders(ladder);
+
+            assertEquals(50, orders.size());
+            for (int i = 0; i < 50; i++) {
+                SignedOrder order = orders.get(i);
+                assertEquals(ladder.get(i).getTokenId(), order.getTokenId());
+                assertEquals(Long.toString((i + 1) * 100_000L), order.getMakerAmount());
+                assertTrue(order.getSignature().startsWith("0x"));
+                assertEquals(132, order.getSignature().length());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testInvalidPriceRejectedBeforeSigning() {
+        List<OrderArgs> orders = Arrays.asList(order("1", 0.5), order("2", 0.999));
+
+        PolyException e = assertThrows(PolyException.class, () -> client.createOrders(orders));
+        assertTrue(e.getMessage().startsWith("Invalid price"));
+    }
+
+    @Test
+    void testCreateAndPostOrdersAppliesOptions() {
+        List<OrderArgs> orders = Arrays.asList(order("1", 0.5), order("2", 0.05));
+        CreateOrderOptions options = CreateOrderOptions.builder().tickSize("0.1").build();
+
+        // 0.05 is on the cached 0.01 tick, so only the override rejects it, before anything is posted
+        PolyException e = assertThrows(PolyException.class,
+                () -> client.createAndPostOrders(orders, options, OrderType.GTC, false));
+        assertTrue(e.getMessage().startsWith("Invalid price"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.polymarket.clob;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for metadata prefetch and snapshots against a local HTTP server
+ */
+public class MetadataPrefetchTest {
+
+    private HttpServer server;
+    private ClobClient client;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(Endpoints.GET_TICK_SIZE, exchange ->
+                respond(exchange, "{\"minimum_tick_size\":0.01}"));
+        server.createContext(Endpoints.GET_NEG_RISK, exchange ->
+                respond(exchange, "{\"neg_risk\":" + exchange.getRequestURI().getQuery().endsWith("n") + "}"));
+        server.createContext(Endpoints.GET_FEE_RATE, exchange ->
+                respond(exchange, "{\"base_fee\":10}"));
+        server.createContext(Endpoints.GET_MARKETS, exchange -> {
+            if (exchange.getRequestURI().getQuery().contains("next_cursor=MA==")) {
+                respond(exchange, "{\"data\":[{\"minimum_tick_size\":0.001,\"neg_risk\":true,"
+                        + "\"tokens\":[{\"token_id\":\"m1\"},{\"token_id\":\"m2\"}]}],\"next_cursor\":\"MQ==\"}");
+            } else {
+                respond(exchange, "{\"data\":[{\"minimum_tick_size\":0.01,\"neg_risk\":false,"
+                        + "\"tokens\":[{\"token_id\":\"m3\"},{\"token_id\":\"\"}]}],\"next_cursor\":\"LTE=\"}");
+            }
+        });
+        server.start();
+        client = new ClobClient("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requests.incrementAndGet();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    @Test
+    public void testPrefetchWarmsAllCaches() {
+        client.prefetchMetadata(Arrays.asList("t1", "t2n", "t3"));
+        assertEquals(9, requests.get());
+
+        assertEquals("0.01", client.getTickSize("t1"));
+        assertTrue(client.getNegRisk("t2n"));
+        assertFalse(client.getNegRisk("t3"));
+        assertEquals(10, client.getFeeRateBps("t3"));
+        assertEquals(9, requests.get());
+        assertEquals(3, client.getTickSizeCache().getStats().getSize());
+    }
+
+    @Test
+    public void testPrefetchFromMarketPages() {
+        assertEquals(3, client.prefetchMetadataFromMarkets());
+        assertEquals(2, requests.get());
+
+        assertEquals("0.001", client.getTickSize("m1"));
+        assertTrue(client.getNegRisk("m2"));
+        assertFalse(client.getNegRisk("m3"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testSnapshotWarmStartWithoutServer() throws IOException {
+        client.prefetchMetadata(Arrays.asList("t1", "t2n"));
+        Path snapshot = tempDir.resolve("metadata.bin");
+        assertEquals(2, client.saveMetadataSnapshot(snapshot));
+        assertTrue(Files.size(snapshot) > 0);
+
+        // a restarted process whose first reads never touch the network
+        server.stop(0);
+        ClobClient restarted = new ClobClient("http://127.0.0.1:" + server.getAddress().getPort());
+        assertEquals(2, restarted.loadMetadataSnapshot(snapshot, 60_000));
+        assertEquals("0.01", restarted.getTickSize("t1"));
+        assertTrue(restarted.getNegRisk("t2n"));
+        assertFalse(restarted.getNegRisk("t1"));
+        assertEquals(10, restarted.getFeeRateBps("t2n"));
+
+        assertEquals(0, new ClobClient("http://127.0.0.1:1").loadMetadataSnapshot(snapshot, -1));
+        assertEquals(0, restarted.loadMetadataSnapshot(tempDir.resolve("missing.bin"), 60_000));
+    }
+
+    @Test
+    public void testCorruptSnapshotRejected() throws IOException {
+        Path bad = tempDir.resolve("bad.bin");
+        Files.write(bad, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> client.loadMetadataSnapshot(bad, 60_000));
+
+        client.prefetchMetadata(Arrays.asList("t1"));
+        Path snapshot = tempDir.resolve("metadata.bin");
+        client.saveMetadataSnapshot(snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(bad, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> client.loadMetadataSnapshot(bad, 60_000));
+    }
+}
@@ -0,0 +1,159 @@
+package com.polymarket.clob.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MetadataCache
+ */
+public class MetadataCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final Map<String, List<CompletableFuture<String>>> requests = new HashMap<>();
+
+    private MetadataCache<String> newCache(CacheOptions options) {
+        return new MetadataCache<>("test", key -> {
+            CompletableFuture<String> request = new CompletableFuture<>();
+            requests.computeIfAbsent(key, k -> new ArrayList<>()).add(request);
+            return request;
+        }, options, now::get);
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void testSingleFlightLoad() {
+        MetadataCache<String> cache = newCache(new CacheOptions());
+
+        CompletableFuture<String> first = cache.getAsync("t1");
+        CompletableFuture<String> second = cache.getAsync("t1");
+        assertSame(first, second);
+        assertEquals(1, requests.get("t1").size());
+
+        requests.get("t1").get(0).complete("0.01");
+        assertEquals("0.01", first.join());
+        assertEquals("0.01", cache.getAsync("t1").join());
+
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1, stats.getLoads());
+        assertEquals(1, stats.getSize());
+        assertEquals(1.0 / 3, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void testConcurrentColdReadsLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        MetadataCache<Integer> cache = new MetadataCache<>("test", key -> {
+            loads.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 7;
+            });
+        }, new CacheOptions());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.getAsync("t1").join();
+            }));
+        }
+        start.countDown();
+        for (Future<Integer> result : results) {
+            int value = result.get(5, TimeUnit.SECONDS);
+            assertEquals(7, value);
+        }
+        executor.shutdown();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testRefreshAheadAndExpiry() {
+        MetadataCache<String> cache = newCache(CacheOptions.builder().ttlMs(1000).refreshAheadRatio(0.5).build());
+        cache.getAsync("t1");
+        requests.get("t1").get(0).complete("0.01");
+
+        // before the refresh point: served without a load
+        advanceMillis(400);
+        assertEquals("0.01", cache.getAsync("t1").join());
+        assertEquals(1, requests.get("t1").size());
+
+        // past it: still served, one background reload
+        advanceMillis(200);
+        assertEquals("0.01", cache.getAsync("t1").join());
+        assertEquals("0.01", cache.getAsync("t1").join());
+        assertEquals(2, requests.get("t1").size());
+        assertEquals(1, cache.getStats().getRefreshes());
+        requests.get("t1").get(1).complete("0.001");
+        assertEquals("0.001", cache.getAsync("t1").join());
+
+        // expired: the read waits for a new load
+        advanceMillis(1000);
+        assertNull(cache.getIfPresent("t1"));
+        CompletableFuture<String> reload = cache.getAsync("t1");
+        assertFalse(reload.isDone());
+        requests.get("t1").get(2).complete("0.01");
+        assertEquals("0.01", reload.join());
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        MetadataCache<String> cache = newCache(new CacheOptions());
+        CompletableFuture<String> failed = cache.getAsync("t1");
+        requests.get("t1").get(0).completeExceptionally(new RuntimeException("down"));
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getStats().getLoadFailures());
+
+        cache.getAsync("t1");
+        assertEquals(2, requests.get("t1").size());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyRead() {
+        MetadataCache<String> cache = newCache(CacheOptions.builder().maxSize(2).build());
+        cache.put("t1", "a");
+        advanceMillis(1);
+        cache.put("t2", "b");
+        advanceMillis(1);
+        cache.getAsync("t1");
+        advanceMillis(1);
+        cache.put("t3", "c");
+
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.getIfPresent("t1"));
+        assertNull(cache.getIfPresent("t2"));
+        assertEquals("c", cache.getIfPresent("t3"));
+        assertEquals(1, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> newCache(CacheOptions.builder().ttlMs(0).build()));
+        assertThrows(IllegalArgumentException.class, () -> newCache(CacheOptions.builder().maxSize(0).build()));
+    }
+}
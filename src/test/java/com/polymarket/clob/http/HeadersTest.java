@@ -0,0 +1,51 @@
+package com.polymarket.clob.http;
+
+import com.polymarket.clob.Constants;
+import com.polymarket.clob.signing.Signer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Level 1 header cache of Headers
+ */
+public class HeadersTest {
+
+    private static final String TEST_PRIVATE_KEY = "0x1234567890abcdef1234567890abcdef1234567890abcdef1234567890abcdef";
+
+    @BeforeEach
+    void setUp() {
+        Headers.setLevel1HeaderCacheEnabled(false);
+        Headers.setLevel1HeaderCacheEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        setUp();
+    }
+
+    @Test
+    void testEarlierSecondsEvicted() {
+        Signer signer = new Signer(TEST_PRIVATE_KEY, Constants.POLYGON);
+        long second = 1700000000L;
+        for (long nonce = 0; nonce < 5; nonce++) {
+            Headers.createLevel1Headers(signer, second, nonce);
+        }
+        assertEquals(5, Headers.level1HeaderCacheSize());
+
+        // reused within the second
+        Map<String, String> cached = Headers.createLevel1Headers(signer, second, 2);
+        assertEquals(5, Headers.level1HeaderCacheSize());
+        assertEquals(String.valueOf(second), cached.get(Headers.POLY_TIMESTAMP));
+
+        // the next second drops every entry of the previous one
+        Headers.createLevel1Headers(signer, second + 1, 0);
+        assertEquals(1, Headers.level1HeaderCacheSize());
+        Headers.createLevel1Headers(signer, second + 1, 1);
+        assertEquals(2, Headers.level1HeaderCacheSize());
+    }
+}
@@ -0,0 +1,223 @@
+package com.polymarket.clob.http;
+
+import com.alibaba.fastjson2.TypeReference;
+import com.polymarket.clob.Endpoints;
+import com.polymarket.clob.exception.PolyException;
+import com.polymarket.clob.model.MidpointResponse;
+import com.polymarket.clob.model.OrderResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for HttpClient against a local HTTP server
+ */
+public class HttpClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ok", exchange -> respond(exchange, 200, "{\"mid\":\"0.5\"}"));
+        server.createContext("/midpoint", exchange -> respond(exchange, 200, "{\"mid\":\"0.5\"}"));
+        server.createContext("/orders", exchange -> respond(exchange, 200,
+                "[{\"orderID\":\"a\",\"success\":true},{\"orderID\":\"b\",\"success\":false}]"));
+        server.createContext("/gzip", exchange -> {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write("{\"mid\":\"0.25\"}".getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, buffer.size());
+            try (OutputStream os = exchange.getResponseBody()) {
+                buffer.writeTo(os);
+            }
+        });
+        server.createContext("/error", exchange -> respond(exchange, 400, "{\"error\":\"bad\"}"));
+        server.createContext("/slow", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            respond(exchange, 200, "{\"ok\":true}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    @Test
+    void testSyncGet() {
+        HttpClient client = new HttpClient();
+        Object response = client.get(baseUrl + "/ok");
+        assertEquals("0.5", ((Map<?, ?>) response).get("mid"));
+    }
+
+    @Test
+    void testAsyncGet() throws Exception {
+        HttpClient client = new HttpClient();
+        Object response = client.getAsync(baseUrl + "/ok").get(5, TimeUnit.SECONDS);
+        assertEquals("0.5", ((Map<?, ?>) response).get("mid"));
+    }
+
+    @Test
+    void testAsyncErrorCompletesExceptionally() {
+        HttpClient client = new HttpClient();
+        CompletableFuture<Object> future = client.getAsync(baseUrl + "/error");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(PolyException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().startsWith("HTTP 400"));
+    }
+
+    @Test
+    void testAsyncRequestsRunConcurrently() throws Exception {
+        release = new CountDownLatch(1);
+        HttpClient client = new HttpClient(16);
+
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            futures.add(client.getAsync(baseUrl + "/slow"));
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (maxInFlight.get() < 12 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertEquals(12, maxInFlight.get());
+    }
+
+    @Test
+    void testTypedGet() {
+        HttpClient client = new HttpClient();
+        MidpointResponse response = client.get(baseUrl + "/ok", null, MidpointResponse.class);
+        assertEquals("0.5", response.getMid());
+    }
+
+    @Test
+    void testTypedGetGzip() throws Exception {
+        HttpClient client = new HttpClient();
+        assertEquals("0.25", client.get(baseUrl + "/gzip", null, MidpointResponse.class).getMid());
+        assertEquals("0.25", client.getAsync(baseUrl + "/gzip", null, MidpointResponse.class)
+                .get(5, TimeUnit.SECONDS).getMid());
+    }
+
+    @Test
+    void testTypedListResponse() {
+        HttpClient client = new HttpClient();
+        List<OrderResponse> responses = client.post(baseUrl + "/orders", null, "[]",
+                new TypeReference<List<OrderResponse>>() {});
+        assertEquals(2, responses.size());
+        assertEquals("a", responses.get(0).getOrderId());
+        assertTrue(responses.get(0).isSuccessful());
+        assertFalse(responses.get(1).isSuccessful());
+    }
+
+    @Test
+    void testTypedErrorThrows() {
+        HttpClient client = new HttpClient();
+        PolyException e = assertThrows(PolyException.class,
+                () -> client.get(baseUrl + "/error", null, MidpointResponse.class));
+        assertTrue(e.getMessage().startsWith("HTTP 400"));
+    }
+
+    @Test
+    void testMetricsRecordedPerEndpoint() throws Exception {
+        HttpClient client = new HttpClient();
+        HttpMetricsRecorder recorder = new HttpMetricsRecorder();
+        client.setMetrics(recorder);
+
+        client.get(baseUrl + Endpoints.MID_POINT, null, MidpointResponse.class);
+        client.getAsync(baseUrl + Endpoints.MID_POINT, null, MidpointResponse.class).get(5, TimeUnit.SECONDS);
+
+        // samples are published before the call returns
+        EndpointStats stats = recorder.getStats("GET", Endpoints.MID_POINT);
+        assertEquals(2, stats.getRequests());
+        assertEquals(0, stats.getFailures());
+        assertEquals(Map.of(200, 2L), stats.getStatusCounts());
+        assertTrue(stats.getResponseBytes() > 0);
+        assertEquals(2, stats.getPhase(RequestPhase.TOTAL).getCount());
+        assertEquals(2, stats.getPhase(RequestPhase.TTFB).getCount());
+        assertEquals(2, stats.getPhase(RequestPhase.DECODE).getCount());
+        // the second request reuses the pooled connection
+        assertEquals(1, stats.getPhase(RequestPhase.CONNECT).getCount());
+        assertEquals(0, stats.getPhase(RequestPhase.TLS).getCount());
+        assertTrue(stats.getPhase(RequestPhase.TOTAL).getMin() >= stats.getPhase(RequestPhase.TTFB).getMin());
+    }
+
+    @Test
+    void testMetricsRecordErrorsAndFailures() {
+        HttpClient client = new HttpClient();
+        HttpMetricsRecorder recorder = new HttpMetricsRecorder();
+        client.setMetrics(recorder);
+
+        assertThrows(PolyException.class, () -> client.get(baseUrl + "/error", null, MidpointResponse.class));
+        // nothing listens on the discard port
+        assertThrows(PolyException.class, () -> client.post("http://127.0.0.1:9" + Endpoints.POST_ORDER, null, "{}"));
+
+        EndpointStats errors = recorder.getStats("GET", EndpointResolver.OTHER);
+        assertEquals(Map.of(400, 1L), errors.getStatusCounts());
+        assertEquals(0, errors.getFailures());
+
+        EndpointStats failures = recorder.getStats("POST", Endpoints.POST_ORDER);
+        assertEquals(1, failures.getFailures());
+        assertTrue(failures.getStatusCounts().isEmpty());
+        assertEquals(0, failures.getPhase(RequestPhase.DECODE).getCount());
+        assertEquals(1, failures.getPhase(RequestPhase.TOTAL).getCount());
+        assertEquals(2, recorder.snapshot().size());
+    }
+
+    @Test
+    void testEndpointResolution() {
+        assertEquals(Endpoints.GET_ORDER_BOOK, EndpointResolver.resolve("/book"));
+        assertEquals(Endpoints.GET_ORDER, EndpointResolver.resolve("/data/order/0xabc"));
+        assertEquals(Endpoints.ORDERS, EndpointResolver.resolve("/data/orders"));
+        assertEquals(Endpoints.GET_MARKET, EndpointResolver.resolve("/markets/0x123"));
+        assertEquals(Endpoints.GET_MARKETS, EndpointResolver.resolve("/markets"));
+        assertEquals(Endpoints.GET_ORDER_BOOK, EndpointResolver.resolve("/api/v1/book"));
+        assertEquals(EndpointResolver.OTHER, EndpointResolver.resolve("/"));
+    }
+}
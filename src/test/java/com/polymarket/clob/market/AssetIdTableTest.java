@@ -0,0 +1,71 @@
+package com.polymarket.clob.market;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AssetIdTable
+ */
+public class AssetIdTableTest {
+
+    private static final String ASSET = "65818619657568813474341868652308942079804919287380422192892211131408793125422";
+
+    @Test
+    void testDenseHandles() {
+        AssetIdTable table = new AssetIdTable();
+        assertEquals(0, table.register(ASSET));
+        assertEquals(1, table.register("2"));
+        assertEquals(0, table.register(new String(ASSET)));
+        assertEquals(2, table.size());
+
+        assertEquals(ASSET, table.assetId(0));
+        assertEquals(AssetIdTable.NONE, table.handle("3"));
+        assertEquals(AssetIdTable.NONE, table.handle((String) null));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.assetId(2));
+    }
+
+    @Test
+    void testCanonicalInstance() {
+        AssetIdTable table = new AssetIdTable();
+        table.register(ASSET);
+        String copy = new String(ASSET);
+
+        assertSame(ASSET, table.canonical(copy));
+        String unknown = "unknown";
+        assertSame(unknown, table.canonical(unknown));
+    }
+
+    @Test
+    void testRegionLookups() {
+        AssetIdTable table = new AssetIdTable();
+        int handle = table.register(ASSET);
+        String frame = "{\"asset_id\":\"" + ASSET + "\"}";
+        int start = frame.indexOf(ASSET);
+        int end = start + ASSET.length();
+        byte[] bytes = frame.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(handle, table.handle(frame, start, end));
+        assertEquals(handle, table.handle(bytes, start, end));
+        assertEquals(AssetIdTable.NONE, table.handle(frame, start, end - 1));
+        assertEquals(AssetIdTable.NONE, table.handle(bytes, start + 1, end));
+    }
+
+    @Test
+    void testGrowthKeepsHandles() {
+        AssetIdTable table = new AssetIdTable(4);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, table.register(Integer.toString(i)));
+        }
+        table.registerAll(List.of("0", "9999", "10000"));
+
+        assertEquals(10_001, table.size());
+        for (int i = 0; i <= 10_000; i++) {
+            assertEquals(i, table.handle(Integer.toString(i)));
+            assertEquals(Integer.toString(i), table.assetId(i));
+        }
+    }
+}
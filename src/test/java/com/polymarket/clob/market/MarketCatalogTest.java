@@ -0,0 +1,120 @@
+package com.polymarket.clob.market;
+
+import com.polymarket.clob.ClobClient;
+import com.polymarket.clob.model.Market;
+import com.polymarket.clob.model.MarketToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MarketCatalog
+ */
+public class MarketCatalogTest {
+
+    private List<Market> markets = new ArrayList<>();
+
+    private MarketCatalog newCatalog(CatalogOptions options) {
+        return new MarketCatalog(() -> markets.iterator(), options);
+    }
+
+    private static Market market(String conditionId, String tickSize, boolean negRisk, String... tags) {
+        return Market.builder()
+                .conditionId(conditionId)
+                .minimumTickSize(tickSize)
+                .negRisk(negRisk)
+                .closed(false)
+                .tags(Arrays.asList(tags))
+                .tokens(Arrays.asList(
+                        MarketToken.builder().tokenId(new String(conditionId + "-yes")).outcome("Yes").build(),
+                        MarketToken.builder().tokenId(new String(conditionId + "-no")).outcome("No").build()))
+                .build();
+    }
+
+    @Test
+    void testIndexes() {
+        markets.add(market("c1", "0.01", false, "Politics"));
+        markets.add(market("c2", "0.001", true, "Politics", "Sports"));
+        MarketCatalog catalog = newCatalog(new CatalogOptions());
+        assertEquals(2, catalog.refresh());
+
+        assertEquals(2, catalog.size());
+        assertEquals(4, catalog.getTokenCount());
+        assertEquals("c2", catalog.getMarketByToken("c2-no").getConditionId());
+        assertEquals("No", catalog.getOutcome("c2-no"));
+        assertEquals("0.001", catalog.getTickSize("c2-yes"));
+        assertTrue(catalog.getNegRisk("c2-yes"));
+        assertFalse(catalog.getNegRisk("c1-yes"));
+        assertNull(catalog.getTickSize("unknown"));
+        assertEquals(2, catalog.getMarketsByTag("Politics").size());
+        assertEquals("c2", catalog.getMarketsByTag("Sports").get(0).getConditionId());
+        assertTrue(catalog.getMarketsByTag("Crypto").isEmpty());
+
+        String lookup = new String("c1-yes");
+        assertSame(catalog.getMarket("c1").getTokens().get(0).getTokenId(), catalog.internTokenId(lookup));
+    }
+
+    @Test
+    void testIncrementalRefresh() {
+        markets.add(market("c1", "0.01", false, "Politics"));
+        markets.add(market("c2", "0.01", false, "Sports"));
+        MarketCatalog catalog = newCatalog(new CatalogOptions());
+        catalog.refresh();
+        Market unchanged = catalog.getMarket("c1");
+
+        markets = new ArrayList<>();
+        markets.add(market("c1", "0.01", false, "Politics"));
+        markets.add(market("c3", "0.001", false, "Crypto"));
+        assertEquals(2, catalog.refresh());
+
+        assertSame(unchanged, catalog.getMarket("c1"));
+        assertNull(catalog.getMarket("c2"));
+        assertNull(catalog.getMarketByToken("c2-yes"));
+        assertTrue(catalog.getMarketsByTag("Sports").isEmpty());
+        assertFalse(catalog.getTags().contains("Sports"));
+        assertEquals("0.001", catalog.getTickSize("c3-no"));
+
+        markets.set(1, market("c3", "0.01", false, "Crypto"));
+        assertEquals(1, catalog.refresh());
+        assertEquals("0.01", catalog.getTickSize("c3-no"));
+        assertEquals(3, catalog.getRefreshCount());
+        assertEquals(1, catalog.getLastChanges());
+    }
+
+    @Test
+    void testExcludeClosed() {
+        markets.add(market("c1", "0.01", false));
+        Market closed = market("c2", "0.01", false);
+        closed.setClosed(true);
+        markets.add(closed);
+        MarketCatalog catalog = newCatalog(CatalogOptions.builder().includeClosed(false).build());
+        catalog.refresh();
+        assertEquals(1, catalog.size());
+        assertNull(catalog.getMarket("c2"));
+    }
+
+    @Test
+    void testClientUsesCatalogWithoutNetwork() {
+        markets.add(market("c1", "0.001", true));
+        MarketCatalog catalog = newCatalog(new CatalogOptions());
+        catalog.refresh();
+
+        // nothing listens on this port, so any metadata request would fail
+        ClobClient client = new ClobClient("http://127.0.0.1:1");
+        client.setMarketCatalog(catalog);
+        assertEquals("0.001", client.getTickSize("c1-yes"));
+        assertTrue(client.getNegRisk("c1-no"));
+        assertEquals("0.001", client.getTickSizeAsync("c1-no").join());
+        assertEquals(0, client.getTickSizeCache().getStats().getMisses());
+    }
+
+    @Test
+    void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> newCatalog(CatalogOptions.builder().refreshIntervalMs(0).build()));
+    }
+}
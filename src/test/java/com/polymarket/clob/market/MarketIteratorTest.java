@@ -0,0 +1,90 @@
+package com.polymarket.clob.market;
+
+import com.alibaba.fastjson2.JSON;
+import com.polymarket.clob.exception.PolyException;
+import com.polymarket.clob.model.Market;
+import com.polymarket.clob.model.MarketsPage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MarketIterator
+ */
+public class MarketIteratorTest {
+
+    private final Map<String, CompletableFuture<MarketsPage>> pages = new HashMap<>();
+    private final List<String> requested = new ArrayList<>();
+
+    private void page(String cursor, String nextCursor, String... conditionIds) {
+        List<Market> data = new ArrayList<>();
+        for (String conditionId : conditionIds) {
+            data.add(Market.builder().conditionId(conditionId).build());
+        }
+        pages.put(cursor, CompletableFuture.completedFuture(
+                MarketsPage.builder().data(data).nextCursor(nextCursor).build()));
+    }
+
+    private MarketIterator iterator() {
+        return new MarketIterator(cursor -> {
+            requested.add(cursor);
+            return pages.get(cursor);
+        });
+    }
+
+    @Test
+    void testWalksAllPagesAndPrefetchesNext() {
+        page("MA==", "MQ==", "c1", "c2");
+        page("MQ==", "Mg==");
+        page("Mg==", "LTE=", "c3");
+
+        MarketIterator markets = iterator();
+        assertEquals(Collections.singletonList("MA=="), requested);
+
+        assertEquals("c1", markets.next().getConditionId());
+        // the second page is requested while the first is consumed
+        assertEquals(Arrays.asList("MA==", "MQ=="), requested);
+        assertEquals("c2", markets.next().getConditionId());
+        assertEquals("c3", markets.next().getConditionId());
+        assertFalse(markets.hasNext());
+        assertEquals(3, markets.getPagesFetched());
+        assertEquals(3, requested.size());
+        assertThrows(NoSuchElementException.class, markets::next);
+    }
+
+    @Test
+    void testPageFailurePropagates() {
+        page("MA==", "MQ==", "c1");
+        pages.put("MQ==", CompletableFuture.failedFuture(new PolyException("HTTP 500")));
+
+        MarketIterator markets = iterator();
+        assertEquals("c1", markets.next().getConditionId());
+        PolyException error = assertThrows(PolyException.class, markets::hasNext);
+        assertEquals("HTTP 500", error.getMessage());
+    }
+
+    @Test
+    void testDecodesTypedMarkets() {
+        MarketsPage page = JSON.parseObject("{\"next_cursor\":\"LTE=\",\"data\":[{\"condition_id\":\"0xabc\","
+                + "\"minimum_tick_size\":0.001,\"neg_risk\":true,\"accepting_orders\":true,"
+                + "\"tokens\":[{\"token_id\":\"1\",\"outcome\":\"Yes\",\"price\":0.42}],\"tags\":[\"Politics\"]}]}",
+                MarketsPage.class);
+        Market market = page.getData().get(0);
+        assertEquals("0xabc", market.getConditionId());
+        assertEquals("0.001", market.getMinimumTickSize());
+        assertTrue(market.isNegRiskMarket());
+        assertTrue(market.isAcceptingOrders());
+        assertEquals("1", market.getTokens().get(0).getTokenId());
+        assertEquals(0.42, market.getTokens().get(0).getPrice(), 1e-9);
+        assertEquals("Politics", market.getTags().get(0));
+    }
+}
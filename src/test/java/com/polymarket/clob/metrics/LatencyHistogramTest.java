@@ -0,0 +1,79 @@
+package com.polymarket.clob.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for LatencyHistogram
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    void testBucketsAreContiguous() {
+        for (long value = 0; value < 100_000; value++) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.highestValueOf(bucket) >= value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.highestValueOf(bucket - 1) < value);
+            }
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1_000_000; value++) {
+            histogram.record(value * 1000);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1_000_000, snapshot.getCount());
+        assertEquals(1000, snapshot.getMin());
+        assertEquals(1_000_000_000L, snapshot.getMax());
+        assertEquals(500_000_500.0, snapshot.getMean(), 1e-6);
+        assertEquals(500_000_000L, snapshot.getP50(), 500_000_000L * 0.04);
+        assertEquals(990_000_000L, snapshot.getP99(), 990_000_000L * 0.04);
+        assertEquals(1_000_000_000L, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testEmptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getP99());
+
+        histogram.record(-5);
+        histogram.record(7);
+        assertEquals(0, histogram.snapshot().getMin());
+        assertEquals(7, histogram.snapshot().getMax());
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(random.nextInt(1_000_000));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(400_000, histogram.snapshot().getCount());
+    }
+}
@@ -0,0 +1,90 @@
+package com.polymarket.clob.model;
+
+import com.alibaba.fastjson2.JSON;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FixedPoint parsing, arithmetic and formatting
+ */
+public class FixedPointTest {
+
+    @Test
+    void testParse() {
+        assertEquals(550_000L, FixedPoint.parse("0.55"));
+        assertEquals(550_000L, FixedPoint.parse(".55"));
+        assertEquals(3_000_000L, FixedPoint.parse("3"));
+        assertEquals(3_000_000L, FixedPoint.parse("3."));
+        assertEquals(-1_250_000L, FixedPoint.parse("-1.25"));
+        assertEquals(100_123_456L, FixedPoint.parse("100.123456"));
+        assertEquals(1L, FixedPoint.parse("0.0000005"));
+        assertEquals(0L, FixedPoint.parse("0.0000004999"));
+        assertEquals(FixedPoint.ONE, FixedPoint.parse("0.9999999"));
+    }
+
+    @Test
+    void testParseInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.parse("."));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.parse("1.2.3"));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.parse("1e5"));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.parse("99999999999999"));
+    }
+
+    @Test
+    void testMultiplyMatchesBigDecimal() {
+        String[][] cases = {{"0.5", "10"}, {"0.57", "33.33"}, {"0.001", "0.5"}, {"0.999", "123456.789"}};
+        for (String[] c : cases) {
+            BigDecimal expected = new BigDecimal(c[0]).multiply(new BigDecimal(c[1]))
+                    .setScale(FixedPoint.SCALE, RoundingMode.HALF_UP).movePointRight(FixedPoint.SCALE);
+            assertEquals(expected.longValueExact(), FixedPoint.multiply(FixedPoint.parse(c[0]), FixedPoint.parse(c[1])),
+                    c[0] + " * " + c[1]);
+        }
+        // product exceeds 64 bits before rescaling
+        assertEquals(4_000_000_000_000_000L, FixedPoint.multiply(2_000_000_000_000_000L, 2 * FixedPoint.ONE));
+    }
+
+    @Test
+    void testFromDoubleAndFormat() {
+        assertEquals(570_000L, FixedPoint.fromDouble(0.57));
+        assertEquals(33_330_000L, FixedPoint.fromDouble(33.33));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.fromDouble(Double.NaN));
+
+        assertEquals("0.55", FixedPoint.toString(550_000L));
+        assertEquals("0.000001", FixedPoint.toString(1L));
+        assertEquals("12", FixedPoint.toString(12_000_000L));
+        assertEquals("-1.05", FixedPoint.toString(-1_050_000L));
+        assertEquals(0.55, FixedPoint.toDouble(550_000L), 1e-12);
+    }
+
+    @Test
+    void testModelAccessors() {
+        PriceChangeEntry entry = JSON.parseObject(
+                "{\"asset_id\":\"1\",\"price\":\"0.5\",\"size\":\"200\",\"side\":\"BUY\",\"best_bid\":\"0.5\",\"best_ask\":\"1\"}",
+                PriceChangeEntry.class);
+        assertEquals(500_000L, entry.getPriceAsFixed());
+        assertEquals(200_000_000L, entry.getSizeAsFixed());
+        assertEquals(FixedPoint.ONE, entry.getBestAskAsFixed());
+        assertEquals(0L, new OrderBookEntry().getPriceAsFixed());
+    }
+
+    @Test
+    void testModelFieldsParsedWhenSet() {
+        PriceChangeEntry entry = PriceChangeEntry.builder().price("0.45").size("10").build();
+        assertEquals(450_000L, entry.getPriceAsFixed());
+        entry.setPrice("0.46");
+        assertEquals(460_000L, entry.getPriceAsFixed());
+        entry.setSize(null);
+        assertEquals(0L, entry.getSizeAsFixed());
+        assertEquals(new PriceChangeEntry(null, "0.46", null, null, null, null, null), entry);
+
+        // a malformed value still decodes, and only its accessor fails
+        OrderBookEntry level = JSON.parseObject("{\"price\":\"abc\",\"size\":\"5\"}", OrderBookEntry.class);
+        assertEquals(5_000_000L, level.getSizeAsFixed());
+        assertThrows(IllegalArgumentException.class, level::getPriceAsFixed);
+    }
+}
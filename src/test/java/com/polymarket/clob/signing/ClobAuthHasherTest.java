@@ -0,0 +1,101 @@
+package com.polymarket.clob.signing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.Constants;
+import com.polymarket.clob.http.Headers;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.StructuredDataEncoder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conformance tests for ClobAuthHasher against web3j's StructuredDataEncoder
+ */
+public class ClobAuthHasherTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String TEST_PRIVATE_KEY = "0x1234567890abcdef1234567890abcdef1234567890abcdef1234567890abcdef";
+
+    /**
+     * Reference digest computed through the generic typed-data path
+     */
+    private static byte[] referenceHash(String address, long timestamp, long nonce, int chainId) throws Exception {
+        Map<String, List<Map<String, String>>> types = new HashMap<>();
+        types.put("EIP712Domain", Arrays.asList(
+                type("name", "string"),
+                type("version", "string"),
+                type("chainId", "uint256")
+        ));
+        types.put("ClobAuth", Arrays.asList(
+                type("address", "address"),
+                type("timestamp", "string"),
+                type("nonce", "uint256"),
+                type("message", "string")
+        ));
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("address", address);
+        message.put("timestamp", String.valueOf(timestamp));
+        message.put("nonce", nonce);
+        message.put("message", ClobAuth.MSG_TO_SIGN);
+
+        Map<String, Object> typedData = new HashMap<>();
+        typedData.put("domain", Eip712.getClobAuthDomain(chainId));
+        typedData.put("types", types);
+        typedData.put("message", message);
+        typedData.put("primaryType", "ClobAuth");
+
+        return new StructuredDataEncoder(objectMapper.writeValueAsString(typedData)).hashStructuredData();
+    }
+
+    private static Map<String, String> type(String name, String type) {
+        Map<String, String> typeMap = new HashMap<>();
+        typeMap.put("name", name);
+        typeMap.put("type", type);
+        return typeMap;
+    }
+
+    @Test
+    public void testDigestMatchesStructuredDataEncoder() throws Exception {
+        Signer signer = new Signer(TEST_PRIVATE_KEY, Constants.POLYGON);
+
+        for (int chainId : new int[]{Constants.POLYGON, Constants.AMOY}) {
+            for (long nonce : new long[]{0, 1, 123456789L}) {
+                for (long timestamp : new long[]{0, 9, 1700000000L}) {
+                    assertArrayEquals(referenceHash(signer.getAddress(), timestamp, nonce, chainId),
+                            ClobAuthHasher.hash(signer.getAddress(), timestamp, nonce, chainId),
+                            "chainId=" + chainId + " nonce=" + nonce + " timestamp=" + timestamp);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSignatureMatchesReference() throws Exception {
+        Signer signer = new Signer(TEST_PRIVATE_KEY, Constants.POLYGON);
+        String expected = signer.sign(referenceHash(signer.getAddress(), 1700000000L, 0, Constants.POLYGON));
+        assertEquals(expected, Eip712.signClobAuthMessage(signer, 1700000000L, 0));
+    }
+
+    @Test
+    public void testLevel1HeadersReusedWithinSameSecond() {
+        Signer signer = new Signer(TEST_PRIVATE_KEY, Constants.POLYGON);
+
+        Map<String, String> first = Headers.createLevel1Headers(signer, 1700000000L, 3);
+        Map<String, String> second = Headers.createLevel1Headers(signer, 1700000000L, 3);
+        Map<String, String> later = Headers.createLevel1Headers(signer, 1700000001L, 3);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals("1700000000", first.get(Headers.POLY_TIMESTAMP));
+        assertEquals("3", first.get(Headers.POLY_NONCE));
+        assertEquals("1700000001", later.get(Headers.POLY_TIMESTAMP));
+        assertNotEquals(first.get(Headers.POLY_SIGNATURE), later.get(Headers.POLY_SIGNATURE));
+        assertEquals(Eip712.signClobAuthMessage(signer, 1700000001L, 3), later.get(Headers.POLY_SIGNATURE));
+    }
+}
@@ -0,0 +1,82 @@
+package com.polymarket.clob.signing;
+
+import com.polymarket.clob.http.Headers;
+import com.polymarket.clob.http.Level2Headers;
+import com.polymarket.clob.model.ApiCreds;
+import com.polymarket.clob.model.RequestArgs;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conformance tests for HmacSigner against HmacSignature
+ */
+public class HmacSignerTest {
+
+    private static final String TEST_PRIVATE_KEY = "0x1234567890abcdef1234567890abcdef1234567890abcdef1234567890abcdef";
+    private static final ApiCreds CREDS = new ApiCreds("key", "c2VjcmV0LXNlY3JldC1zZWNyZXQ=", "pass");
+
+    @Test
+    void testMatchesReferenceSignature() {
+        HmacSigner signer = new HmacSigner(CREDS);
+        String[] bodies = {null, "", "{\"order\":{\"salt\":1}}", "{\"note\":\"café ✓\"}", "x".repeat(5000)};
+
+        for (String body : bodies) {
+            assertEquals(
+                    HmacSignature.buildHmacSignature(CREDS.getApiSecret(), 1700000000L, "POST", "/order", body),
+                    signer.sign(1700000000L, "POST", "/order", body));
+        }
+        assertEquals(
+                HmacSignature.buildHmacSignature(CREDS.getApiSecret(), 0L, "GET", "/auth/api-keys", null),
+                signer.sign(0L, "GET", "/auth/api-keys", null));
+    }
+
+    @Test
+    void testConcurrentSigning() {
+        HmacSigner signer = new HmacSigner(CREDS);
+        Map<Integer, String> signatures = new ConcurrentHashMap<>();
+        IntStream.range(0, 2000).parallel().forEach(i ->
+                signatures.put(i, signer.sign(1700000000L + i, "DELETE", "/order", "{\"id\":" + i + "}")));
+
+        for (int i = 0; i < 2000; i += 97) {
+            assertEquals(HmacSignature.buildHmacSignature(CREDS.getApiSecret(), 1700000000L + i, "DELETE",
+                    "/order", "{\"id\":" + i + "}"), signatures.get(i));
+        }
+    }
+
+    @Test
+    void testBoundToCreds() {
+        HmacSigner signer = new HmacSigner(CREDS);
+        assertTrue(signer.isBoundTo(new ApiCreds("key", CREDS.getApiSecret(), "pass")));
+        assertFalse(signer.isBoundTo(new ApiCreds("key", "b3RoZXI=", "pass")));
+        assertFalse(signer.isBoundTo(null));
+    }
+
+    @Test
+    void testLevel2Headers() {
+        Signer signer = new Signer(TEST_PRIVATE_KEY, 137);
+        RequestArgs requestArgs = RequestArgs.builder()
+                .method("POST")
+                .requestPath("/order")
+                .serializedBody("{\"a\":1}")
+                .build();
+        Level2Headers headers = Headers.createLevel2Headers(signer, new HmacSigner(CREDS), requestArgs);
+
+        assertEquals(5, headers.size());
+        assertEquals(signer.getAddress(), headers.get(Headers.POLY_ADDRESS));
+        assertEquals("key", headers.get(Headers.POLY_API_KEY));
+        assertEquals("pass", headers.get(Headers.POLY_PASSPHRASE));
+        assertEquals(HmacSignature.buildHmacSignature(CREDS.getApiSecret(),
+                Long.parseLong(headers.getTimestamp()), "POST", "/order", "{\"a\":1}"), headers.getSignature());
+        assertNull(headers.get(Headers.POLY_NONCE));
+
+        Map<String, String> copy = new HashMap<>();
+        headers.forEach(copy::put);
+        assertEquals(new HashMap<>(headers), copy);
+    }
+}
@@ -0,0 +1,173 @@
+package com.polymarket.clob.signing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polymarket.clob.Constants;
+import com.polymarket.clob.config.Config;
+import com.polymarket.clob.model.SignedOrder;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.StructuredDataEncoder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conformance tests for OrderHasher against web3j's StructuredDataEncoder
+ */
+public class OrderHasherTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String MAKER = "0x6e0c80c90ea6c15917308F820Eac91Ce2724B5b5";
+    private static final String SIGNER = "0x2c7536E3605D9C16a7a3D7b1898e529396a65c23";
+
+    private static SignedOrder sampleOrder(String side, String salt, String tokenId) {
+        return SignedOrder.builder()
+                .salt(salt)
+                .maker(MAKER)
+                .signer(SIGNER)
+                .taker(Constants.ZERO_ADDRESS)
+                .tokenId(tokenId)
+                .makerAmount("5000000")
+                .takerAmount("10000000")
+                .expiration("0")
+                .nonce("0")
+                .feeRateBps("0")
+                .side(side)
+                .signatureType(1)
+                .build();
+    }
+
+    /**
+     * Reference digest computed through the generic typed-data path
+     */
+    private static byte[] referenceHash(SignedOrder order, int chainId, boolean negRisk) throws Exception {
+        Map<String, Object> domain = new HashMap<>();
+        domain.put("name", OrderHasher.DOMAIN_NAME);
+        domain.put("version", OrderHasher.DOMAIN_VERSION);
+        domain.put("chainId", chainId);
+        domain.put("verifyingContract", Config.getContractConfig(chainId, negRisk).getExchange());
+
+        Map<String, List<Map<String, String>>> types = new HashMap<>();
+        types.put("EIP712Domain", Arrays.asList(
+                type("name", "string"),
+                type("version", "string"),
+                type("chainId", "uint256"),
+                type("verifyingContract", "address")
+        ));
+        types.put("Order", Arrays.asList(
+                type("salt", "uint256"),
+                type("maker", "address"),
+                type("signer", "address"),
+                type("taker", "address"),
+                type("tokenId", "uint256"),
+                type("makerAmount", "uint256"),
+                type("takerAmount", "uint256"),
+                type("expiration", "uint256"),
+                type("nonce", "uint256"),
+                type("feeRateBps", "uint256"),
+                type("side", "uint8"),
+                type("signatureType", "uint8")
+        ));
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("salt", order.getSalt());
+        message.put("maker", order.getMaker());
+        message.put("signer", order.getSigner());
+        message.put("taker", order.getTaker());
+        message.put("tokenId", order.getTokenId());
+        message.put("makerAmount", order.getMakerAmount());
+        message.put("takerAmount", order.getTakerAmount());
+        message.put("expiration", order.getExpiration());
+        message.put("nonce", order.getNonce());
+        message.put("feeRateBps", order.getFeeRateBps());
+        message.put("side", Constants.BUY.equals(order.getSide()) ? 0 : 1);
+        message.put("signatureType", order.getSignatureType());
+
+        Map<String, Object> typedData = new HashMap<>();
+        typedData.put("domain", domain);
+        typedData.put("types", types);
+        typedData.put("message", message);
+        typedData.put("primaryType", "Order");
+
+        return new StructuredDataEncoder(objectMapper.writeValueAsString(typedData)).hashStructuredData();
+    }
+
+    private static Map<String, String> type(String name, String type) {
+        Map<String, String> typeMap = new HashMap<>();
+        typeMap.put("name", name);
+        typeMap.put("type", type);
+        return typeMap;
+    }
+
+    @Test
+    public void testDigestMatchesStructuredDataEncoder() throws Exception {
+        String salt = "479249096354";
+        String tokenId = "65818619657568813474341868652308942079804919287380422192892211131408793125422";
+
+        for (int chainId : new int[]{Constants.POLYGON, Constants.AMOY}) {
+            for (boolean negRisk : new boolean[]{false, true}) {
+                for (String side : new String[]{Constants.BUY, Constants.SELL}) {
+                    SignedOrder order = sampleOrder(side, salt, tokenId);
+                    assertArrayEquals(referenceHash(order, chainId, negRisk),
+                            OrderHasher.hash(order, chainId, negRisk),
+                            "chainId=" + chainId + " negRisk=" + negRisk + " side=" + side);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDigestMatchesForMaxSizeValues() throws Exception {
+        // 2^256 - 1, the largest value a uint256 field can hold
+        String max = "115792089237316195423570985008687907853269984665640564039457584007913129639935";
+        SignedOrder order = sampleOrder(Constants.BUY, max, max);
+        assertArrayEquals(referenceHash(order, Constants.POLYGON, false),
+                OrderHasher.hash(order, Constants.POLYGON, false));
+    }
+
+    @Test
+    public void testDomainSeparatorIsCached() {
+        byte[] first = OrderHasher.domainSeparator(Constants.POLYGON, false);
+        assertSame(first, OrderHasher.domainSeparator(Constants.POLYGON, false));
+        assertFalse(Arrays.equals(first, OrderHasher.domainSeparator(Constants.POLYGON, true)));
+    }
+
+    @Test
+    public void testInvalidValuesRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                OrderHasher.hash(sampleOrder(Constants.BUY, "12.5", "1"), Constants.POLYGON, false));
+
+        String overflow = "115792089237316195423570985008687907853269984665640564039457584007913129639936";
+        assertThrows(IllegalArgumentException.class, () ->
+                OrderHasher.hash(sampleOrder(Constants.BUY, overflow, "1"), Constants.POLYGON, false));
+
+        SignedOrder badAddress = sampleOrder(Constants.BUY, "1", "1");
+        badAddress.setMaker("0x1234");
+        assertThrows(IllegalArgumentException.class, () ->
+                OrderHasher.hash(badAddress, Constants.POLYGON, false));
+    }
+
+    @Test
+    public void testCreateOrderUsesTokenUnits() {
+        Signer signer = new Signer("0x1234567890abcdef1234567890abcdef1234567890abcdef1234567890abcdef", Constants.POLYGON);
+        OrderBuilder builder = new OrderBuilder(signer);
+
+        SignedOrder order = builder.createOrder(
+                com.polymarket.clob.model.OrderArgs.builder()
+                        .tokenId("1234")
+                        .price(0.5)
+                        .size(10.0)
+                        .side(Constants.BUY)
+                        .build(),
+                com.polymarket.clob.model.CreateOrderOptions.builder().tickSize("0.01").build());
+
+        assertEquals("5000000", order.getMakerAmount());
+        assertEquals("10000000", order.getTakerAmount());
+        assertNotNull(order.getSignature());
+        assertEquals(132, order.getSignature().length());
+    }
+}
@@ -0,0 +1,152 @@
+package com.polymarket.clob.websocket;
+
+import okio.ByteString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for FrameJournal, reading the segment files back directly
+ */
+public class FrameJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private static final class Record {
+        final int connectionId;
+        final long receiveNanos;
+        final String payload;
+
+        Record(int connectionId, long receiveNanos, String payload) {
+            this.connectionId = connectionId;
+            this.receiveNanos = receiveNanos;
+            this.payload = payload;
+        }
+    }
+
+    private List<Record> readAll() throws IOException {
+        List<Record> records = new ArrayList<>();
+        for (Path segment : FrameJournal.segments(directory, "frames")) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+            assertEquals(FrameJournal.MAGIC, buffer.getInt(0));
+            int position = FrameJournal.SEGMENT_HEADER_BYTES;
+            while (position + 4 <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(position + FrameJournal.RECORD_HEADER_BYTES, payload);
+                records.add(new Record(buffer.getInt(position + 4), buffer.getLong(position + 8),
+                        new String(payload, StandardCharsets.UTF_8)));
+                position += (FrameJournal.RECORD_HEADER_BYTES + length + 7) & ~7;
+            }
+        }
+        return records;
+    }
+
+    private FrameJournal journal(long segmentSize) throws IOException {
+        return new FrameJournal(JournalOptions.builder()
+                .directory(directory)
+                .segmentSize(segmentSize)
+                .bufferSize(1024)
+                .build());
+    }
+
+    @Test
+    void testFramesRecordedFromClients() throws IOException {
+        FrameJournal journal = journal(1 << 20);
+        journal.start();
+        WebSocketClobClient first = new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, "wss://test", List.of("a1"), null);
+        WebSocketClobClient second = new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, "wss://test", List.of("a2"), null);
+        first.setJournal(journal);
+        second.setJournal(journal);
+
+        long before = System.currentTimeMillis();
+        first.onMessage(null, "{\"event_type\":\"book\",\"asset_id\":\"a1\"}");
+        first.onMessage(null, "PONG");
+        second.onMessage(null, ByteString.encodeUtf8("{\"event_type\":\"trade\",\"id\":\"t1\"}"));
+        first.onMessage(null, "{\"note\":\"é€😀\"}");
+        journal.close();
+
+        List<Record> records = readAll();
+        assertEquals(3, records.size());
+        assertEquals(3, journal.getFramesWritten());
+        assertEquals(0, journal.getFramesDropped());
+
+        Record book = records.stream().filter(r -> r.payload.contains("book")).findFirst().orElseThrow();
+        assertEquals(first.getJournalConnectionId(), book.connectionId);
+        assertTrue(book.receiveNanos / 1_000_000 >= before - 1);
+
+        Record trade = records.stream().filter(r -> r.payload.contains("trade")).findFirst().orElseThrow();
+        assertEquals(second.getJournalConnectionId(), trade.connectionId);
+        assertNotEquals(first.getJournalConnectionId(), second.getJournalConnectionId());
+
+        assertTrue(records.stream().anyMatch(r -> r.payload.equals("{\"note\":\"é€😀\"}")));
+    }
+
+    @Test
+    void testSegmentsRollOver() throws IOException {
+        FrameJournal journal = journal(4096);
+        WebSocketClobClient client = new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, "wss://test", List.of("a1"), null);
+        client.setJournal(journal);
+        List<String> frames = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String frame = "{\"event_type\":\"last_trade_price\",\"asset_id\":\"a1\",\"price\":\"0." + i + "\"}";
+            frames.add(frame);
+            client.onMessage(null, frame);
+        }
+        // too large for a segment
+        client.onMessage(null, "{\"x\":\"" + "a".repeat(4096) + "\"}");
+        journal.start();
+        journal.close();
+
+        List<Path> segments = FrameJournal.segments(directory, "frames");
+        assertTrue(segments.size() > 1);
+        for (Path segment : segments) {
+            assertEquals(4096, Files.size(segment));
+        }
+        List<String> payloads = new ArrayList<>();
+        readAll().forEach(record -> payloads.add(record.payload));
+        assertEquals(frames, payloads);
+        assertEquals(1, journal.getFramesDropped());
+
+        // a new journal starts after the existing segments
+        FrameJournal next = journal(4096);
+        next.close();
+        assertEquals(segments.size() + 1, FrameJournal.segments(directory, "frames").size());
+        assertEquals(frames, readAll().stream().map(r -> r.payload).collect(java.util.stream.Collectors.toList()));
+    }
+
+    @Test
+    void testTornRecordIsIgnored() throws IOException {
+        FrameJournal journal = journal(4096);
+        WebSocketClobClient client = new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, "wss://test", List.of("a1"), null);
+        client.setJournal(journal);
+        client.onMessage(null, "{\"a\":1}");
+        journal.start();
+        journal.close();
+
+        // a record whose length was never published, as left by a crash mid-write
+        Path segment = journal.getCurrentSegment();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        int next = FrameJournal.SEGMENT_HEADER_BYTES + 16 + 8;
+        buffer.putInt(next + 4, 7);
+        buffer.put(next + FrameJournal.RECORD_HEADER_BYTES, "{\"b\":2}".getBytes(StandardCharsets.UTF_8));
+        Files.write(segment, buffer.array());
+
+        List<Record> records = readAll();
+        assertEquals(1, records.size());
+        assertEquals("{\"a\":1}", records.get(0).payload);
+    }
+}
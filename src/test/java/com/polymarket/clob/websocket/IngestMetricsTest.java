@@ -0,0 +1,118 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.OrderEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ingest instrumentation of WebSocketClobClient
+ */
+public class IngestMetricsTest {
+
+    private WebSocketClobClient client;
+    private IngestMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        client = new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, "wss://test", List.of("a1"), null);
+        metrics = new IngestMetrics(2, TimeUnit.MILLISECONDS);
+        client.setIngestMetrics(metrics);
+    }
+
+    private static String book(long timestamp) {
+        return "{\"event_type\":\"book\",\"asset_id\":\"a1\",\"market\":\"m1\",\"bids\":[],\"asks\":[],"
+                + "\"timestamp\":\"" + timestamp + "\",\"hash\":\"h\"}";
+    }
+
+    @Test
+    void testEventsTimedPerType() {
+        client.registerListener(new TypedWebSocketListener() {
+        });
+        long now = System.currentTimeMillis();
+        client.onMessage(null, "[" + book(now - 50) + "," + book(now - 50) + "]");
+        client.onMessage(null, "{\"event_type\":\"order\",\"id\":\"o1\",\"timestamp\":\"" + (now / 1000 - 2) + "\"}");
+
+        IngestStats stats = metrics.snapshot();
+        EventTypeStats books = stats.getEventTypes().get(EventType.BOOK);
+        assertEquals(2, books.getEvents());
+        assertEquals(2, books.getDecode().getCount());
+        assertEquals(2, books.getDispatch().getCount());
+        assertEquals(2, books.getLag().getCount());
+        assertTrue(books.getLag().getMin() >= TimeUnit.MILLISECONDS.toNanos(48));
+        assertTrue(books.getEventsPerSecond() > 0);
+
+        // order timestamps are in seconds
+        EventTypeStats orders = stats.getEventTypes().get(EventType.ORDER);
+        assertEquals(1, orders.getEvents());
+        assertTrue(orders.getLag().getMin() >= TimeUnit.SECONDS.toNanos(1));
+        assertTrue(orders.getLag().getMax() < TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(0, stats.getEventTypes().get(EventType.TRADE).getEvents());
+        assertTrue(stats.getSlowListeners().isEmpty());
+
+        // rates cover the interval since the previous snapshot
+        assertEquals(0, metrics.snapshot().getEventsPerSecond());
+    }
+
+    @Test
+    void testEventsWithoutTimestampHaveNoLag() {
+        client.onMessage(null, "{\"event_type\":\"trade\",\"id\":\"t1\",\"price\":\"0.57\"}");
+        client.onMessage(null, "{\"event_type\":\"trade\",\"id\":\"t2\",\"timestamp\":\"\"}");
+
+        EventTypeStats trades = metrics.snapshot().getEventTypes().get(EventType.TRADE);
+        assertEquals(2, trades.getEvents());
+        assertEquals(0, trades.getLag().getCount());
+    }
+
+    @Test
+    void testSlowListenersDetected() {
+        TypedWebSocketListener slow = new TypedWebSocketListener() {
+            @Override
+            public void onBook(BookEvent event) {
+                sleep(5);
+            }
+        };
+        TypedWebSocketListener fast = new TypedWebSocketListener() {
+            @Override
+            public void onOrder(OrderEvent event) {
+            }
+        };
+        client.registerListener(slow);
+        client.registerListener(fast);
+        client.registerListener((WebSocketListener) (eventType, message) -> sleep(5));
+
+        long now = System.currentTimeMillis();
+        client.onMessage(null, book(now));
+        client.onMessage(null, book(now));
+
+        List<SlowListenerStats> slowListeners = metrics.snapshot().getSlowListeners();
+        assertEquals(2, slowListeners.size());
+        for (SlowListenerStats stats : slowListeners) {
+            assertEquals(2, stats.getSlowCalls());
+            assertEquals(EventType.BOOK, stats.getLastEventType());
+            assertTrue(stats.getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(5));
+            assertFalse(stats.getListener().startsWith(WebSocketListenerAdapter.class.getName()));
+        }
+    }
+
+    @Test
+    void testRecordingStops() {
+        client.setIngestMetrics(null);
+        client.onMessage(null, book(System.currentTimeMillis()));
+        assertEquals(0, metrics.snapshot().getEventTypes().get(EventType.BOOK).getEvents());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
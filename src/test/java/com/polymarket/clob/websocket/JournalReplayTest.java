@@ -0,0 +1,259 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.PriceChangeEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for JournalReader and JournalReplay, recording through a client and replaying into another
+ */
+public class JournalReplayTest {
+
+    @TempDir
+    Path directory;
+
+    private static String trade(String assetId, int i) {
+        return "{\"event_type\":\"last_trade_price\",\"asset_id\":\"" + assetId + "\",\"market\":\"m1\",\"price\":\"0." + i + "\"}";
+    }
+
+    private WebSocketClobClient client() {
+        return new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, "wss://test", List.of("a1", "a2"), null);
+    }
+
+    private FrameJournal journal(long segmentSize) throws IOException {
+        return new FrameJournal(JournalOptions.builder()
+                .directory(directory)
+                .segmentSize(segmentSize)
+                .bufferSize(1024)
+                .build());
+    }
+
+    private static final class Recorder implements TypedWebSocketListener {
+        final List<String> trades = new ArrayList<>();
+
+        @Override
+        public void onLastTradePrice(LastTradePriceEvent event) {
+            trades.add(event.getAssetId() + "@" + event.getPrice());
+        }
+    }
+
+    @Test
+    void testReaderReturnsFramesInOrder() throws IOException {
+        FrameJournal journal = journal(4096);
+        WebSocketClobClient source = client();
+        source.setJournal(journal);
+        List<String> frames = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            frames.add(trade("a1", i));
+            source.onMessage(null, trade("a1", i));
+        }
+        journal.start();
+        journal.close();
+
+        JournalReader reader = new JournalReader(directory);
+        assertTrue(reader.segments().size() > 1);
+        List<String> read = new ArrayList<>();
+        long count = reader.read((connectionId, receiveEpochNanos, buffer, offset, length) -> {
+            assertEquals(source.getJournalConnectionId(), connectionId);
+            read.add(new String(buffer, offset, length, StandardCharsets.UTF_8));
+            return read.size() < 60;
+        });
+        assertEquals(60, count);
+        assertEquals(frames.subList(0, 60), read);
+    }
+
+    @Test
+    void testReplayDrivesListeners() throws IOException {
+        FrameJournal journal = journal(1 << 20);
+        WebSocketClobClient source = client();
+        source.setJournal(journal);
+        for (int i = 0; i < 10; i++) {
+            source.onMessage(null, trade(i % 2 == 0 ? "a1" : "a2", i));
+        }
+        source.onMessage(null, "[" + trade("a1", 10) + "," + trade("a2", 11) + "]");
+        journal.start();
+        journal.close();
+
+        WebSocketClobClient target = client();
+        Recorder typed = new Recorder();
+        List<String> raw = new ArrayList<>();
+        target.registerListener(typed);
+        target.registerListener((WebSocketListener) (eventType, message) -> raw.add(eventType));
+
+        ReplayStats stats = new JournalReplay(ReplayOptions.builder().directory(directory).build()).replay(target);
+        assertEquals(11, stats.getFramesRead());
+        assertEquals(11, stats.getFramesReplayed());
+        assertTrue(stats.getBytesReplayed() > 0);
+        assertTrue(stats.getFramesPerSecond() > 0);
+        assertEquals(12, typed.trades.size());
+        assertEquals("a1@0.0", typed.trades.get(0));
+        assertEquals("a2@0.11", typed.trades.get(11));
+        assertEquals(12, raw.size());
+
+        // replayed frames are not journaled again
+        assertEquals(-1, target.getJournalConnectionId());
+    }
+
+    @Test
+    void testReplayFilters() throws IOException {
+        FrameJournal journal = journal(1 << 20);
+        WebSocketClobClient first = client();
+        WebSocketClobClient second = client();
+        first.setJournal(journal);
+        second.setJournal(journal);
+        for (int i = 0; i < 10; i++) {
+            first.onMessage(null, trade(i % 2 == 0 ? "a1" : "a2", i));
+        }
+        first.onMessage(null, "[" + trade("a1", 10) + "," + trade("a2", 11) + "]");
+        second.onMessage(null, trade("a1", 12));
+        journal.start();
+        journal.close();
+
+        // assets, splitting mixed frames
+        WebSocketClobClient target = client();
+        Recorder recorder = new Recorder();
+        target.registerListener(recorder);
+        new JournalReplay(ReplayOptions.builder().directory(directory).assetIds(List.of("a2")).build()).replay(target);
+        assertEquals(List.of("a2@0.1", "a2@0.3", "a2@0.5", "a2@0.7", "a2@0.9", "a2@0.11"), recorder.trades);
+
+        // connection
+        target = client();
+        recorder = new Recorder();
+        target.registerListener(recorder);
+        new JournalReplay(ReplayOptions.builder().directory(directory)
+                .connectionId(second.getJournalConnectionId()).build()).replay(target);
+        assertEquals(List.of("a1@0.12"), recorder.trades);
+
+        // time range
+        List<Long> stamps = new ArrayList<>();
+        new JournalReader(directory).read((connectionId, receiveEpochNanos, buffer, offset, length) -> stamps.add(receiveEpochNanos));
+        long last = TimeUnit.NANOSECONDS.toMillis(stamps.stream().mapToLong(Long::longValue).max().orElseThrow());
+        target = client();
+        recorder = new Recorder();
+        target.registerListener(recorder);
+        ReplayStats stats = new JournalReplay(ReplayOptions.builder().directory(directory)
+                .fromEpochMs(last + 1).build()).replay(target);
+        assertEquals(0, stats.getFramesReplayed());
+        assertTrue(recorder.trades.isEmpty());
+
+        stats = new JournalReplay(ReplayOptions.builder().directory(directory).toEpochMs(0).build()).replay(target);
+        assertEquals(0, stats.getFramesReplayed());
+        assertEquals(1, stats.getFramesRead());
+    }
+
+    private static String priceChange(String id, String... assetIds) {
+        StringBuilder entries = new StringBuilder();
+        for (String assetId : assetIds) {
+            if (entries.length() > 0) {
+                entries.append(", ");
+            }
+            entries.append("{\"asset_id\": \"").append(assetId).append("\", \"price\": \"0.5\", \"side\": \"BUY\"}");
+        }
+        return "{\"event_type\":\"price_change\",\"market\":\"" + id + "\",\"price_changes\": [" + entries + "]}";
+    }
+
+    @Test
+    void testAssetFilterCoversPriceChanges() throws IOException {
+        FrameJournal journal = journal(1 << 20);
+        WebSocketClobClient source = client();
+        source.setJournal(journal);
+        source.onMessage(null, priceChange("m1", "a1"));
+        source.onMessage(null, priceChange("m2", "a1", "a2"));
+        source.onMessage(null, "[" + priceChange("m3", "a1") + "," + trade("a2", 1) + "," + priceChange("m4", "a3", "a2") + "]");
+        source.onMessage(null, priceChange("m5"));
+        journal.start();
+        journal.close();
+
+        WebSocketClobClient target = client();
+        List<String> events = new ArrayList<>();
+        target.registerListener(new TypedWebSocketListener() {
+            @Override
+            public void onPriceChange(PriceChangeEvent event) {
+                events.add(event.getMarket() + ":" + event.getPriceChanges().size());
+            }
+
+            @Override
+            public void onLastTradePrice(LastTradePriceEvent event) {
+                events.add(event.getAssetId());
+            }
+        });
+        ReplayStats stats = new JournalReplay(ReplayOptions.builder().directory(directory).assetIds(List.of("a2")).build())
+                .replay(target);
+        // price changes are replayed whole when any entry matches, and the empty one has no asset ID
+        assertEquals(List.of("m2:2", "a2", "m4:2", "m5:0"), events);
+        assertEquals(4, stats.getFramesReplayed());
+    }
+
+    @Test
+    void testReplayWaitsForPipeline() throws IOException, InterruptedException {
+        FrameJournal journal = journal(1 << 20);
+        WebSocketClobClient source = client();
+        source.setJournal(journal);
+        for (int i = 0; i < 50; i++) {
+            source.onMessage(null, trade("a1", i));
+        }
+        journal.start();
+        journal.close();
+
+        WebSocketClobClient target = client();
+        List<String> trades = new CopyOnWriteArrayList<>();
+        target.registerListener(new TypedWebSocketListener() {
+            @Override
+            public void onLastTradePrice(LastTradePriceEvent event) {
+                trades.add(event.getPrice());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        });
+        WebSocketPipeline pipeline = target.enablePipeline(PipelineOptions.builder().workers(1).bufferSize(4).build());
+
+        ReplayStats stats = new JournalReplay(ReplayOptions.builder().directory(directory).build()).replay(target);
+        assertEquals(50, stats.getFramesReplayed());
+        assertEquals(0, stats.getEventsDropped());
+        assertEquals(0, pipeline.getEventsDropped());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (trades.size() < 50 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(50, trades.size());
+        assertEquals("0.49", trades.get(49));
+        pipeline.stop(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testReplayPacedAtRecordedSpeed() throws IOException, InterruptedException {
+        FrameJournal journal = journal(1 << 20);
+        WebSocketClobClient source = client();
+        source.setJournal(journal);
+        source.onMessage(null, trade("a1", 1));
+        Thread.sleep(100);
+        source.onMessage(null, trade("a1", 2));
+        journal.start();
+        journal.close();
+
+        WebSocketClobClient target = client();
+        Recorder recorder = new Recorder();
+        target.registerListener(recorder);
+
+        ReplayStats realTime = new JournalReplay(ReplayOptions.builder().directory(directory).speed(1).build()).replay(target);
+        assertTrue(realTime.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(95));
+        assertEquals(2, recorder.trades.size());
+
+        ReplayStats fast = new JournalReplay(ReplayOptions.builder().directory(directory).speed(10).build()).replay(target);
+        assertTrue(fast.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(9));
+        assertTrue(fast.getElapsedNanos() < realTime.getElapsedNanos());
+        assertTrue(fast.getSpeedup() > 1);
+    }
+}
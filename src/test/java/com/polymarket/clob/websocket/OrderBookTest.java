@@ -0,0 +1,268 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.OrderBookEntry;
+import com.polymarket.clob.model.PriceChangeEntry;
+import com.polymarket.clob.model.PriceChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OrderBook and OrderBookManager
+ */
+public class OrderBookTest {
+
+    private static final String ASSET = "65818619657568813474341868652308942079804919287380422192892211131408793125422";
+
+    private static BookEvent snapshot(String hash) {
+        return BookEvent.builder()
+                .eventType("book")
+                .assetId(ASSET)
+                .market("0xbd31")
+                .bids(Arrays.asList(
+                        new OrderBookEntry(".48", "30"),
+                        new OrderBookEntry(".49", "20"),
+                        new OrderBookEntry(".50", "15")))
+                .asks(Arrays.asList(
+                        new OrderBookEntry(".52", "25"),
+                        new OrderBookEntry(".53", "60"),
+                        new OrderBookEntry(".54", "10")))
+                .timestamp("123456789000")
+                .hash(hash)
+                .build();
+    }
+
+    private static PriceChangeEvent priceChange(PriceChangeEntry... entries) {
+        return priceChangeAt("123456789500", entries);
+    }
+
+    private static PriceChangeEvent priceChangeAt(String timestamp, PriceChangeEntry... entries) {
+        return PriceChangeEvent.builder()
+                .eventType("price_change")
+                .market("0xbd31")
+                .priceChanges(Arrays.asList(entries))
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static PriceChangeEntry change(String price, String size, String side, String bestBid, String bestAsk) {
+        return new PriceChangeEntry(ASSET, price, size, side, "0xabc", bestBid, bestAsk);
+    }
+
+    @Test
+    void testSnapshot() {
+        OrderBook book = new OrderBook(ASSET);
+        assertFalse(book.isConsistent());
+        assertTrue(book.applySnapshot(snapshot("h1")));
+
+        assertTrue(book.isConsistent());
+        assertEquals(5000, book.getBestBidTick());
+        assertEquals(5200, book.getBestAskTick());
+        assertEquals(0.50, book.getBestBid(), 1e-9);
+        assertEquals(0.52, book.getBestAsk(), 1e-9);
+        assertEquals(15 * OrderBook.SIZE_UNITS_PER_SHARE, book.getBestBidSize());
+        assertEquals(200, book.getSpreadTicks());
+        assertEquals(0.51, book.getMidpoint(), 1e-9);
+        assertEquals(3, book.getLevelCount(OrderBook.Side.BID));
+        assertEquals(123456789000L, book.getTimestamp());
+    }
+
+    @Test
+    void testSameHashSnapshotSkipped() {
+        OrderBook book = new OrderBook(ASSET);
+        assertTrue(book.applySnapshot(snapshot("h1")));
+        assertFalse(book.applySnapshot(snapshot("h1")));
+        assertTrue(book.applySnapshot(snapshot("h2")));
+        assertEquals(2, book.getUpdateCount());
+    }
+
+    @Test
+    void testDepthQueries() {
+        OrderBook book = new OrderBook(ASSET);
+        book.applySnapshot(snapshot("h1"));
+
+        assertEquals(35 * OrderBook.SIZE_UNITS_PER_SHARE, book.getDepth(OrderBook.Side.BID, 2));
+        assertEquals(95 * OrderBook.SIZE_UNITS_PER_SHARE, book.getDepth(OrderBook.Side.ASK, 10));
+        assertEquals(85 * OrderBook.SIZE_UNITS_PER_SHARE, book.getDepthToPrice(OrderBook.Side.ASK, 5300));
+        assertEquals(15 * OrderBook.SIZE_UNITS_PER_SHARE, book.getDepthToPrice(OrderBook.Side.BID, 4950));
+        assertEquals(20 * OrderBook.SIZE_UNITS_PER_SHARE, book.getSizeAt(OrderBook.Side.BID, 4900));
+        assertEquals(0, book.getSizeAt(OrderBook.Side.BID, 5100));
+    }
+
+    @Test
+    void testLevelIteratorOrder() {
+        OrderBook book = new OrderBook(ASSET);
+        book.applySnapshot(snapshot("h1"));
+        OrderBook.LevelIterator it = book.newLevelIterator();
+
+        List<Integer> bids = new ArrayList<>();
+        it.reset(OrderBook.Side.BID);
+        while (it.next()) {
+            bids.add(it.tick());
+        }
+        assertEquals(Arrays.asList(5000, 4900, 4800), bids);
+
+        List<Integer> asks = new ArrayList<>();
+        assertSame(it, it.reset(OrderBook.Side.ASK));
+        while (it.next()) {
+            asks.add(it.tick());
+        }
+        assertEquals(Arrays.asList(5200, 5300, 5400), asks);
+    }
+
+    @Test
+    void testBestRecomputedAcrossWords() {
+        OrderBook book = new OrderBook(ASSET);
+        book.setLevel(OrderBook.Side.BID, 10, 1);
+        book.setLevel(OrderBook.Side.BID, 9000, 1);
+        book.setLevel(OrderBook.Side.ASK, 9999, 1);
+        book.setLevel(OrderBook.Side.ASK, 64, 1);
+
+        book.setLevel(OrderBook.Side.BID, 9000, 0);
+        book.setLevel(OrderBook.Side.ASK, 64, 0);
+        assertEquals(10, book.getBestBidTick());
+        assertEquals(9999, book.getBestAskTick());
+
+        book.setLevel(OrderBook.Side.BID, 10, 0);
+        assertEquals(OrderBook.NO_PRICE, book.getBestBidTick());
+        assertTrue(Double.isNaN(book.getMidpoint()));
+    }
+
+    @Test
+    void testParsing() {
+        assertEquals(5500, OrderBook.toTicks("0.55"));
+        assertEquals(5500, OrderBook.toTicks(".55"));
+        assertEquals(10000, OrderBook.toTicks("1"));
+        assertEquals(1, OrderBook.toTicks("0.00010"));
+        assertEquals(1_500_000L, OrderBook.toSizeUnits("1.5"));
+        assertEquals(123_456_789L, OrderBook.toSizeUnits("123.4567891"));
+        assertThrows(IllegalArgumentException.class, () -> OrderBook.toTicks("0.00001"));
+        assertThrows(IllegalArgumentException.class, () -> OrderBook.toTicks("1.5"));
+        assertThrows(IllegalArgumentException.class, () -> OrderBook.toSizeUnits("1.2.3"));
+    }
+
+    @Test
+    void testManagerAppliesDeltasAndValidates() {
+        OrderBookManager manager = new OrderBookManager();
+        List<String> updates = new ArrayList<>();
+        List<String> desyncs = new ArrayList<>();
+        manager.addListener(new OrderBookListener() {
+            @Override
+            public void onUpdate(OrderBook book) {
+                updates.add(book.getAssetId());
+            }
+
+            @Override
+            public void onDesync(OrderBook book) {
+                desyncs.add(book.getAssetId());
+            }
+        });
+
+        // deltas before a snapshot are ignored
+        manager.apply(priceChange(change("0.51", "5", "BUY", "0.51", "0.52")));
+        assertNull(manager.getBook(ASSET));
+
+        manager.onBook(snapshot("h1"));
+
+        manager.apply(priceChange(
+                change("0.51", "5", "BUY", "0.51", "0.52"),
+                change("0.52", "0", "SELL", "0.51", "0.53")));
+        OrderBook book = manager.getBook(ASSET);
+        assertEquals(5100, book.getBestBidTick());
+        assertEquals(5300, book.getBestAskTick());
+        assertEquals("0xabc", book.getHash());
+        assertEquals(123456789500L, book.getTimestamp());
+        assertEquals(2, updates.size());
+        assertTrue(desyncs.isEmpty());
+
+        // server reports a best bid the local book does not have
+        manager.apply(priceChange(change("0.40", "1", "BUY", "0.55", "0.53")));
+        assertFalse(book.isConsistent());
+        assertEquals(1, desyncs.size());
+
+        manager.apply(snapshot("h2"));
+        assertTrue(book.isConsistent());
+        assertEquals(5000, book.getBestBidTick());
+    }
+
+    @Test
+    void testResyncSwapsSnapshotAndReplaysNewerDeltas() {
+        OrderBookManager manager = new OrderBookManager();
+        List<String> desyncs = new ArrayList<>();
+        manager.addListener(new OrderBookListener() {
+            @Override
+            public void onUpdate(OrderBook book) {
+            }
+
+            @Override
+            public void onDesync(OrderBook book) {
+                desyncs.add(book.getAssetId());
+            }
+        });
+        manager.onBook(snapshot("h1"));
+        OrderBook book = manager.getBook(ASSET);
+
+        List<CompletableFuture<Map<String, BookEvent>>> requests = new ArrayList<>();
+        BookResynchronizer resynchronizer = new BookResynchronizer(assetIds -> {
+            CompletableFuture<Map<String, BookEvent>> request = new CompletableFuture<>();
+            requests.add(request);
+            return request;
+        }, manager);
+
+        CompletableFuture<Void> done = resynchronizer.resync(List.of(ASSET));
+        assertTrue(manager.isResyncing(ASSET));
+
+        // buffered while the snapshot is in flight: one older and one newer than the snapshot
+        manager.apply(priceChangeAt("123456789100", change("0.49", "0", "BUY", "0.50", "0.52")));
+        manager.apply(priceChangeAt("123456789500", change("0.51", "5", "BUY", "0.51", "0.52")));
+        assertEquals(5000, book.getBestBidTick());
+
+        BookEvent fresh = snapshot("h2");
+        fresh.setTimestamp("123456789200");
+        requests.get(0).complete(Map.of(ASSET, fresh));
+        assertTrue(done.isDone());
+
+        assertFalse(manager.isResyncing(ASSET));
+        assertSame(book, manager.getBook(ASSET));
+        assertTrue(book.isConsistent());
+        assertEquals(5100, book.getBestBidTick());
+        assertEquals(20 * OrderBook.SIZE_UNITS_PER_SHARE, book.getSizeAt(OrderBook.Side.BID, 4900));
+        assertEquals(1, resynchronizer.getResyncCount());
+        assertEquals(0, resynchronizer.getResyncFailures());
+
+        // live deltas apply directly again
+        manager.apply(priceChange(change("0.51", "0", "BUY", "0.50", "0.52")));
+        assertEquals(5000, book.getBestBidTick());
+
+        // a failed fetch leaves the book cleared and reported
+        resynchronizer.resync(List.of(ASSET));
+        requests.get(1).completeExceptionally(new RuntimeException("unavailable"));
+        assertFalse(book.isConsistent());
+        assertEquals(List.of(ASSET), desyncs);
+        assertEquals(1, resynchronizer.getResyncFailures());
+        assertEquals(2, resynchronizer.getResyncCount());
+    }
+
+    @Test
+    void testSocketSnapshotCompletesResync() {
+        OrderBookManager manager = new OrderBookManager();
+        manager.beginResync(List.of(ASSET));
+        manager.apply(priceChangeAt("123456789500", change("0.51", "5", "BUY", "0.51", "0.52")));
+        assertNull(manager.getBook(ASSET));
+
+        manager.onBook(snapshot("h1"));
+        assertFalse(manager.isResyncing(ASSET));
+        assertEquals(5100, manager.getBook(ASSET).getBestBidTick());
+
+        // a late REST snapshot is ignored once the resync is complete
+        manager.completeResync(ASSET, null);
+        assertTrue(manager.getBook(ASSET).isConsistent());
+    }
+}
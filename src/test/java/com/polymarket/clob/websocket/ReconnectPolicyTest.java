@@ -0,0 +1,75 @@
+package com.polymarket.clob.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReconnectPolicy backoff and circuit breaker
+ */
+public class ReconnectPolicyTest {
+
+    @Test
+    void testExponentialBackoffCappedWithJitter() {
+        ReconnectOptions options = ReconnectOptions.builder()
+                .initialDelayMs(100).maxDelayMs(1000).multiplier(2).jitter(0.5).circuitBreakerThreshold(0).build();
+
+        ReconnectPolicy noJitter = new ReconnectPolicy(options, () -> 0.0);
+        assertEquals(100, noJitter.onFailure());
+        assertEquals(200, noJitter.onFailure());
+        assertEquals(400, noJitter.onFailure());
+        assertEquals(800, noJitter.onFailure());
+        assertEquals(1000, noJitter.onFailure());
+        assertEquals(1000, noJitter.onFailure());
+
+        ReconnectPolicy fullJitter = new ReconnectPolicy(options, () -> 1.0);
+        assertEquals(50, fullJitter.onFailure());
+        assertEquals(100, fullJitter.onFailure());
+
+        ReconnectPolicy random = new ReconnectPolicy(options);
+        for (int i = 0; i < 100; i++) {
+            long delay = random.onFailure();
+            assertTrue(delay >= 50 && delay <= 1000, String.valueOf(delay));
+        }
+        assertEquals(ReconnectPolicy.State.CLOSED, random.getState());
+    }
+
+    @Test
+    void testCircuitOpensAndHalfOpens() {
+        ReconnectPolicy policy = new ReconnectPolicy(ReconnectOptions.builder()
+                .initialDelayMs(100).jitter(0).circuitBreakerThreshold(3).circuitOpenMs(5000).build(), () -> 0.0);
+
+        assertEquals(100, policy.onFailure());
+        assertEquals(200, policy.onFailure());
+        assertEquals(5000, policy.onFailure());
+        assertEquals(ReconnectPolicy.State.OPEN, policy.getState());
+
+        policy.onAttempt();
+        assertEquals(ReconnectPolicy.State.HALF_OPEN, policy.getState());
+        assertEquals(5000, policy.onFailure());
+        assertEquals(ReconnectPolicy.State.OPEN, policy.getState());
+
+        policy.onAttempt();
+        policy.onConnected();
+        assertEquals(ReconnectPolicy.State.CLOSED, policy.getState());
+        assertEquals(0, policy.getConsecutiveFailures());
+        assertEquals(100, policy.onFailure());
+    }
+
+    @Test
+    void testMaxAttempts() {
+        ReconnectPolicy policy = new ReconnectPolicy(ReconnectOptions.builder()
+                .maxAttempts(2).circuitBreakerThreshold(0).build());
+        assertTrue(policy.onFailure() >= 0);
+        assertTrue(policy.onFailure() >= 0);
+        assertEquals(-1, policy.onFailure());
+    }
+
+    @Test
+    void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReconnectPolicy(ReconnectOptions.builder().jitter(1.5).build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReconnectPolicy(ReconnectOptions.builder().initialDelayMs(0).build()));
+    }
+}
@@ -0,0 +1,151 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.LastTradePriceEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ShardedWebSocketManager, with connections that never open a socket
+ */
+public class ShardedWebSocketManagerTest {
+
+    private final List<List<String>> created = new ArrayList<>();
+    private ShardedWebSocketManager manager;
+
+    private static String trade(String assetId) {
+        return "{\"event_type\":\"last_trade_price\",\"market\":\"m\",\"asset_id\":\"" + assetId
+                + "\",\"price\":\"0.5\",\"size\":\"1\",\"timestamp\":\"1\"}";
+    }
+
+    private ShardedWebSocketManager newManager(List<String> assetIds, ShardingOptions options) {
+        return new ShardedWebSocketManager("wss://test.polymarket.com", assetIds, options) {
+            @Override
+            protected WebSocketClobClient createClient(List<String> shardAssets) {
+                created.add(shardAssets);
+                return new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, "wss://test.polymarket.com",
+                        shardAssets, null) {
+                    @Override
+                    public void run() {
+                    }
+                };
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    @Test
+    void testHashAssignmentIsStable() {
+        List<String> assets = Arrays.asList("a1", "a2", "a3", "a4", "a5", "a6", "a7", "a8");
+        manager = newManager(assets, ShardingOptions.builder().shards(3).build());
+        ShardedWebSocketManager again = newManager(assets, ShardingOptions.builder().shards(3).build());
+
+        int total = 0;
+        for (int i = 0; i < 3; i++) {
+            total += manager.getAssets(i).size();
+        }
+        assertEquals(8, total);
+        for (String asset : assets) {
+            assertEquals((asset.hashCode() & Integer.MAX_VALUE) % 3, manager.getShard(asset));
+            assertEquals(manager.getShard(asset), again.getShard(asset));
+        }
+        assertEquals(-1, manager.getShard("other"));
+    }
+
+    @Test
+    void testLoadAssignmentAndSingleListenerSurface() {
+        manager = newManager(Arrays.asList("a1", "a2", "a3", "a4", "a5"), ShardingOptions.builder()
+                .shards(2).assignment(ShardingOptions.Assignment.LOAD).sampleIntervalMs(60_000).build());
+        assertEquals(Set.of("a1", "a3", "a5"), manager.getAssets(0));
+        assertEquals(Set.of("a2", "a4"), manager.getAssets(1));
+
+        List<String> received = new ArrayList<>();
+        manager.registerListener(new TypedWebSocketListener() {
+            @Override
+            public void onLastTradePrice(LastTradePriceEvent event) {
+                received.add(event.getAssetId());
+            }
+        });
+        manager.start();
+        assertEquals(2, created.size());
+
+        manager.getClient(0).onMessage(null, trade("a1"));
+        manager.getClient(1).onMessage(null, trade("a2"));
+        manager.getClient(1).onMessage(null, "[" + trade("a4") + "," + trade("a4") + "]");
+
+        assertEquals(Arrays.asList("a1", "a2", "a4", "a4"), received);
+        List<ShardStats> stats = manager.getShardStats();
+        assertEquals(1, stats.get(0).getTotalEvents());
+        assertEquals(3, stats.get(1).getTotalEvents());
+        assertEquals(3, stats.get(0).getAssetCount());
+    }
+
+    @Test
+    void testRestartAfterClose() {
+        manager = newManager(Arrays.asList("a1", "a2"), ShardingOptions.builder()
+                .shards(2).assignment(ShardingOptions.Assignment.LOAD).sampleIntervalMs(60_000).build());
+        manager.start();
+        manager.close();
+        assertNull(manager.getClient(0));
+
+        manager.start();
+        assertEquals(4, created.size());
+        assertNotNull(manager.getClient(0));
+        assertNotNull(manager.getClient(1));
+    }
+
+    @Test
+    void testRebalanceMovesBusiestAssetAndReconnects() {
+        manager = newManager(Arrays.asList("a1", "a2", "a3", "a4"), ShardingOptions.builder()
+                .shards(2).assignment(ShardingOptions.Assignment.LOAD)
+                .sampleIntervalMs(60_000).saturationEventsPerSecond(1).build());
+        List<String> received = new ArrayList<>();
+        manager.registerListener((WebSocketListener) (eventType, messageMap) -> received.add(eventType));
+        manager.start();
+
+        WebSocketClobClient hot = manager.getClient(0);
+        for (int i = 0; i < 1000; i++) {
+            hot.onMessage(null, trade("a1"));
+        }
+        for (int i = 0; i < 500; i++) {
+            hot.onMessage(null, trade("a3"));
+        }
+
+        assertEquals(1, manager.rebalance());
+        assertEquals(1, manager.getShard("a1"));
+        assertEquals(Set.of("a3"), manager.getAssets(0));
+        assertEquals(Set.of("a2", "a4", "a1"), manager.getAssets(1));
+        assertTrue(manager.getShardStats().get(0).getEventsPerSecond() > 0);
+        assertTrue(manager.getAssetRate("a1") > manager.getAssetRate("a3"));
+
+        // the asset moved on the live connections, without reconnecting
+        assertEquals(2, created.size());
+        assertSame(hot, manager.getClient(0));
+        assertEquals(List.of("a3"), hot.getSubscriptions());
+        assertEquals(Arrays.asList("a2", "a4", "a1"), manager.getClient(1).getSubscriptions());
+        received.clear();
+        manager.getClient(1).onMessage(null, trade("a1"));
+        assertEquals(List.of("last_trade_price"), received);
+
+        // nothing arrived since the last sample, so nothing is saturated
+        assertEquals(0, manager.rebalance());
+    }
+
+    @Test
+    void testInvalidShardCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> newManager(List.of("a1"), ShardingOptions.builder().shards(0).build()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.PriceChangeEvent;
+import com.polymarket.clob.model.TradeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for typed listener dispatch in WebSocketClobClient
+ */
+public class TypedWebSocketListenerTest {
+
+    private static final String BOOK_JSON = "{\"event_type\":\"book\",\"asset_id\":\"a1\",\"market\":\"m1\","
+            + "\"bids\":[{\"price\":\".48\",\"size\":\"30\"}],\"asks\":[],\"timestamp\":\"1\",\"hash\":\"h\"}";
+    private static final String PRICE_CHANGE_JSON = "{\"event_type\":\"price_change\",\"market\":\"m1\","
+            + "\"price_changes\":[{\"asset_id\":\"a1\",\"price\":\"0.5\",\"size\":\"10\",\"side\":\"BUY\"}],\"timestamp\":\"2\"}";
+    private static final String TRADE_JSON = "{\"event_type\":\"trade\",\"id\":\"t1\",\"price\":\"0.57\",\"side\":\"BUY\",\"size\":\"10\"}";
+
+    private WebSocketClobClient client;
+
+    private static class RecordingListener implements TypedWebSocketListener {
+        final List<Object> events = new ArrayList<>();
+        final List<String> unknownTypes = new ArrayList<>();
+
+        @Override
+        public void onBook(BookEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onPriceChange(PriceChangeEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onTrade(TradeEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onFill(Map<String, Object> message) {
+            events.add(message);
+        }
+
+        @Override
+        public void onUnknown(String eventType, Map<String, Object> message) {
+            unknownTypes.add(eventType);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        client = new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL, "wss://test.polymarket.com",
+                Arrays.asList("a1"), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void testTypedCallbacks() {
+        RecordingListener listener = new RecordingListener();
+        client.registerListener(listener);
+
+        client.onMessage(null, BOOK_JSON);
+        client.onMessage(null, "[" + PRICE_CHANGE_JSON + "," + TRADE_JSON + "]");
+        client.onMessage(null, "{\"event_type\":\"fill\",\"order_id\":\"o1\"}");
+        client.onMessage(null, "{\"event_type\":\"something_new\"}");
+        client.onMessage(null, "not json");
+
+        assertEquals(4, listener.events.size());
+        BookEvent book = (BookEvent) listener.events.get(0);
+        assertEquals("a1", book.getAssetId());
+        assertEquals(1, book.getBids().size());
+        assertEquals("0.5", ((PriceChangeEvent) listener.events.get(1)).getPriceChanges().get(0).getPrice());
+        assertEquals("t1", ((TradeEvent) listener.events.get(2)).getId());
+        assertEquals("o1", ((Map<?, ?>) listener.events.get(3)).get("order_id"));
+        assertEquals(Arrays.asList("something_new", "unknown"), listener.unknownTypes);
+    }
+
+    @Test
+    void testSubscriptionByEventType() {
+        RecordingListener bookOnly = new RecordingListener();
+        client.registerListener(bookOnly, EventType.BOOK);
+
+        client.onMessage(null, PRICE_CHANGE_JSON);
+        client.onMessage(null, BOOK_JSON);
+        client.onMessage(null, "{\"event_type\":\"something_new\"}");
+
+        assertEquals(1, bookOnly.events.size());
+        assertInstanceOf(BookEvent.class, bookOnly.events.get(0));
+        assertTrue(bookOnly.unknownTypes.isEmpty());
+
+        client.unregisterListener(bookOnly);
+        client.onMessage(null, BOOK_JSON);
+        assertEquals(1, bookOnly.events.size());
+    }
+
+    @Test
+    void testMapListenerAdapter() {
+        List<String> eventTypes = new ArrayList<>();
+        List<Map<String, Object>> messages = new ArrayList<>();
+        client.registerListener((WebSocketListener) (eventType, messageMap) -> {
+            eventTypes.add(eventType);
+            messages.add(messageMap);
+        });
+        RecordingListener typed = new RecordingListener();
+        client.registerListener(typed);
+
+        client.onMessage(null, BOOK_JSON);
+        client.onMessage(null, "{}");
+
+        assertEquals(Arrays.asList("book", null), eventTypes);
+        assertInstanceOf(BookEvent.class, messages.get(0).get(EventType.BOOK.name()));
+        assertEquals(1, typed.events.size());
+    }
+
+    @Test
+    void testListenerExceptionDoesNotBreakDispatch() {
+        client.registerListener(new TypedWebSocketListener() {
+            @Override
+            public void onBook(BookEvent event) {
+                throw new RuntimeException("Listener error");
+            }
+        });
+        RecordingListener listener = new RecordingListener();
+        client.registerListener(listener);
+
+        assertDoesNotThrow(() -> client.onMessage(null, BOOK_JSON));
+        assertEquals(1, listener.events.size());
+    }
+}
@@ -1,5 +1,7 @@
 package com.polymarket.clob.websocket;
 
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONObject;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import org.junit.jupiter.api.BeforeEach;
@@ -788,6 +790,68 @@ public class WebSocketClobClientTest {
         assertNotNull(userClient);
     }
 
+    /**
+     * Tests that IDs subscribed before connecting are sent with the initial subscription.
+     */
+    @Test
+    void testSubscribeBeforeOpen() {
+        assertEquals(1, marketClient.subscribe(Arrays.asList("asset3", "asset1")));
+        verify(mockWebSocket, never()).send(anyString());
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        marketClient.onOpen(mockWebSocket, mockResponse);
+        verify(mockWebSocket).send(messageCaptor.capture());
+
+        JSONObject sent = JSON.parseObject(messageCaptor.getValue());
+        assertEquals(Arrays.asList("asset1", "asset2", "asset3"), sent.getJSONArray("assets_ids"));
+    }
+
+    /**
+     * Tests that subscribe and unsubscribe send only the changed IDs on a live connection.
+     */
+    @Test
+    void testIncrementalSubscriptionFrames() {
+        when(mockWebSocket.send(anyString())).thenReturn(true);
+        marketClient.onOpen(mockWebSocket, mockResponse);
+
+        assertEquals(1, marketClient.subscribe(Arrays.asList("asset3", "asset2")));
+        assertEquals(1, marketClient.unsubscribe(Arrays.asList("asset1", "asset9")));
+        assertEquals(0, marketClient.unsubscribe(Collections.singletonList("asset9")));
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mockWebSocket, times(3)).send(messageCaptor.capture());
+        JSONObject subscribe = JSON.parseObject(messageCaptor.getAllValues().get(1));
+        assertEquals("subscribe", subscribe.getString("operation"));
+        assertEquals(Collections.singletonList("asset3"), subscribe.getJSONArray("assets_ids"));
+        JSONObject unsubscribe = JSON.parseObject(messageCaptor.getAllValues().get(2));
+        assertEquals("unsubscribe", unsubscribe.getString("operation"));
+        assertEquals(Collections.singletonList("asset1"), unsubscribe.getJSONArray("assets_ids"));
+
+        assertEquals(Arrays.asList("asset2", "asset3"), marketClient.getSubscriptions());
+    }
+
+    /**
+     * Tests that changes made while disconnected are replayed when the connection reopens.
+     */
+    @Test
+    void testSubscriptionsReplayedOnReconnect() {
+        when(mockWebSocket.send(anyString())).thenReturn(true);
+        userClient.onOpen(mockWebSocket, mockResponse);
+        userClient.onClosed(mockWebSocket, 1000, "Normal closure");
+
+        userClient.subscribe(Collections.singletonList("market3"));
+        userClient.unsubscribe(Collections.singletonList("market1"));
+        verify(mockWebSocket, times(1)).send(anyString());
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        userClient.onOpen(mockWebSocket, mockResponse);
+        verify(mockWebSocket, times(2)).send(messageCaptor.capture());
+
+        JSONObject replay = JSON.parseObject(messageCaptor.getValue());
+        assertEquals(Arrays.asList("market2", "market3"), replay.getJSONArray("markets"));
+        assertNotNull(replay.get("auth"));
+    }
+
     /**
      * Helper test listener class for testing purposes.
      */
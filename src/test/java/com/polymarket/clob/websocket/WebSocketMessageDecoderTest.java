@@ -0,0 +1,160 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.market.AssetIdTable;
+import com.polymarket.clob.model.BookEvent;
+import com.polymarket.clob.model.LastTradePriceEvent;
+import com.polymarket.clob.model.PriceChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WebSocketMessageDecoder
+ */
+public class WebSocketMessageDecoderTest {
+
+    private static final String BOOK_JSON = """
+            {
+              "event_type": "book",
+              "asset_id": "65818619657568813474341868652308942079804919287380422192892211131408793125422",
+              "market": "0xbd31dc8a20211944f6b70f31557f1001557b59905b7738480ca09bd4532f84af",
+              "bids": [ { "price": ".48", "size": "30" } ],
+              "asks": [ { "price": ".52", "size": "25" } ],
+              "timestamp": "123456789000",
+              "hash": "0x0"
+            }
+            """;
+
+    private static final String LAST_TRADE_JSON = "{\"asset_id\":\"1\",\"event_type\":\"last_trade_price\","
+            + "\"price\":\"0.456\",\"side\":\"BUY\",\"size\":\"219.217767\",\"timestamp\":\"1750428146322\"}";
+
+    private final List<EventType> types = new ArrayList<>();
+    private final List<String> rawTypes = new ArrayList<>();
+    private final List<Object> events = new ArrayList<>();
+    private final WebSocketMessageDecoder decoder = new WebSocketMessageDecoder((eventType, rawEventType, event) -> {
+        types.add(eventType);
+        rawTypes.add(rawEventType);
+        events.add(event);
+    });
+
+    @Test
+    void testSingleObject() {
+        decoder.decode(BOOK_JSON);
+
+        assertEquals(List.of(EventType.BOOK), types);
+        assertEquals("book", rawTypes.get(0));
+        BookEvent book = (BookEvent) events.get(0);
+        assertEquals("0x0", book.getHash());
+        assertEquals(".48", book.getBids().get(0).getPrice());
+    }
+
+    @Test
+    void testArrayOfObjects() {
+        decoder.decode(" [" + BOOK_JSON + " , " + LAST_TRADE_JSON + "] ");
+
+        assertEquals(List.of(EventType.BOOK, EventType.LAST_TRADE_PRICE), types);
+        assertEquals("0.456", ((LastTradePriceEvent) events.get(1)).getPrice());
+
+        decoder.decode("[]");
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    void testLargeArrayGrowsBounds() {
+        StringBuilder frame = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            if (i > 0) {
+                frame.append(',');
+            }
+            frame.append(LAST_TRADE_JSON);
+        }
+        decoder.decode(frame.append(']').toString());
+        assertEquals(50, events.size());
+    }
+
+    @Test
+    void testBinaryFrame() {
+        byte[] payload = ("xx" + LAST_TRADE_JSON + "yy").getBytes(StandardCharsets.UTF_8);
+        decoder.decode(payload, 2, payload.length - 4);
+
+        assertEquals(List.of(EventType.LAST_TRADE_PRICE), types);
+        assertEquals("219.217767", ((LastTradePriceEvent) events.get(0)).getSize());
+    }
+
+    @Test
+    void testAssetIdsCanonicalized() {
+        AssetIdTable assetIds = new AssetIdTable();
+        String asset = "65818619657568813474341868652308942079804919287380422192892211131408793125422";
+        assetIds.register(asset);
+        assetIds.register("1");
+        decoder.setAssetIds(assetIds);
+
+        decoder.decode(BOOK_JSON);
+        decoder.decode(LAST_TRADE_JSON.getBytes(StandardCharsets.UTF_8));
+        decoder.decode("{\"event_type\":\"price_change\",\"market\":\"m\",\"price_changes\":"
+                + "[{\"asset_id\":\"1\",\"price\":\"0.5\"},{\"asset_id\":\"2\",\"price\":\"0.5\"}]}");
+
+        assertSame(asset, ((BookEvent) events.get(0)).getAssetId());
+        assertSame(assetIds.assetId(1), ((LastTradePriceEvent) events.get(1)).getAssetId());
+        PriceChangeEvent priceChange = (PriceChangeEvent) events.get(2);
+        assertSame(assetIds.assetId(1), priceChange.getPriceChanges().get(0).getAssetId());
+        assertEquals("2", priceChange.getPriceChanges().get(1).getAssetId());
+    }
+
+    @Test
+    void testEventTypeOnlyReadAtTopLevel() {
+        String json = "{\"nested\":{\"event_type\":\"trade\"},\"note\":\"event_type\",\"event_type\":\"price_change\","
+                + "\"market\":\"m\\\"1\",\"price_changes\":[]}";
+        decoder.decode(json);
+        decoder.decode(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(List.of(EventType.PRICE_CHANGE, EventType.PRICE_CHANGE), types);
+        assertEquals("m\"1", ((PriceChangeEvent) events.get(0)).getMarket());
+        assertEquals("m\"1", ((PriceChangeEvent) events.get(1)).getMarket());
+    }
+
+    @Test
+    void testUnknownAndMissingEventType() {
+        decoder.decode("{\"event_type\":\"fill\",\"order_id\":\"o1\"}");
+        decoder.decode("{\"event_type\":\"something_new\",\"a\":1}");
+        decoder.decode("{}");
+        decoder.decode("{\"event_type\":null}");
+
+        assertEquals(List.of(EventType.FILL, EventType.UNKNOWN, EventType.UNKNOWN, EventType.UNKNOWN), types);
+        assertEquals("fill", rawTypes.get(0));
+        assertEquals("something_new", rawTypes.get(1));
+        assertNull(rawTypes.get(2));
+        assertNull(rawTypes.get(3));
+        assertEquals("o1", ((Map<?, ?>) events.get(0)).get("order_id"));
+    }
+
+    @Test
+    void testMalformedFramesDeliveredRaw() {
+        decoder.decode("plain text message");
+        decoder.decode("[{\"event_type\":\"book\"},");
+        decoder.decode("[1, 2]");
+        decoder.decode("{\"event_type\":\"book\"} trailing");
+
+        assertEquals(4, events.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(EventType.UNKNOWN, types.get(i));
+            assertEquals("unknown", rawTypes.get(i));
+            assertNotNull(((Map<?, ?>) events.get(i)).get("raw_message"));
+        }
+        assertEquals("plain text message", ((Map<?, ?>) events.get(0)).get("raw_message"));
+    }
+
+    @Test
+    void testUndecodableModelFallsBackToUnknown() {
+        decoder.decode("{\"event_type\":\"book\",\"bids\":\"not a list\"}");
+
+        assertEquals(List.of(EventType.UNKNOWN), types);
+        assertEquals("book", rawTypes.get(0));
+        assertEquals("not a list", ((Map<?, ?>) events.get(0)).get("bids"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.polymarket.clob.websocket;
+
+import com.polymarket.clob.model.LastTradePriceEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the off-callback WebSocket processing pipeline
+ */
+public class WebSocketPipelineTest {
+
+    private static String trade(String market, int seq) {
+        return "{\"event_type\":\"last_trade_price\",\"market\":\"" + market + "\",\"asset_id\":\"" + market
+                + "-yes\",\"price\":\"0.5\",\"size\":\"" + seq + "\",\"timestamp\":\"1\"}";
+    }
+
+    private static void awaitProcessed(WebSocketPipeline pipeline, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pipeline.getEventsProcessed() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, pipeline.getEventsProcessed());
+    }
+
+    @Test
+    void testPerMarketOrderingAcrossWorkers() throws Exception {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+            Map<String, String> threads = new ConcurrentHashMap<>();
+            WebSocketPipeline pipeline = new WebSocketPipeline(
+                    PipelineOptions.builder().workers(3).bufferSize(1024).waitStrategy(strategy).build(),
+                    (eventType, rawEventType, event) -> {
+                        LastTradePriceEvent trade = (LastTradePriceEvent) event;
+                        seen.computeIfAbsent(trade.getMarket(), k -> new CopyOnWriteArrayList<>())
+                                .add(Integer.parseInt(trade.getSize()));
+                        String previous = threads.putIfAbsent(trade.getMarket(), Thread.currentThread().getName());
+                        assertTrue(previous == null || previous.equals(Thread.currentThread().getName()));
+                    });
+            pipeline.start();
+
+            List<String> markets = Arrays.asList("m1", "m2", "m3", "m4", "m5", "m6");
+            for (int seq = 0; seq < 100; seq++) {
+                // alternate single-object frames, arrays and binary frames
+                String a = trade(markets.get(seq % 6), seq);
+                String b = trade(markets.get((seq + 1) % 6), seq);
+                if (seq % 3 == 0) {
+                    pipeline.publish("[" + a + "," + b + "]");
+                } else if (seq % 3 == 1) {
+                    pipeline.publish(a);
+                    pipeline.publish(b.getBytes(StandardCharsets.UTF_8));
+                } else {
+                    pipeline.publish(a);
+                    pipeline.publish(b);
+                }
+            }
+
+            awaitProcessed(pipeline, 200);
+            pipeline.stop(1, TimeUnit.SECONDS);
+
+            assertEquals(6, seen.size(), strategy.name());
+            for (List<Integer> sequence : seen.values()) {
+                List<Integer> sorted = new ArrayList<>(sequence);
+                sorted.sort(null);
+                assertEquals(sorted, sequence, strategy.name());
+            }
+            assertEquals(0, pipeline.getEventsDropped());
+            assertEquals(200, pipeline.getEventsPublished());
+            assertEquals(0, pipeline.getQueueDepth());
+        }
+    }
+
+    @Test
+    void testFullRingDropsAndCounts() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketPipeline pipeline = new WebSocketPipeline(
+                PipelineOptions.builder().workers(1).bufferSize(4).waitStrategy(WaitStrategy.PARK).build(),
+                (eventType, rawEventType, event) -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        pipeline.start();
+
+        pipeline.publish(trade("m1", 0));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pipeline.getQueueDepth() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        // the worker is blocked on the first event, so four more fill the ring
+        for (int seq = 1; seq <= 10; seq++) {
+            pipeline.publish(trade("m1", seq));
+        }
+        assertEquals(4, pipeline.getQueueDepth());
+        assertEquals(6, pipeline.getEventsDropped());
+        assertEquals(11, pipeline.getFramesReceived());
+
+        release.countDown();
+        awaitProcessed(pipeline, 5);
+        pipeline.stop(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testMalformedFrameDeliveredUnknown() throws Exception {
+        List<EventType> types = new CopyOnWriteArrayList<>();
+        WebSocketPipeline pipeline = new WebSocketPipeline(PipelineOptions.builder().workers(2).build(),
+                (eventType, rawEventType, event) -> types.add(eventType));
+        pipeline.start();
+
+        pipeline.publish("not json");
+        awaitProcessed(pipeline, 1);
+        pipeline.stop(1, TimeUnit.SECONDS);
+        assertEquals(List.of(EventType.UNKNOWN), types);
+    }
+
+    @Test
+    void testClientPipelineMode() throws Exception {
+        WebSocketClobClient client = new WebSocketClobClient(WebSocketClobClient.MARKET_CHANNEL,
+                "wss://test.polymarket.com", Arrays.asList("m1-yes"), null);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        client.registerListener(new TypedWebSocketListener() {
+            @Override
+            public void onLastTradePrice(LastTradePriceEvent event) {
+                threads.add(Thread.currentThread().getName());
+            }
+        });
+        WebSocketPipeline pipeline = client.enablePipeline(PipelineOptions.builder().workers(2).build());
+        assertSame(pipeline, client.getPipeline());
+        assertThrows(IllegalStateException.class, () -> client.enablePipeline(new PipelineOptions()));
+
+        client.onMessage(null, trade("m1", 1));
+        awaitProcessed(pipeline, 1);
+        client.close();
+
+        assertEquals(1, threads.size());
+        assertTrue(threads.get(0).startsWith("clob-ws-pipeline-"));
+    }
+}